@@ -190,7 +190,9 @@ public class PerpetratorController {
     }
     
     /**
-     * Check and auto-escalate perpetrators with ≥3 unique victims in 7 days
+     * Check and auto-escalate perpetrators with ≥3 unique victims in 7 days.
+     * Candidates come from one grouped query; all escalations and their log
+     * entries are written as two batches in one transaction on one connection.
      */
     public static void checkAndAutoEscalate() {
         try (Connection conn = DatabaseConnection.getConnection()) {
@@ -203,19 +205,55 @@ public class PerpetratorController {
                 HAVING VictimCount >= 3 AND p.ThreatLevel != 'Malicious'
                 """;
             
+            List<Integer> ids = new ArrayList<>();
+            List<String> oldLevels = new ArrayList<>();
             try (PreparedStatement stmt = conn.prepareStatement(sql);
                  ResultSet rs = stmt.executeQuery()) {
-                
                 while (rs.next()) {
-                    int perpetratorID = rs.getInt("PerpetratorID");
-                    String currentLevel = rs.getString("ThreatLevel");
-                    
-                    if (!"Malicious".equals(currentLevel)) {
-                        updateThreatLevel(perpetratorID, "Malicious", null); // Auto-escalate, no admin
-                        System.out.println("Auto-escalated PerpetratorID " + perpetratorID + 
-                            " to Malicious (≥3 victims in 7 days)");
+                    ids.add(rs.getInt("PerpetratorID"));
+                    oldLevels.add(rs.getString("ThreatLevel"));
+                }
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            
+            // Only rows still at the level read above are changed and logged
+            String updateSql = "UPDATE Perpetrators SET ThreatLevel = 'Malicious' WHERE PerpetratorID = ? AND ThreatLevel = ?";
+            String logSql = "INSERT INTO ThreatLevelLog (PerpetratorID, OldThreatLevel, NewThreatLevel, AdminID) VALUES (?, ?, 'Malicious', NULL)";
+            conn.setAutoCommit(false);
+            try (PreparedStatement update = conn.prepareStatement(updateSql);
+                 PreparedStatement log = conn.prepareStatement(logSql)) {
+                for (int i = 0; i < ids.size(); i++) {
+                    update.setInt(1, ids.get(i));
+                    update.setString(2, oldLevels.get(i));
+                    update.addBatch();
+                }
+                int[] counts = update.executeBatch();
+                
+                List<Integer> escalated = new ArrayList<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                        log.setInt(1, ids.get(i));
+                        log.setString(2, oldLevels.get(i));
+                        log.addBatch();
+                        escalated.add(ids.get(i));
                     }
                 }
+                if (!escalated.isEmpty()) {
+                    log.executeBatch();
+                }
+                conn.commit();
+                
+                for (int id : escalated) {
+                    System.out.println("Auto-escalated PerpetratorID " + id + 
+                        " to Malicious (≥3 victims in 7 days)");
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
             System.out.println("Error checking for auto-escalation: " + e.getMessage());
@@ -1,6 +1,7 @@
 package utils;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -40,5 +41,18 @@ public class DateUtils {
     public static LocalDateTime now() {
         return LocalDateTime.now();
     }
+    
+    /**
+     * Midnight on the first day of the month; lower bound (inclusive) of a month range
+     */
+    public static LocalDateTime monthStart(int year, int month) {
+        return YearMonth.of(year, month).atDay(1).atStartOfDay();
+    }
+    
+    /**
+     * Midnight on the first day of the following month; upper bound (exclusive) of a month range
+     */
+    public static LocalDateTime nextMonthStart(int year, int month) {
+        return monthStart(year, month).plusMonths(1);
+    }
 }
-
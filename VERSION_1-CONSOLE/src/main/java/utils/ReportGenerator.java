@@ -5,6 +5,10 @@ import model.DatabaseConnection;
 
 /**
  * Utility class for generating various reports
+ *
+ * Each report covers one month, filtered as the half-open range
+ * [first of the month, first of the next month) so MySQL can use an
+ * index on the date column instead of evaluating YEAR()/MONTH() per row.
  */
 public class ReportGenerator {
     
@@ -25,14 +29,14 @@ public class ReportGenerator {
                 FROM IncidentReports ir
                 JOIN AttackTypes at ON ir.AttackTypeID = at.AttackTypeID
                 LEFT JOIN EvidenceUpload e ON ir.IncidentID = e.IncidentID
-                WHERE YEAR(ir.DateReported) = ? AND MONTH(ir.DateReported) = ?
+                WHERE ir.DateReported >= ? AND ir.DateReported < ?
                 GROUP BY at.AttackTypeID, at.AttackName, at.SeverityLevel
                 ORDER BY IncidentCount DESC
                 """;
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
+                stmt.setString(1, DateUtils.toDatabaseFormat(DateUtils.monthStart(year, month)));
+                stmt.setString(2, DateUtils.toDatabaseFormat(DateUtils.nextMonthStart(year, month)));
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     report.append("ATTACK TYPE BREAKDOWN:\n");
@@ -55,14 +59,14 @@ public class ReportGenerator {
             sql = """
                 SELECT HOUR(DateReported) as Hour, COUNT(*) as Count
                 FROM IncidentReports
-                WHERE YEAR(DateReported) = ? AND MONTH(DateReported) = ?
+                WHERE DateReported >= ? AND DateReported < ?
                 GROUP BY HOUR(DateReported)
                 ORDER BY Hour
                 """;
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
+                stmt.setString(1, DateUtils.toDatabaseFormat(DateUtils.monthStart(year, month)));
+                stmt.setString(2, DateUtils.toDatabaseFormat(DateUtils.nextMonthStart(year, month)));
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     report.append("\nTIME OF DAY ANALYSIS:\n");
@@ -101,15 +105,15 @@ public class ReportGenerator {
                 FROM Perpetrators p
                 JOIN IncidentReports ir ON p.PerpetratorID = ir.PerpetratorID
                 JOIN AttackTypes at ON ir.AttackTypeID = at.AttackTypeID
-                WHERE YEAR(ir.DateReported) = ? AND MONTH(ir.DateReported) = ?
+                WHERE ir.DateReported >= ? AND ir.DateReported < ?
                 GROUP BY p.PerpetratorID, p.Identifier, p.IdentifierType, p.ThreatLevel
                 ORDER BY IncidentCount DESC
                 LIMIT 10
                 """;
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
+                stmt.setString(1, DateUtils.toDatabaseFormat(DateUtils.monthStart(year, month)));
+                stmt.setString(2, DateUtils.toDatabaseFormat(DateUtils.nextMonthStart(year, month)));
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     report.append(String.format("%-5s %-30s %-20s %-15s %-12s %-12s %-30s\n",
@@ -151,15 +155,15 @@ public class ReportGenerator {
                        COUNT(DISTINCT ir.PerpetratorID) as PerpetratorCount
                 FROM Victims v
                 LEFT JOIN IncidentReports ir ON v.VictimID = ir.VictimID
-                    AND YEAR(ir.DateReported) = ? AND MONTH(ir.DateReported) = ?
+                    AND ir.DateReported >= ? AND ir.DateReported < ?
                 GROUP BY v.VictimID, v.Name, v.AccountStatus
                 HAVING IncidentCount > 0
                 ORDER BY IncidentCount DESC
                 """;
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
+                stmt.setString(1, DateUtils.toDatabaseFormat(DateUtils.monthStart(year, month)));
+                stmt.setString(2, DateUtils.toDatabaseFormat(DateUtils.nextMonthStart(year, month)));
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     report.append(String.format("%-10s %-30s %-15s %-15s %-20s\n",
@@ -188,15 +192,15 @@ public class ReportGenerator {
                 SELECT v.VictimID, v.Name, COUNT(ir.IncidentID) as IncidentCount
                 FROM Victims v
                 JOIN IncidentReports ir ON v.VictimID = ir.VictimID
-                WHERE YEAR(ir.DateReported) = ? AND MONTH(ir.DateReported) = ?
+                WHERE ir.DateReported >= ? AND ir.DateReported < ?
                 GROUP BY v.VictimID, v.Name
                 HAVING IncidentCount > 5
                 ORDER BY IncidentCount DESC
                 """;
             
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
+                stmt.setString(1, DateUtils.toDatabaseFormat(DateUtils.monthStart(year, month)));
+                stmt.setString(2, DateUtils.toDatabaseFormat(DateUtils.nextMonthStart(year, month)));
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
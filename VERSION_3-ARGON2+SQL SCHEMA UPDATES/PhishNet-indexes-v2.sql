@@ -0,0 +1,34 @@
+USE CybersecurityDB;
+
+-- ==============================
+-- PhishNet Secondary Indexes, version 2
+-- ==============================
+-- Run once after PhishNet-indexes.sql (version 1), on new and existing
+-- databases. Version 1 already provides (VictimID, DateReported),
+-- (Status, DateReported), (VerifiedStatus, SubmissionDate) and
+-- RecycleBin*(ArchivedAt); this file adds the indexes behind the
+-- time-filtered report and escalation queries.
+-- MySQL has no CREATE INDEX IF NOT EXISTS: re-running this file reports
+-- "Duplicate key name" for indexes that already exist, which is harmless.
+-- ==============================
+
+-- ==============================
+-- Monthly admin reports (SqlCatalog REPORT_*, utils.ReportGenerator)
+-- Each report reads one month as DateReported >= ? AND DateReported < ?.
+-- With the date first, that range is one index seek instead of a full
+-- scan, and the trailing columns are the ones the reports join or group
+-- on, so the IncidentReports side is read from the index alone.
+-- ==============================
+CREATE INDEX idx_incident_date_attack ON IncidentReports (DateReported, AttackTypeID);
+CREATE INDEX idx_incident_date_perp_victim ON IncidentReports (DateReported, PerpetratorID, VictimID);
+CREATE INDEX idx_evidence_submission_date ON EvidenceUpload (SubmissionDate);
+
+-- ==============================
+-- Escalation (INCIDENT_COUNT_VICTIMS_LAST_7_DAYS, escalation rules)
+-- COUNT(DISTINCT VictimID) for one perpetrator over the last 7 days,
+-- answered from the index. It also serves the PerpetratorID foreign key,
+-- so MySQL drops the single-column index it created for that key.
+-- The escalation rule reload (INCIDENT_DAILY_COUNTS_SINCE) ranges over
+-- idx_incident_date_perp_victim.
+-- ==============================
+CREATE INDEX idx_incident_perp_date_victim ON IncidentReports (PerpetratorID, DateReported, VictimID);
@@ -0,0 +1,26 @@
+USE CybersecurityDB;
+
+-- ==============================
+-- PhishNet Secondary Indexes, version 1
+-- ==============================
+-- Run once after PhishNet-structure.sql, on new and existing databases.
+-- MySQL has no CREATE INDEX IF NOT EXISTS: re-running this file reports
+-- "Duplicate key name" for indexes that already exist, which is harmless.
+-- Later versions are in PhishNet-indexes-v2.sql and up; apply them in order.
+-- ==============================
+
+-- ==============================
+-- Keyset pagination (dao.Keyset)
+-- Each list is read as ORDER BY <date>, <id> and continued with
+-- WHERE (<date>, <id>) after the last row of the previous page. InnoDB
+-- appends the primary key to every secondary index, so (<filter>, <date>)
+-- serves both the seek and the ORDER BY without a filesort.
+-- ==============================
+CREATE INDEX idx_incident_status_date ON IncidentReports (Status, DateReported);
+CREATE INDEX idx_incident_victim_date ON IncidentReports (VictimID, DateReported);
+CREATE INDEX idx_evidence_status_date ON EvidenceUpload (VerifiedStatus, SubmissionDate);
+CREATE INDEX idx_perpetrator_last_incident ON Perpetrators (LastIncidentDate);
+CREATE INDEX idx_recycle_report_archived ON RecycleBinReports (ArchivedAt);
+CREATE INDEX idx_recycle_evidence_archived ON RecycleBinEvidence (ArchivedAt);
+CREATE INDEX idx_threat_log_date ON ThreatLevelLog (ChangeDate);
+CREATE INDEX idx_victim_status_log_date ON VictimStatusLog (ChangeDate);
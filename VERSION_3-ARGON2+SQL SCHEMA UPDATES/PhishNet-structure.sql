@@ -165,5 +165,6 @@ CREATE TABLE IF NOT EXISTS VictimStatusLog (
 -- Setup Instructions:
 -- 1. Run this file (PhishNet-structure.sql) first to create the database schema
 -- 2. Then run PhishNet-inserts.sql to populate initial data
+-- 3. Then run PhishNet-indexes.sql to create the secondary indexes
 -- ==============================
 
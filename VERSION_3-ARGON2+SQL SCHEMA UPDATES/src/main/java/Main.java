@@ -1,96 +1,258 @@
 // No package - default package
+import dao.CachedAttackTypeDAO;
+import service.EscalationRuleEngine;
+import service.EscalationScheduler;
 import util.DatabaseConnection;
+import util.SecurityUtils;
+import util.StartupTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.Image;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main JavaFX Application class
  * Entry point for the Cybersecurity Incident Reporting System
+ *
+ * Startup shows a placeholder window immediately, then warms the connection
+ * pool, loads LogIn.fxml, preloads the other screens and initializes Argon2
+ * in parallel. Phase timings are logged with a "Startup:" prefix.
  */
 public class Main extends Application {
 
     private static final String APP_ICON_PATH = "/SceneBuilder/assets/ccinfom phishnet logo no name.png";
+    private static final String LOGIN_FXML = "SceneBuilder/login uis/LogIn.fxml";
+    private static final int STARTUP_THREADS = 4;
+
+    // Screens reachable from the login window, warmed up in the background
+    private static final String[] PRELOAD_FXML = {
+            "SceneBuilder/login uis/AdminLogin.fxml",
+            "SceneBuilder/login uis/SignUp.fxml",
+            "SceneBuilder/login uis/dashboards/VictimDashboard.fxml",
+            "SceneBuilder/login uis/dashboards/AdminDashboard.fxml"
+    };
+    private static final String[] PRELOAD_CONTROLLERS = {
+            "controller.AdminLoginController",
+            "controller.SignUpController",
+            "controller.VictimDashboardController",
+            "controller.AdminDashboardController"
+    };
 
     @Override
     public void start(Stage primaryStage) {
+        StartupTimer timer = new StartupTimer();
+
+        // Ensure application exits when window is closed
+        Platform.setImplicitExit(true);
+
+        // When the user clicks the X button, close everything properly
+        primaryStage.setOnCloseRequest(e -> {
+            stop();
+            Platform.exit();
+            System.exit(0);
+        });
+
+        // Show a minimal window right away; the login screen replaces it when ready
+        primaryStage.setTitle("PhishNet - Cybersecurity Incident Reporting System");
+        setApplicationIcon(primaryStage);
+        primaryStage.setScene(new Scene(createSplash(), 600, 450));
+        primaryStage.setResizable(false);
+        primaryStage.setOnShown(e -> timer.mark("first frame"));
+        primaryStage.show();
+
+        // Pool warm-up, login FXML, dashboard preload and Argon2 run in parallel
+        ExecutorService startupPool = Executors.newFixedThreadPool(STARTUP_THREADS, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "startup-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        CompletableFuture<Boolean> database = supply(startupPool, () -> {
+            if (!timer.time("databaseWarmUp", DatabaseConnection::warmUp)) {
+                return false;
+            }
+            timer.time("referenceDataPreload", Main::preloadReferenceData);
+            return true;
+        });
+        CompletableFuture<Parent> login = supply(startupPool,
+                () -> timer.time("loginFxml", () -> new FXMLLoader(resolveFxml(LOGIN_FXML)).<Parent>load()));
+        CompletableFuture<Void> dashboards = supply(startupPool,
+                () -> timer.time("dashboardPreload", Main::preloadScreens));
+        CompletableFuture<Void> argon2 = supply(startupPool,
+                () -> timer.time("argon2Init", () -> {
+                    SecurityUtils.warmUp();
+                    return null;
+                }));
+
+        CompletableFuture.allOf(database, login, dashboards, argon2).whenComplete((ignored, failure) -> {
+            startupPool.shutdown();
+            Platform.runLater(() -> finishStartup(primaryStage, timer, database, login, failure));
+        });
+    }
+
+    /**
+     * Runs on the FX thread once every startup task has completed
+     */
+    private void finishStartup(Stage primaryStage, StartupTimer timer, CompletableFuture<Boolean> database,
+                               CompletableFuture<Parent> login, Throwable failure) {
+        // Checked in the same order as the old sequential startup
+        if (database.isCompletedExceptionally() || !database.join()) {
+            showErrorAndExit("Database Connection Failed",
+                    "Could not connect to the database.\n" +
+                            "Please ensure MySQL is running and the database is configured correctly.");
+            return;
+        }
+        System.out.println("Database connection successful!");
+        EscalationScheduler.start();
+
+        Parent root;
         try {
-            // Ensure application exits when window is closed
-            Platform.setImplicitExit(true);
-            
-            // When the user clicks the X button, close everything properly
-            primaryStage.setOnCloseRequest(e -> {
-                stop();
-                Platform.exit();
-                System.exit(0);
-            });
-            
-            // Test database connection
-            if (!DatabaseConnection.testConnection()) {
-                showErrorAndExit("Database Connection Failed",
-                        "Could not connect to the database.\n" +
-                                "Please ensure MySQL is running and the database is configured correctly.");
-                return;
+            root = login.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            cause.printStackTrace();
+            if (cause instanceof IOException) {
+                String errorMsg = "Failed to load LogIn.fxml.\n\n";
+                errorMsg += "Expected path: /SceneBuilder/login uis/LogIn.fxml\n";
+                errorMsg += "Check that:\n";
+                errorMsg += "1. File exists in src/resources/SceneBuilder/login uis/\n";
+                errorMsg += "2. Resources are copied to target/classes/\n";
+                errorMsg += "3. Run 'mvn clean compile' to rebuild\n\n";
+                errorMsg += "Error: " + cause.getMessage();
+                showErrorAndExit("Application Error", errorMsg);
+            } else {
+                showErrorAndExit("Unexpected Error",
+                        "An unexpected error occurred:\n" + cause.getMessage());
             }
+            return;
+        }
+        if (failure != null) {
+            // Preload or Argon2 warm-up failed; the screens still load on demand
+            System.err.println("Startup: Optional warm-up failed: " + unwrap(failure).getMessage());
+        }
 
-            System.out.println("Database connection successful!");
+        primaryStage.getScene().setRoot(root);
+        System.out.println("Victim login screen loaded successfully!");
+        timer.mark("login screen ready");
+        timer.logSummary();
+    }
 
-            // Load the Victim Login FXML (LogIn.fxml)
-            // Use ClassLoader to get resource (works better with default package)
-            // Note: No leading slash when using ClassLoader
-            java.net.URL fxmlUrl = Main.class.getClassLoader().getResource("SceneBuilder/login uis/LogIn.fxml");
-            if (fxmlUrl == null) {
-                // Try alternative path with leading slash
-                fxmlUrl = Main.class.getClassLoader().getResource("/SceneBuilder/login uis/LogIn.fxml");
+    /**
+     * Placeholder shown while the startup tasks run
+     */
+    private Parent createSplash() {
+        Label label = new Label("Starting PhishNet...");
+        label.setStyle("-fx-font-size: 16px; -fx-text-fill: white;");
+        VBox box = new VBox(16, new ProgressIndicator(), label);
+        box.setAlignment(Pos.CENTER);
+        box.setStyle("-fx-background-color: #2BC1CF;");
+        return new StackPane(box);
+    }
+
+    /**
+     * Resolve a screen's FXML on the classpath.
+     * Use ClassLoader to get resource (works better with default package).
+     */
+    private static URL resolveFxml(String path) throws IOException {
+        // Note: No leading slash when using ClassLoader
+        URL fxmlUrl = Main.class.getClassLoader().getResource(path);
+        if (fxmlUrl == null) {
+            // Try alternative path with leading slash
+            fxmlUrl = Main.class.getResource("/" + path);
+        }
+        if (fxmlUrl == null) {
+            throw new IOException("FXML file not found. Searched for:\n" +
+                    "- " + path + "\n" +
+                    "- /" + path + "\n" +
+                    "Make sure file exists in src/resources/ and run 'mvn clean compile'");
+        }
+        System.out.println("Loading FXML from: " + fxmlUrl);
+        return fxmlUrl;
+    }
+
+    /**
+     * Read the other screens' FXML and load their controller classes so the first
+     * navigation does not pay for class loading. The screens themselves are not
+     * built here because their initialize() methods query the database.
+     */
+    private static Void preloadScreens() throws IOException, ClassNotFoundException {
+        for (String path : PRELOAD_FXML) {
+            try (InputStream in = resolveFxml(path).openStream()) {
+                in.readAllBytes();
             }
-            if (fxmlUrl == null) {
-                throw new IOException("FXML file not found. Searched for:\n" +
-                        "- SceneBuilder/login uis/LogIn.fxml\n" +
-                        "- /SceneBuilder/login uis/LogIn.fxml\n" +
-                        "Make sure file exists in src/resources/ and run 'mvn clean compile'");
+        }
+        for (String controller : PRELOAD_CONTROLLERS) {
+            Class.forName(controller, true, Main.class.getClassLoader());
+        }
+        return null;
+    }
+
+    /**
+     * Fill the reference-data caches and the escalation rule counts; a failure only
+     * means they are loaded on first use instead
+     */
+    private static Void preloadReferenceData() {
+        try {
+            CachedAttackTypeDAO.preload();
+        } catch (SQLException e) {
+            System.err.println("Attack type preload failed: " + e.getMessage());
+        }
+        try {
+            EscalationRuleEngine.getInstance().reload();
+        } catch (SQLException e) {
+            System.err.println("Escalation rule load failed: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static <T> CompletableFuture<T> supply(ExecutorService executor, Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
             }
-            System.out.println("Loading FXML from: " + fxmlUrl);
-            FXMLLoader loader = new FXMLLoader(fxmlUrl);
-            Parent root = loader.load();
-
-            // Set up the stage
-            primaryStage.setTitle("PhishNet - Cybersecurity Incident Reporting System");
-            setApplicationIcon(primaryStage);
-            primaryStage.setScene(new Scene(root, 600, 450));
-            primaryStage.setResizable(false);
-            primaryStage.show();
-
-            System.out.println("Victim login screen loaded successfully!");
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            String errorMsg = "Failed to load LogIn.fxml.\n\n";
-            errorMsg += "Expected path: /SceneBuilder/login uis/LogIn.fxml\n";
-            errorMsg += "Check that:\n";
-            errorMsg += "1. File exists in src/resources/SceneBuilder/login uis/\n";
-            errorMsg += "2. Resources are copied to target/classes/\n";
-            errorMsg += "3. Run 'mvn clean compile' to rebuild\n\n";
-            errorMsg += "Error: " + e.getMessage();
-            showErrorAndExit("Application Error", errorMsg);
-        } catch (Exception e) {
-            e.printStackTrace();
-            showErrorAndExit("Unexpected Error",
-                    "An unexpected error occurred:\n" + e.getMessage());
+        }, executor);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
         }
+        return t;
     }
 
     /**
      * Load and assign the PhishNet logo as the application icon.
      */
     private void setApplicationIcon(Stage stage) {
-        java.net.URL iconUrl = Main.class.getResource(APP_ICON_PATH);
+        URL iconUrl = Main.class.getResource(APP_ICON_PATH);
         if (iconUrl == null) {
             System.err.println("Warning: Application icon not found at " + APP_ICON_PATH);
             return;
@@ -103,6 +265,7 @@ public class Main extends Application {
     @Override
     public void stop() {
         // Clean up database connection
+        EscalationScheduler.shutdown();
         DatabaseConnection.closeConnection();
         System.out.println("Application closed. Database connection terminated.");
     }
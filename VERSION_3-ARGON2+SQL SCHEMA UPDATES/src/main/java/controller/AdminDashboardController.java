@@ -1,5 +1,6 @@
 package controller;
 
+import controller.report.DiagnosticsController;
 import controller.report.PendingReportsReviewController;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -24,6 +25,7 @@ public class AdminDashboardController {
     @FXML private Label adminNameLabel; // Label to display the current admin's name
     @FXML private TabPane tabPane; // TabPane containing different report tabs
     @FXML private PendingReportsReviewController pendingReportsReviewController; // Nested controller for pending reports
+    @FXML private DiagnosticsController diagnosticsController; // Nested controller for query metrics
 
     private Administrator currentAdmin;
 
@@ -31,13 +33,16 @@ public class AdminDashboardController {
     private void initialize() {
         System.out.println("AdminDashboardController initialized");
 
-        // Add listener to refresh pending reports when "Pending Reports Review" tab is selected
+        // Add listener to refresh pending reports / diagnostics when their tab is selected
         if (tabPane != null) {
             tabPane.getSelectionModel().selectedItemProperty().addListener((obs, oldTab, newTab) -> {
                 if (newTab != null && "Pending Reports Review".equals(newTab.getText())) {
                     // Refresh data on JavaFX Application Thread
                     Platform.runLater(this::refreshPendingReviewData);
                 }
+                if (newTab != null && "Diagnostics".equals(newTab.getText()) && diagnosticsController != null) {
+                    diagnosticsController.refresh();
+                }
             });
         }
 
@@ -107,7 +107,7 @@ public class AdminLoginController {
                     "Cannot connect to database.\n\nError: " + e.getMessage() +
                             "\n\nPlease check:\n" +
                             "- MySQL server is running\n" +
-                            "- Database connection settings in DatabaseConnection.java");
+                            "- Database connection settings in application.properties");
         } catch (Exception e) {
             System.err.println("Unexpected error during login: " + e.getMessage());
             e.printStackTrace();
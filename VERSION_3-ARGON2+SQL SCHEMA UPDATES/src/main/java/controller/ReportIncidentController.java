@@ -6,8 +6,11 @@ import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
+import service.EscalationRuleEngine;
+import service.IncidentSubmissionService;
+import util.DbExecutor;
+import util.FxAsync;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -25,15 +28,11 @@ public class ReportIncidentController {
     @FXML private Label statusLabel;
 
     private Victim currentVictim;
-    private final PerpetratorDAO perpDAO = new PerpetratorDAOImpl();
-    private final AttackTypeDAO attackDAO = new AttackTypeDAOImpl();
-    private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
-    private final ThreatLevelLogDAO threatLogDAO = new ThreatLevelLogDAOImpl();
-    private final VictimDAO victimDAO = new VictimDAOImpl();
-    private final VictimStatusLogDAO victimStatusLogDAO = new VictimStatusLogDAOImpl();
+    private final AttackTypeDAO attackDAO = CachedAttackTypeDAO.getInstance();
+    private final IncidentSubmissionService submissionService = new IncidentSubmissionService();
+    private FxAsync.Scope async;
     private boolean initialized = false;
     private Consumer<IncidentReport> incidentCreatedCallback;
-    private static final int FLAG_THRESHOLD_MONTH = 5;
     private static final int MIN_DESCRIPTION_LENGTH = 10;
 
     @FXML
@@ -43,6 +42,7 @@ public class ReportIncidentController {
             return;
         }
         initialized = true;
+        async = FxAsync.bindTo(submitButton);
 
         // Load identifier types
         identifierTypeCombo.getItems().clear();
@@ -107,55 +107,34 @@ public class ReportIncidentController {
     private void handleSubmit() {
         if (!validateForm()) return;
 
-        try {
-            String identifier = identifierField.getText().trim();
-            String type = identifierTypeCombo.getValue();
-            // Map UI identifier type to database ENUM value
-            String dbIdentifierType = mapIdentifierTypeToDB(type);
-            String name = associatedNameField.getText().trim();
-            String attackName = attackTypeCombo.getValue();
-            String desc = descriptionArea.getText().trim();
-
-            // 1. Find or create perpetrator
-            Perpetrator perp = perpDAO.findByIdentifier(identifier);
-            if (perp == null) {
-                perp = new Perpetrator();
-                perp.setIdentifier(identifier);
-                perp.setIdentifierType(dbIdentifierType);
-                perp.setAssociatedName(name.isEmpty() ? null : name);
-                perp.setThreatLevel("UnderReview");
-                perp.setLastIncidentDate(LocalDateTime.now());
-                perpDAO.create(perp);
-            } else {
-                // Update last incident
-                perp.setLastIncidentDate(LocalDateTime.now());
-                perpDAO.update(perp);
-            }
-
-            // 2. Create incident
-            IncidentReport report = new IncidentReport();
-            report.setVictimID(currentVictim.getVictimID());
-            report.setPerpetratorID(perp.getPerpetratorID());
-            report.setAttackTypeID(attackDAO.findByName(attackName).getAttackTypeID());
-            report.setDateReported(LocalDateTime.now());
-            report.setDescription(desc);
-            report.setStatus("Pending");
-            incidentDAO.create(report);
-
-            // 3. Auto-escalate threat level
-            int victimCount = incidentDAO.countVictimsLast7Days(perp.getPerpetratorID());
-            if (victimCount >= 3 && !"Malicious".equals(perp.getThreatLevel())) {
-                String oldLevel = perp.getThreatLevel();
-                perp.setThreatLevel("Malicious");
-                perpDAO.update(perp);
-                threatLogDAO.logChange(perp.getPerpetratorID(), oldLevel, "Malicious", 1); // Admin 1
+        String identifier = identifierField.getText().trim();
+        String type = identifierTypeCombo.getValue();
+        // Map UI identifier type to database ENUM value
+        String dbIdentifierType = mapIdentifierTypeToDB(type);
+        String name = associatedNameField.getText().trim();
+        String attackName = attackTypeCombo.getValue();
+        String desc = descriptionArea.getText().trim();
+        Victim victim = currentVictim;
+
+        // Perpetrator, incident, escalation and flagging commit together or not at all
+        submitButton.setDisable(true);
+        async.run("submit", DbExecutor.supply(() -> submissionService.submit(victim, identifier, dbIdentifierType,
+                name.isEmpty() ? null : name, attackName, desc)), submission -> {
+            EscalationRuleEngine.Firing escalation = submission.getEscalation();
+            if (escalation != null) {
                 showAlert(Alert.AlertType.WARNING, "Perpetrator Escalated",
-                        "Identifier: " + identifier + "\nNow marked as MALICIOUS (" + victimCount + " victims in 7 days)");
+                        "Identifier: " + identifier + "\nNow marked as " + escalation.getTarget().toUpperCase()
+                                + " (" + escalation.describe() + ")");
+            }
+            EscalationRuleEngine.Firing flag = submission.getVictimFlag();
+            if (flag != null) {
+                victim.setAccountStatus(flag.getTarget());
+                showAlert(Alert.AlertType.WARNING, "Account " + flag.getTarget(),
+                        "Your account has been " + flag.getTarget().toLowerCase() + " for additional support.\n"
+                                + "Reason: " + flag.describe());
             }
 
-            // 4. Auto-flag victim if threshold exceeded
-            autoFlagVictimIfNeeded(report);
-
+            IncidentReport report = submission.getReport();
             if (incidentCreatedCallback != null) {
                 incidentCreatedCallback.accept(report);
             }
@@ -163,11 +142,11 @@ public class ReportIncidentController {
             showAlert(Alert.AlertType.INFORMATION, "Success",
                     "Incident reported successfully!\nID: " + report.getIncidentID());
             clearForm();
-
-        } catch (Exception e) {
+        }, e -> {
+            validateForm();
             showError("Submit failed: " + e.getMessage());
             e.printStackTrace();
-        }
+        });
     }
 
     private boolean validateForm() {
@@ -266,25 +245,6 @@ public class ReportIncidentController {
         this.incidentCreatedCallback = incidentCreatedCallback;
     }
 
-    private void autoFlagVictimIfNeeded(IncidentReport report) {
-        if (currentVictim == null) return;
-        try {
-            int incidentCountThisMonth = incidentDAO.countIncidentsLastMonth(currentVictim.getVictimID());
-            if (incidentCountThisMonth > FLAG_THRESHOLD_MONTH && !"Flagged".equals(currentVictim.getAccountStatus())) {
-                String oldStatus = currentVictim.getAccountStatus();
-                String newStatus = "Flagged";
-                victimDAO.updateAccountStatus(currentVictim.getVictimID(), newStatus);
-                victimStatusLogDAO.logChange(currentVictim.getVictimID(), oldStatus, newStatus, null);
-                currentVictim.setAccountStatus(newStatus);
-                showAlert(Alert.AlertType.WARNING, "Account Flagged",
-                        "Your account has been flagged for additional support.\n" +
-                                "Incidents reported this month: " + incidentCountThisMonth);
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to auto-flag victim: " + e.getMessage());
-        }
-    }
-
     private void showAlert(Alert.AlertType type, String title, String message) {
         Alert alert = new Alert(type);
         alert.setTitle(title);
@@ -8,8 +8,12 @@ import javafx.beans.property.SimpleStringProperty;
 import model.Administrator;
 import model.Perpetrator;
 import model.ThreatLevelLog;
+import service.EscalationRule;
+import service.EscalationRuleEngine;
+import util.DbExecutor;
+import util.FxAsync;
+import util.FxPager;
 
-import java.util.List;
 
 /**
  * Transaction 3: Perpetrator Threat Level Update (Admin)
@@ -43,8 +47,10 @@ public class ReviewThreatLevelController {
 
     private final PerpetratorDAO perpDAO = new PerpetratorDAOImpl();
     private final ThreatLevelLogDAO logDAO = new ThreatLevelLogDAOImpl();
-    private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
+    private final EscalationRuleEngine escalationRules = EscalationRuleEngine.getInstance();
     private Administrator currentAdmin;
+    private FxAsync.Scope async;
+    private FxPager<Perpetrator> pager;
 
     @FXML
     private void initialize() {
@@ -62,6 +68,7 @@ public class ReviewThreatLevelController {
             }
         });
 
+        setupTable();
         loadPerpetrators();
     }
 
@@ -73,31 +80,41 @@ public class ReviewThreatLevelController {
     }
 
     /**
-     * Load all perpetrators and bind table columns
+     * Bind table columns and load perpetrators page by page
      */
-    private void loadPerpetrators() {
-        try {
-            List<Perpetrator> list = perpDAO.findAll();
-            perpTable.setItems(FXCollections.observableArrayList(list));
+    private void setupTable() {
+        // Bind table columns to model properties
+        idCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getIdentifier()));
+        typeCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getIdentifierType()));
+        nameCol.setCellValueFactory(d -> new SimpleStringProperty(
+                d.getValue().getAssociatedName() != null ? d.getValue().getAssociatedName() : ""
+        ));
+        levelCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getThreatLevel()));
 
-            // Bind table columns to model properties
-            idCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getIdentifier()));
-            typeCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getIdentifierType()));
-            nameCol.setCellValueFactory(d -> new SimpleStringProperty(
-                    d.getValue().getAssociatedName() != null ? d.getValue().getAssociatedName() : ""
-            ));
-            levelCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getThreatLevel()));
+        // Optional: Auto-highlight perpetrators an escalation rule fires for
+        highlightHighRiskPerpetrators();
 
-            // Optional: Auto-highlight high-risk (≥3 victims in last 7 days)
-            highlightHighRiskPerpetrators();
+        async = FxAsync.bindTo(perpTable);
+        pager = FxPager.attach(perpTable, async, "perpetrators", perpDAO::findAllPageAsync)
+                .onError(e -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load perpetrators: " + e.getMessage()));
+    }
 
-        } catch (Exception e) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to load perpetrators: " + e.getMessage());
+    /**
+     * Load the first page of perpetrators; more are fetched as the table is scrolled.
+     * The highlight reads the escalation rule counts from memory, loading them first if needed.
+     */
+    private void loadPerpetrators() {
+        pager.reload();
+        if (!escalationRules.isLoaded()) {
+            async.run("escalationRules", DbExecutor.supply(() -> {
+                escalationRules.ensureLoaded();
+                return true;
+            }), loaded -> perpTable.refresh(), e -> System.err.println("Failed to load escalation rules: " + e.getMessage()));
         }
     }
 
     /**
-     * Auto-detect and highlight perpetrators with ≥3 unique victims in last 7 days
+     * Auto-detect and highlight perpetrators that an escalation rule fires for but are not yet at its level
      */
     private void highlightHighRiskPerpetrators() {
         perpTable.setRowFactory(tv -> new TableRow<Perpetrator>() {
@@ -106,24 +123,34 @@ public class ReviewThreatLevelController {
                 super.updateItem(item, empty);
                 if (item == null || empty) {
                     setStyle("");
+                    setTooltip(null);
                 } else {
-                    try {
-                        int victimCount = incidentDAO.countUniqueVictimsLast7Days(item.getPerpetratorID());
-                        if (victimCount >= 3 && !"Malicious".equals(item.getThreatLevel())) {
-                            setStyle("-fx-background-color: #ffcccc; -fx-font-weight: bold;");
-                            setTooltip(new Tooltip("HIGH RISK: " + victimCount + " victims in last 7 days"));
-                        } else {
-                            setStyle("");
-                            setTooltip(null);
-                        }
-                    } catch (Exception e) {
+                    EscalationRuleEngine.Firing risk = pendingEscalation(item);
+                    if (risk != null) {
+                        setStyle("-fx-background-color: #ffcccc; -fx-font-weight: bold;");
+                        setTooltip(new Tooltip("HIGH RISK: " + risk.describe()));
+                    } else {
                         setStyle("");
+                        setTooltip(null);
                     }
                 }
             }
         });
     }
 
+    /**
+     * First rule that fires for the perpetrator and would raise its level, or null
+     */
+    private EscalationRuleEngine.Firing pendingEscalation(Perpetrator perp) {
+        for (EscalationRuleEngine.Firing firing
+                : escalationRules.firingFor(EscalationRule.Subject.PERPETRATOR, perp.getPerpetratorID())) {
+            if (firing.getRule().raises(perp.getThreatLevel())) {
+                return firing;
+            }
+        }
+        return null;
+    }
+
     /**
      * Handle manual escalation
      */
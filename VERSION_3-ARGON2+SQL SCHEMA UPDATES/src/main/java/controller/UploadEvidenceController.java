@@ -152,7 +152,7 @@ public class UploadEvidenceController {
             return;
         }
         try {
-            List<IncidentReport> incidents = incidentDAO.findByVictimID(currentVictim.getVictimID());
+            List<IncidentReport> incidents = incidentDAO.findSummariesByVictimID(currentVictim.getVictimID());
             incidentCombo.setItems(FXCollections.observableArrayList(incidents));
             if (!incidents.isEmpty() && incidentCombo.getSelectionModel().isEmpty()) {
                 incidentCombo.getSelectionModel().selectFirst();
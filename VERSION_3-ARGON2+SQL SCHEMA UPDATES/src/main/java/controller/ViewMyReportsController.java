@@ -1,51 +1,52 @@
 package controller;
 
-import dao.AttackTypeDAO;
-import dao.AttackTypeDAOImpl;
 import dao.IncidentReportDAO;
 import dao.IncidentReportDAOImpl;
-import dao.PerpetratorDAO;
-import dao.PerpetratorDAOImpl;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
-import model.AttackType;
-import model.IncidentReport;
-import model.Perpetrator;
+import model.IncidentReportView;
 import model.Victim;
+import util.FxAsync;
+import util.FxPager;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * View My Reports Controller
  * Displays all incident reports for the current victim
+ * Rows come from one joined query (IncidentReportView), so cells never query the database
  */
 public class ViewMyReportsController {
 
-    @FXML private TableView<IncidentReport> reportsTable;
-    @FXML private TableColumn<IncidentReport, Integer> idCol;
-    @FXML private TableColumn<IncidentReport, String> dateCol;
-    @FXML private TableColumn<IncidentReport, String> attackTypeCol;
-    @FXML private TableColumn<IncidentReport, String> perpetratorCol;
-    @FXML private TableColumn<IncidentReport, String> statusCol;
-    @FXML private TableColumn<IncidentReport, String> evidenceStatusCol;
-    @FXML private TableColumn<IncidentReport, String> descriptionCol;
-    @FXML private TableColumn<IncidentReport, String> reviewedByCol;
+    @FXML private TableView<IncidentReportView> reportsTable;
+    @FXML private TableColumn<IncidentReportView, Integer> idCol;
+    @FXML private TableColumn<IncidentReportView, String> dateCol;
+    @FXML private TableColumn<IncidentReportView, String> attackTypeCol;
+    @FXML private TableColumn<IncidentReportView, String> perpetratorCol;
+    @FXML private TableColumn<IncidentReportView, String> statusCol;
+    @FXML private TableColumn<IncidentReportView, String> evidenceStatusCol;
+    @FXML private TableColumn<IncidentReportView, String> descriptionCol;
+    @FXML private TableColumn<IncidentReportView, String> reviewedByCol;
 
     private Victim currentVictim;
     private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
-    private final AttackTypeDAO attackDAO = new AttackTypeDAOImpl();
-    private final PerpetratorDAO perpDAO = new PerpetratorDAOImpl();
-    private final dao.AdministratorDAO adminDAO = new dao.AdministratorDAOImpl();
+    private FxAsync.Scope async;
+    private FxPager<IncidentReportView> pager;
 
     @FXML
     private void initialize() {
+        async = FxAsync.bindTo(reportsTable);
+        pager = FxPager.attach(reportsTable, async, "reports",
+                (cursor, limit) -> incidentDAO.findViewsByVictimIDPageAsync(currentVictim.getVictimID(), cursor, limit))
+                .onError(e -> {
+                    showError("Failed to load reports: " + e.getMessage());
+                    e.printStackTrace();
+                });
+
         // Configure table columns
         idCol.setCellValueFactory(new PropertyValueFactory<>("incidentID"));
         
@@ -56,25 +57,13 @@ public class ViewMyReportsController {
         });
         
         attackTypeCol.setCellValueFactory(cellData -> {
-            try {
-                int attackTypeID = cellData.getValue().getAttackTypeID();
-                AttackType type = attackDAO.findById(attackTypeID);
-                String name = type != null ? type.getAttackName() : "Unknown";
-                return new javafx.beans.property.SimpleStringProperty(name);
-            } catch (Exception e) {
-                return new javafx.beans.property.SimpleStringProperty("Error");
-            }
+            String name = cellData.getValue().getAttackName();
+            return new javafx.beans.property.SimpleStringProperty(name != null ? name : "Unknown");
         });
         
         perpetratorCol.setCellValueFactory(cellData -> {
-            try {
-                int perpID = cellData.getValue().getPerpetratorID();
-                Perpetrator perp = perpDAO.findById(perpID);
-                String identifier = perp != null ? perp.getIdentifier() : "Unknown";
-                return new javafx.beans.property.SimpleStringProperty(identifier);
-            } catch (Exception e) {
-                return new javafx.beans.property.SimpleStringProperty("Error");
-            }
+            String identifier = cellData.getValue().getPerpetratorIdentifier();
+            return new javafx.beans.property.SimpleStringProperty(identifier != null ? identifier : "Unknown");
         });
         
         statusCol.setCellValueFactory(cellData -> {
@@ -85,7 +74,7 @@ public class ViewMyReportsController {
         });
         
         // Custom cell factory for status to add colors
-        statusCol.setCellFactory(column -> new javafx.scene.control.TableCell<IncidentReport, String>() {
+        statusCol.setCellFactory(column -> new javafx.scene.control.TableCell<IncidentReportView, String>() {
             @Override
             protected void updateItem(String status, boolean empty) {
                 super.updateItem(status, empty);
@@ -109,18 +98,12 @@ public class ViewMyReportsController {
         
         // Show who reviewed the report
         reviewedByCol.setCellValueFactory(cellData -> {
-            IncidentReport report = cellData.getValue();
+            IncidentReportView report = cellData.getValue();
             Integer adminID = report.getAdminID();
             if (adminID != null && adminID > 0) {
-                try {
-                    model.Administrator admin = adminDAO.findById(adminID);
-                    if (admin != null) {
-                        return new javafx.beans.property.SimpleStringProperty(admin.getName());
-                    }
-                } catch (Exception e) {
-                    // If can't find admin, show ID
-                    return new javafx.beans.property.SimpleStringProperty("Admin #" + adminID);
-                }
+                // Admin row gone: show the ID
+                String name = report.getAdminName();
+                return new javafx.beans.property.SimpleStringProperty(name != null ? name : "Admin #" + adminID);
             }
             return new javafx.beans.property.SimpleStringProperty("Not reviewed");
         });
@@ -143,14 +126,7 @@ public class ViewMyReportsController {
     public void refreshReports() {
         if (currentVictim == null) return;
 
-        try {
-            List<IncidentReport> reports = incidentDAO.findByVictimID(currentVictim.getVictimID());
-            ObservableList<IncidentReport> observableReports = FXCollections.observableArrayList(reports);
-            reportsTable.setItems(observableReports);
-        } catch (Exception e) {
-            showError("Failed to load reports: " + e.getMessage());
-            e.printStackTrace();
-        }
+        pager.reload();
     }
 
     private void showError(String msg) {
@@ -0,0 +1,102 @@
+package controller.report;
+
+import dao.CachedAttackTypeDAO;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import service.EscalationRuleEngine;
+import service.EscalationScheduler;
+import util.DatabaseConnection;
+import util.QueryMetrics;
+
+/**
+ * Diagnostics tab: per-statement query metrics, batched operation
+ * throughput, connection pool state, reference-data cache hit rate and
+ * background escalation runs and rule counts.
+ * Numbers are only read when the tab is selected or Refresh is pressed,
+ * so the tab costs nothing while it is not being looked at.
+ */
+public class DiagnosticsController {
+
+    @FXML private TableView<QueryMetrics.QueryStats> table;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> sqlCol;
+    @FXML private TableColumn<QueryMetrics.QueryStats, Number> countCol;
+    @FXML private TableColumn<QueryMetrics.QueryStats, Number> errorsCol;
+    @FXML private TableColumn<QueryMetrics.QueryStats, Number> rowsCol;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> meanCol;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> p50Col;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> p95Col;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> p99Col;
+    @FXML private TableColumn<QueryMetrics.QueryStats, String> maxCol;
+    @FXML private TableView<QueryMetrics.BatchStats> batchTable;
+    @FXML private TableColumn<QueryMetrics.BatchStats, String> batchOperationCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, Number> batchRunsCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, Number> batchErrorsCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, Number> batchItemsCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, String> batchMeanCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, String> batchMaxCol;
+    @FXML private TableColumn<QueryMetrics.BatchStats, String> batchRateCol;
+    @FXML private Label poolLabel;
+    @FXML private Label routingLabel;
+    @FXML private Label cacheLabel;
+    @FXML private Label escalationLabel;
+    @FXML private Label statusLabel;
+
+    @FXML
+    private void initialize() {
+        sqlCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getSql()));
+        countCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getCount()));
+        errorsCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getErrors()));
+        rowsCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getRows()));
+        meanCol.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getMeanMicros())));
+        p50Col.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getP50Micros())));
+        p95Col.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getP95Micros())));
+        p99Col.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getP99Micros())));
+        maxCol.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getMaxMicros())));
+
+        batchOperationCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().getOperation()));
+        batchRunsCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getRuns()));
+        batchErrorsCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getErrors()));
+        batchItemsCol.setCellValueFactory(d -> new SimpleLongProperty(d.getValue().getItems()));
+        batchMeanCol.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getMeanMicros())));
+        batchMaxCol.setCellValueFactory(d -> new SimpleStringProperty(formatMillis(d.getValue().getMaxMicros())));
+        batchRateCol.setCellValueFactory(d -> new SimpleStringProperty(String.format("%.0f", d.getValue().getItemsPerSecond())));
+
+        refresh();
+    }
+
+    @FXML
+    private void handleRefresh() {
+        refresh();
+    }
+
+    /**
+     * Reload metrics; called by AdminDashboardController when the tab is selected
+     */
+    public void refresh() {
+        QueryMetrics metrics = QueryMetrics.getInstance();
+        table.setItems(FXCollections.observableArrayList(metrics.snapshot()));
+        batchTable.setItems(FXCollections.observableArrayList(metrics.batchSnapshot()));
+        poolLabel.setText(DatabaseConnection.getPoolStats().toString());
+        routingLabel.setText(DatabaseConnection.getReadRoutingStatus());
+        cacheLabel.setText(CachedAttackTypeDAO.getInstance().getStats().toString());
+        EscalationScheduler scheduler = EscalationScheduler.getInstance();
+        escalationLabel.setText((scheduler != null ? scheduler.getStats() : "Escalation scheduler: off")
+                + "\n" + EscalationRuleEngine.getInstance().getStats());
+        statusLabel.setText(metrics.getTotalExecutions() + " executions, " + metrics.getTotalErrors() + " errors");
+    }
+
+    @FXML
+    private void handleReset() {
+        QueryMetrics.getInstance().reset();
+        refresh();
+    }
+
+    private static String formatMillis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
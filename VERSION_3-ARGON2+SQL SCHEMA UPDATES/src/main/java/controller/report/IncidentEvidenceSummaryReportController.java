@@ -2,19 +2,32 @@ package controller.report;
 
 import dao.EvidenceDAO;
 import dao.EvidenceDAOImpl;
+import dao.SqlCatalog;
+import dao.StreamingQuery;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
+import util.CsvWriter;
+import util.DatabaseConnection;
+import util.DateUtils;
+import util.DbExecutor;
+import util.FxAsync;
 
 import java.io.File;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
  * Report: Incident Evidence Summary
  */
 public class IncidentEvidenceSummaryReportController {
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     @FXML private ComboBox<Integer> yearCombo;
     @FXML private ComboBox<Integer> monthCombo;
@@ -25,9 +38,14 @@ public class IncidentEvidenceSummaryReportController {
     @FXML private Button exportButton;
 
     private final EvidenceDAO evidenceDAO = new EvidenceDAOImpl();
+    private FxAsync.Scope async;
+    private int generatedYear;
+    private int generatedMonth;
 
     @FXML
     private void initialize() {
+        async = FxAsync.bindTo(table);
+
         int year = java.time.Year.now().getValue();
         yearCombo.setItems(FXCollections.observableArrayList(2020, 2021, 2022, 2023, 2024, year));
         yearCombo.setValue(year);
@@ -51,57 +69,77 @@ public class IncidentEvidenceSummaryReportController {
         int year = yearCombo.getValue();
         int month = monthCombo.getValue();
 
-        try {
-            String sql = """
-                SELECT e.EvidenceType, e.VerifiedStatus, a.Name as AdminName, e.SubmissionDate
-                FROM EvidenceUpload e
-                LEFT JOIN Administrators a ON e.AdminID = a.AdminID
-                WHERE YEAR(e.SubmissionDate) = ? AND MONTH(e.SubmissionDate) = ?
-                ORDER BY e.SubmissionDate DESC
-                """;
-
-            System.out.println("IncidentEvidenceSummaryReportController: Generating report for " + year + "-" + month);
-            System.out.println("IncidentEvidenceSummaryReportController: Executing SQL: " + sql);
-
-            List<EvidenceSummary> list = new ArrayList<>();
-            try (var conn = util.DatabaseConnection.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
-                var rs = stmt.executeQuery();
-
-                int rowCount = 0;
-                while (rs.next()) {
-                    rowCount++;
-                    String submissionDateStr = rs.getString("SubmissionDate");
-                    String dateStr = (submissionDateStr != null && submissionDateStr.length() >= 16) 
-                            ? submissionDateStr.substring(0, 16) 
-                            : submissionDateStr;
-                    list.add(new EvidenceSummary(
-                            rs.getString("EvidenceType"),
-                            rs.getString("VerifiedStatus"),
-                            rs.getString("AdminName"),
-                            dateStr
-                    ));
-                }
-                System.out.println("IncidentEvidenceSummaryReportController: Query returned " + rowCount + " rows");
-            }
-
+        System.out.println("IncidentEvidenceSummaryReportController: Generating report for " + year + "-" + month);
+        generateButton.setDisable(true);
+        async.run("generate", DbExecutor.supply(() -> loadReport(year, month)), list -> {
+            generateButton.setDisable(false);
+            generatedYear = year;
+            generatedMonth = month;
             table.setItems(FXCollections.observableArrayList(list));
             exportButton.setDisable(list.isEmpty());
-            
+
             if (list.isEmpty()) {
                 showAlert("No evidence records found for " + year + "-" + String.format("%02d", month) + 
                         ". Try selecting a different year/month or check if data exists in the database.");
             } else {
                 showAlert(list.size() + " evidence records.");
             }
-
-        } catch (Exception e) {
+        }, e -> {
+            generateButton.setDisable(false);
             System.err.println("IncidentEvidenceSummaryReportController: Error generating report: " + e.getMessage());
             e.printStackTrace();
             showError("Failed: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Runs on a DbExecutor thread
+     */
+    private List<EvidenceSummary> loadReport(int year, int month) throws SQLException {
+        String sql = SqlCatalog.REPORT_EVIDENCE_SUMMARY;
+
+        List<EvidenceSummary> list = new ArrayList<>();
+        try (var conn = DatabaseConnection.getReadConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, DateUtils.monthStart(year, month));
+            stmt.setObject(2, DateUtils.nextMonthStart(year, month));
+            var rs = stmt.executeQuery();
+
+            int rowCount = 0;
+            while (rs.next()) {
+                rowCount++;
+                list.add(mapRow(rs));
+            }
+            System.out.println("IncidentEvidenceSummaryReportController: Query returned " + rowCount + " rows");
+        }
+        return list;
+    }
+
+    private static EvidenceSummary mapRow(ResultSet rs) throws SQLException {
+        LocalDateTime submitted = rs.getObject("SubmissionDate", LocalDateTime.class);
+        String dateStr = submitted != null ? submitted.format(MINUTE_FORMAT) : null;
+        return new EvidenceSummary(
+                rs.getString("EvidenceType"),
+                rs.getString("VerifiedStatus"),
+                rs.getString("AdminName"),
+                dateStr
+        );
+    }
+
+    /**
+     * Runs on a DbExecutor thread. Rows are streamed from the database
+     * straight into the file, so the export does not depend on what the
+     * table holds and uses constant memory.
+     */
+    private long exportReport(int year, int month, File file) throws SQLException {
+        try (CsvWriter csv = new CsvWriter(file)) {
+            csv.writeRow("Type", "Status", "ReviewedBy", "Submitted");
+            return StreamingQuery.forEach(SqlCatalog.REPORT_EVIDENCE_SUMMARY, IncidentEvidenceSummaryReportController::mapRow,
+                    e -> csv.writeRow(e.getType(), e.getStatus(), e.getAdmin(), e.getDate()),
+                    DateUtils.monthStart(year, month), DateUtils.nextMonthStart(year, month));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -109,15 +147,19 @@ public class IncidentEvidenceSummaryReportController {
     private void handleExport() {
         File file = new FileChooser().showSaveDialog(null);
         if (file == null) return;
-        try (PrintWriter pw = new PrintWriter(file)) {
-            pw.println("Type,Status,ReviewedBy,Submitted");
-            for (var e : table.getItems()) {
-                pw.println(e.getType() + "," + e.getStatus() + "," + e.getAdmin() + "," + e.getDate());
-            }
-            showAlert("Exported");
-        } catch (Exception e) {
-            showError("Export failed");
-        }
+
+        // Export what was last generated, read again from the database
+        int year = generatedYear;
+        int month = generatedMonth;
+        exportButton.setDisable(true);
+        async.run("export", DbExecutor.supply(() -> exportReport(year, month, file)), rows -> {
+            exportButton.setDisable(false);
+            showAlert("Exported " + rows + " rows to " + file.getName());
+        }, e -> {
+            exportButton.setDisable(false);
+            e.printStackTrace();
+            showError("Export failed: " + e.getMessage());
+        });
     }
 
     private void showAlert(String msg) { new Alert(Alert.AlertType.INFORMATION, msg).show(); }
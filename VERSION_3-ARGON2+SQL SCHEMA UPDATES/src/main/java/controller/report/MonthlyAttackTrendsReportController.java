@@ -1,9 +1,10 @@
 package controller.report;
 
 import dao.AttackTypeDAO;
-import dao.AttackTypeDAOImpl;
+import dao.CachedAttackTypeDAO;
 import dao.IncidentReportDAO;
 import dao.IncidentReportDAOImpl;
+import dao.SqlCatalog;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
@@ -12,9 +13,14 @@ import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
+import util.DatabaseConnection;
+import util.DateUtils;
+import util.DbExecutor;
+import util.FxAsync;
 
 import java.io.File;
 import java.io.PrintWriter;
+import java.sql.SQLException;
 import java.time.YearMonth;
 import java.util.*;
 
@@ -33,10 +39,13 @@ public class MonthlyAttackTrendsReportController {
     @FXML private Button exportButton;
 
     private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
-    private final AttackTypeDAO attackDAO = new AttackTypeDAOImpl();
+    private final AttackTypeDAO attackDAO = CachedAttackTypeDAO.getInstance();
+    private FxAsync.Scope async;
 
     @FXML
     private void initialize() {
+        async = FxAsync.bindTo(chart);
+
         // Years: 2020 to current
         int currentYear = YearMonth.now().getYear();
         List<Integer> years = new ArrayList<>();
@@ -68,50 +77,15 @@ public class MonthlyAttackTrendsReportController {
         int year = yearCombo.getValue();
         int month = monthCombo.getValue();
 
-        try {
-            Map<String, int[]> hourlyData = new HashMap<>();
-            List<model.AttackType> types = attackDAO.findAll();
-
-            System.out.println("MonthlyAttackTrendsReportController: Generating report for " + year + "-" + month);
-            System.out.println("MonthlyAttackTrendsReportController: Found " + types.size() + " attack types");
-
-            // Initialize
-            for (model.AttackType type : types) {
-                hourlyData.put(type.getAttackName(), new int[24]);
-            }
-
-            // Query DB
-            String sql = """
-                SELECT a.AttackName, HOUR(i.DateReported) as hour
-                FROM IncidentReports i
-                JOIN AttackTypes a ON i.AttackTypeID = a.AttackTypeID
-                WHERE YEAR(i.DateReported) = ? AND MONTH(i.DateReported) = ?
-                """;
-
-            System.out.println("MonthlyAttackTrendsReportController: Executing SQL: " + sql);
-            int totalRows = 0;
-            try (var conn = util.DatabaseConnection.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
-                var rs = stmt.executeQuery();
-
-                while (rs.next()) {
-                    totalRows++;
-                    String attack = rs.getString("AttackName");
-                    int hour = rs.getInt("hour");
-                    if (hourlyData.containsKey(attack)) {
-                        hourlyData.get(attack)[hour]++;
-                    }
-                }
-                System.out.println("MonthlyAttackTrendsReportController: Query returned " + totalRows + " rows");
-            }
+        System.out.println("MonthlyAttackTrendsReportController: Generating report for " + year + "-" + month);
+        generateButton.setDisable(true);
+        async.run("generate", DbExecutor.supply(() -> loadTrends(year, month)), trends -> {
+            generateButton.setDisable(false);
 
             // Build chart
             chart.getData().clear();
             int seriesCount = 0;
-            for (Map.Entry<String, int[]> entry : hourlyData.entrySet()) {
+            for (Map.Entry<String, int[]> entry : trends.hourlyData.entrySet()) {
                 XYChart.Series<String, Number> series = new XYChart.Series<>();
                 series.setName(entry.getKey());
                 boolean hasData = false;
@@ -128,20 +102,65 @@ public class MonthlyAttackTrendsReportController {
             }
 
             exportButton.setDisable(seriesCount == 0);
-            
-            if (totalRows == 0) {
+
+            if (trends.totalRows == 0) {
                 showAlert("No incidents found for " + YearMonth.of(year, month) + 
                         ". Try selecting a different year/month or check if data exists in the database.");
             } else {
                 showAlert("Report generated for " + YearMonth.of(year, month) + 
                         ". Showing " + seriesCount + " attack type(s) with data.");
             }
-
-        } catch (Exception e) {
+        }, e -> {
+            generateButton.setDisable(false);
             System.err.println("MonthlyAttackTrendsReportController: Error generating report: " + e.getMessage());
             e.printStackTrace();
             showError("Generate failed: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Runs on a DbExecutor thread
+     */
+    private TrendData loadTrends(int year, int month) throws SQLException {
+        TrendData trends = new TrendData();
+        List<model.AttackType> types = attackDAO.findAll();
+
+        System.out.println("MonthlyAttackTrendsReportController: Found " + types.size() + " attack types");
+
+        // Initialize
+        for (model.AttackType type : types) {
+            trends.hourlyData.put(type.getAttackName(), new int[24]);
+        }
+
+        // Query DB
+        String sql = SqlCatalog.REPORT_MONTHLY_ATTACK_TRENDS;
+
+        try (var conn = DatabaseConnection.getReadConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, DateUtils.monthStart(year, month));
+            stmt.setObject(2, DateUtils.nextMonthStart(year, month));
+            var rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                trends.totalRows++;
+                String attack = rs.getString("AttackName");
+                int hour = rs.getInt("hour");
+                if (trends.hourlyData.containsKey(attack)) {
+                    trends.hourlyData.get(attack)[hour]++;
+                }
+            }
+            System.out.println("MonthlyAttackTrendsReportController: Query returned " + trends.totalRows + " rows");
         }
+        return trends;
+    }
+
+    /**
+     * Hourly incident counts per attack type for one month
+     */
+    private static final class TrendData {
+        private final Map<String, int[]> hourlyData = new HashMap<>();
+        private int totalRows;
     }
 
     @FXML
@@ -20,13 +20,19 @@ import model.Evidence;
 import model.IncidentReport;
 import model.RecycleBinEvidence;
 import model.RecycleBinReport;
+import service.EscalationRuleEngine;
+import util.DbExecutor;
+import util.FxAsync;
+import util.FxPager;
 
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -94,6 +100,7 @@ public class PendingReportsReviewController {
     private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
     private final EvidenceDAO evidenceDAO = new EvidenceDAOImpl();
     private final RecycleBinDAO recycleBinDAO = new RecycleBinDAOImpl();
+    private final EscalationRuleEngine escalationRules = EscalationRuleEngine.getInstance();
     private Administrator currentAdmin;
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private final Map<Evidence, Boolean> selectedEvidence = new HashMap<>();
@@ -103,13 +110,21 @@ public class PendingReportsReviewController {
     private static final String EVIDENCE_REJECTION_REASON = "Rejected from Pending Evidence Review";
     private static final String[] IMAGE_EXTENSIONS = {"png", "jpg", "jpeg", "gif", "bmp", "webp"};
     private Evidence previewedEvidence;
+    private FxAsync.Scope async; // Loads run off the FX thread; cancelled when the dashboard is left
+    // Tables load one keyset page at a time as the user scrolls
+    private FxPager<IncidentReport> reportsPager;
+    private FxPager<Evidence> evidencePager;
+    private FxPager<RecycleBinReport> recycleReportsPager;
+    private FxPager<RecycleBinEvidence> recycleEvidencePager;
 
     @FXML
     private void initialize() {
         System.out.println("PendingReportsReviewController: Initializing...");
+        async = FxAsync.bindTo(reviewTabs);
         setupReportsTable();
         setupEvidenceTable();
         setupRecycleBinTables();
+        setupPagers();
         showEvidencePreview(null);
         
         // Setup button handlers (already set in FXML, but can be set here too)
@@ -421,60 +436,86 @@ public class PendingReportsReviewController {
         }
     }
 
+    private void setupPagers() {
+        if (reportsTable != null) {
+            reportsPager = FxPager.attach(reportsTable, async, "pendingReports", incidentDAO::findPendingPageAsync)
+                    .onLoaded(this::pendingReportsLoaded)
+                    .onError(e -> {
+                        System.err.println("PendingReportsReviewController: Failed to load pending reports: " + e.getMessage());
+                        e.printStackTrace();
+                        showError("Failed to load pending reports: " + e.getMessage());
+                    });
+        }
+        if (evidenceTable != null) {
+            evidencePager = FxPager.attach(evidenceTable, async, "pendingEvidence", evidenceDAO::findPendingPageAsync)
+                    .onLoaded(this::pendingEvidenceLoaded)
+                    .onError(e -> {
+                        System.err.println("PendingReportsReviewController: Failed to load pending evidence: " + e.getMessage());
+                        e.printStackTrace();
+                        showError("Failed to load pending evidence: " + e.getMessage());
+                    });
+        }
+        if (recycleReportsTable != null) {
+            recycleReportsPager = FxPager.attach(recycleReportsTable, async, "recycleReports", recycleBinDAO::findReportsPageAsync)
+                    .onLoaded(this::recycleReportsLoaded)
+                    .onError(e -> {
+                        System.err.println("PendingReportsReviewController: Failed to load recycle bin reports: " + e.getMessage());
+                        e.printStackTrace();
+                        showError("Failed to load recycled reports: " + e.getMessage());
+                    });
+        }
+        if (recycleEvidenceTable != null) {
+            recycleEvidencePager = FxPager.attach(recycleEvidenceTable, async, "recycleEvidence", recycleBinDAO::findEvidencePageAsync)
+                    .onLoaded(this::recycleEvidenceLoaded)
+                    .onError(e -> {
+                        System.err.println("PendingReportsReviewController: Failed to load recycle bin evidence: " + e.getMessage());
+                        e.printStackTrace();
+                        showError("Failed to load recycled evidence: " + e.getMessage());
+                    });
+        }
+    }
+
     public void refreshPendingReports() {
-        try {
+        if (reportsPager != null) {
             System.out.println("PendingReportsReviewController: Loading pending reports...");
-            List<IncidentReport> pending = incidentDAO.findPending();
-            System.out.println("PendingReportsReviewController: Found " + pending.size() + " pending reports");
-            
-            // Clear selections for reports that no longer exist
-            selectedReports.keySet().removeIf(report -> !pending.contains(report));
-            
-            ObservableList<IncidentReport> reports = FXCollections.observableArrayList(pending);
-            if (reportsTable != null) {
-                reportsTable.setItems(reports);
-            }
-            if (reportsCountLabel != null) {
-                reportsCountLabel.setText("Pending Reports: " + pending.size());
-            }
-            updateButtonStates();
-            System.out.println("PendingReportsReviewController: Reports loaded successfully");
-        } catch (Exception e) {
-            System.err.println("PendingReportsReviewController: Failed to load pending reports: " + e.getMessage());
-            e.printStackTrace();
-            showError("Failed to load pending reports: " + e.getMessage());
+            reportsPager.reload();
         }
     }
 
+    private void pendingReportsLoaded(List<IncidentReport> loaded) {
+        System.out.println("PendingReportsReviewController: " + loaded.size() + " pending reports loaded");
+
+        // Clear selections for reports that no longer exist
+        selectedReports.keySet().removeIf(report -> !loaded.contains(report));
+
+        if (reportsCountLabel != null) {
+            reportsCountLabel.setText("Pending Reports: " + countText(loaded.size(), reportsPager));
+        }
+        updateButtonStates();
+    }
+
     public void refreshPendingEvidence() {
-        try {
+        if (evidencePager != null) {
             System.out.println("PendingReportsReviewController: Loading pending evidence...");
-            List<Evidence> pending = evidenceDAO.findPending();
-            System.out.println("PendingReportsReviewController: Found " + pending.size() + " pending evidence");
-
             selectedEvidence.clear();
+            evidencePager.reload();
+        }
+    }
 
-            ObservableList<Evidence> evidence = FXCollections.observableArrayList(pending);
-            if (evidenceTable != null) {
-                evidenceTable.setItems(evidence);
-                if (!evidence.isEmpty()) {
-                    evidenceTable.getSelectionModel().selectFirst();
-                } else {
-                    showEvidencePreview(null);
-                }
+    private void pendingEvidenceLoaded(List<Evidence> loaded) {
+        System.out.println("PendingReportsReviewController: " + loaded.size() + " pending evidence loaded");
+
+        if (evidenceTable.getSelectionModel().isEmpty()) {
+            if (!loaded.isEmpty()) {
+                evidenceTable.getSelectionModel().selectFirst();
             } else {
                 showEvidencePreview(null);
             }
-            if (evidenceCountLabel != null) {
-                evidenceCountLabel.setText("Pending Evidence: " + pending.size());
-            }
-            updateEvidenceButtonStates();
-            System.out.println("PendingReportsReviewController: Evidence loaded successfully");
-        } catch (Exception e) {
-            System.err.println("PendingReportsReviewController: Failed to load pending evidence: " + e.getMessage());
-            e.printStackTrace();
-            showError("Failed to load pending evidence: " + e.getMessage());
         }
+        if (evidenceCountLabel != null) {
+            evidenceCountLabel.setText("Pending Evidence: " + countText(loaded.size(), evidencePager));
+        }
+        updateEvidenceButtonStates();
     }
 
     public void refreshRecycleBin() {
@@ -483,45 +524,42 @@ public class PendingReportsReviewController {
     }
 
     private void refreshRecycleReports() {
-        try {
-            List<RecycleBinReport> archived = recycleBinDAO.findAllReports();
-            recycleReportSelections.keySet().removeIf(report -> !archived.contains(report));
+        if (recycleReportsPager != null) {
+            recycleReportsPager.reload();
+        }
+    }
 
-            ObservableList<RecycleBinReport> data = FXCollections.observableArrayList(archived);
-            if (recycleReportsTable != null) {
-                recycleReportsTable.setItems(data);
-            }
-            if (recycleReportsCountLabel != null) {
-                recycleReportsCountLabel.setText("Archived Reports: " + archived.size());
-            }
-            updateRecycleReportButtonState();
-            System.out.println("PendingReportsReviewController: Recycle bin reports loaded.");
-        } catch (Exception e) {
-            System.err.println("PendingReportsReviewController: Failed to load recycle bin reports: " + e.getMessage());
-            e.printStackTrace();
-            showError("Failed to load recycled reports: " + e.getMessage());
+    private void recycleReportsLoaded(List<RecycleBinReport> loaded) {
+        recycleReportSelections.keySet().removeIf(report -> !loaded.contains(report));
+
+        if (recycleReportsCountLabel != null) {
+            recycleReportsCountLabel.setText("Archived Reports: " + countText(loaded.size(), recycleReportsPager));
         }
+        updateRecycleReportButtonState();
+        System.out.println("PendingReportsReviewController: Recycle bin reports loaded.");
     }
 
     private void refreshRecycleEvidence() {
-        try {
-            List<RecycleBinEvidence> archived = recycleBinDAO.findAllEvidence();
-            recycleEvidenceSelections.keySet().removeIf(item -> !archived.contains(item));
+        if (recycleEvidencePager != null) {
+            recycleEvidencePager.reload();
+        }
+    }
 
-            ObservableList<RecycleBinEvidence> data = FXCollections.observableArrayList(archived);
-            if (recycleEvidenceTable != null) {
-                recycleEvidenceTable.setItems(data);
-            }
-            if (recycleEvidenceCountLabel != null) {
-                recycleEvidenceCountLabel.setText("Archived Evidence: " + archived.size());
-            }
-            updateRecycleEvidenceButtonState();
-            System.out.println("PendingReportsReviewController: Recycle bin evidence loaded.");
-        } catch (Exception e) {
-            System.err.println("PendingReportsReviewController: Failed to load recycle bin evidence: " + e.getMessage());
-            e.printStackTrace();
-            showError("Failed to load recycled evidence: " + e.getMessage());
+    private void recycleEvidenceLoaded(List<RecycleBinEvidence> loaded) {
+        recycleEvidenceSelections.keySet().removeIf(item -> !loaded.contains(item));
+
+        if (recycleEvidenceCountLabel != null) {
+            recycleEvidenceCountLabel.setText("Archived Evidence: " + countText(loaded.size(), recycleEvidencePager));
         }
+        updateRecycleEvidenceButtonState();
+        System.out.println("PendingReportsReviewController: Recycle bin evidence loaded.");
+    }
+
+    /**
+     * "200+" while more pages are available; the total is never counted
+     */
+    private static String countText(int loaded, FxPager<?> pager) {
+        return pager.hasMore() ? loaded + "+" : String.valueOf(loaded);
     }
 
     @FXML
@@ -539,35 +577,37 @@ public class PendingReportsReviewController {
             return;
         }
 
-        try {
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (IncidentReport report : toValidate) {
-                try {
-                    if (incidentDAO.updateStatus(report.getIncidentID(), "Validated", currentAdmin.getAdminID())) {
-                        successCount++;
-                        selectedReports.remove(report); // Remove from selection after validation
-                    } else {
-                        failCount++;
+        Map<Integer, IncidentReport> byID = new LinkedHashMap<>();
+        for (IncidentReport report : toValidate) {
+            byID.put(report.getIncidentID(), report);
+        }
+
+        // One transaction and one batched round trip for the whole selection
+        async.run("validate", incidentDAO.updateStatusBatchAsync(byID.keySet(), "Validated", currentAdmin.getAdminID()),
+                outcomes -> {
+                    int successCount = 0;
+                    int failCount = 0;
+                    for (Map.Entry<Integer, Boolean> outcome : outcomes.entrySet()) {
+                        if (outcome.getValue()) {
+                            successCount++;
+                            selectedReports.remove(byID.get(outcome.getKey())); // Remove from selection after validation
+                        } else {
+                            failCount++;
+                        }
                     }
-                } catch (Exception e) {
-                    System.err.println("Error validating report #" + report.getIncidentID() + ": " + e.getMessage());
-                    failCount++;
-                }
-            }
 
-            String message = String.format("Validated %d report(s).", successCount);
-            if (failCount > 0) {
-                message += String.format(" %d report(s) failed to validate.", failCount);
-            }
-            
-            showAlert(Alert.AlertType.INFORMATION, "Validation Complete", message);
-            refreshPendingReports();
-        } catch (Exception e) {
-            showError("Error validating reports: " + e.getMessage());
-            e.printStackTrace();
-        }
+                    String message = String.format("Validated %d report(s).", successCount);
+                    if (failCount > 0) {
+                        message += String.format(" %d report(s) failed to validate.", failCount);
+                    }
+
+                    showAlert(Alert.AlertType.INFORMATION, "Validation Complete", message);
+                    refreshPendingReports();
+                },
+                error -> {
+                    showError("Error validating reports: " + error.getMessage());
+                    error.printStackTrace();
+                });
     }
 
     @FXML
@@ -583,42 +623,42 @@ public class PendingReportsReviewController {
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
-
-        // Process each selected report
+        List<Integer> ids = new ArrayList<>();
         for (IncidentReport report : selected) {
-            try {
-                // First, archive the report to the recycle bin with rejection reason
-                boolean archived = recycleBinDAO.archiveIncidentReport(report, currentAdmin.getAdminID(), REPORT_REJECTION_REASON);
-                if (!archived) {
-                    failCount++;
-                    continue;
-                }
-
-                // Then delete from the main incident reports table
-                if (incidentDAO.delete(report.getIncidentID())) {
-                    selectedReports.remove(report);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-            } catch (Exception ex) {
-                System.err.println("Error rejecting report #" + report.getIncidentID() + ": " + ex.getMessage());
-                failCount++;
-            }
+            ids.add(report.getIncidentID());
         }
 
-        // Build result message
-        String message = String.format("Rejected %d report(s).", successCount);
-        if (failCount > 0) {
-            message += String.format(" %d report(s) failed to archive.", failCount);
-        }
+        // Reports and their evidence are archived and deleted server side in one transaction
+        async.run("rejectReports", recycleBinDAO.archiveReportsBatchAsync(ids, currentAdmin.getAdminID(), REPORT_REJECTION_REASON),
+                outcomes -> {
+                    int successCount = 0;
+                    int failCount = 0;
+                    for (IncidentReport report : selected) {
+                        if (Boolean.TRUE.equals(outcomes.get(report.getIncidentID()))) {
+                            selectedReports.remove(report);
+                            escalationRules.incidentRemoved(report);
+                            successCount++;
+                        } else {
+                            failCount++;
+                        }
+                    }
 
-        showAlert(Alert.AlertType.INFORMATION, "Rejection Complete", message);
-        refreshPendingReports();
-        refreshPendingEvidence(); // cascade delete may remove related evidence
-        refreshRecycleReports();
+                    // Build result message
+                    String message = String.format("Rejected %d report(s).", successCount);
+                    if (failCount > 0) {
+                        message += String.format(" %d report(s) failed to archive.", failCount);
+                    }
+
+                    showAlert(Alert.AlertType.INFORMATION, "Rejection Complete", message);
+                    refreshPendingReports();
+                    refreshPendingEvidence(); // their evidence went to the recycle bin with them
+                    refreshRecycleReports();
+                    refreshRecycleEvidence();
+                },
+                error -> {
+                    showError("Error rejecting reports: " + error.getMessage());
+                    error.printStackTrace();
+                });
     }
 
     @FXML
@@ -634,35 +674,56 @@ public class PendingReportsReviewController {
             return;
         }
 
-        try {
-            int successCount = 0;
-            int failCount = 0;
-
-            for (Evidence evidence : toVerify) {
-                try {
-                    if (evidenceDAO.verify(evidence.getEvidenceID(), "Verified", currentAdmin.getAdminID())) {
-                        successCount++;
-                        selectedEvidence.remove(evidence);
-                    } else {
-                        failCount++;
+        Map<Integer, Evidence> byID = new LinkedHashMap<>();
+        for (Evidence evidence : toVerify) {
+            byID.put(evidence.getEvidenceID(), evidence);
+        }
+
+        int adminID = currentAdmin.getAdminID();
+        async.run("verifyEvidence", evidenceDAO.verifyBatchAsync(byID.keySet(), "Verified", adminID),
+                outcomes -> {
+                    List<Integer> verified = new ArrayList<>();
+                    int failCount = 0;
+                    for (Map.Entry<Integer, Boolean> outcome : outcomes.entrySet()) {
+                        if (outcome.getValue()) {
+                            verified.add(outcome.getKey());
+                            selectedEvidence.remove(byID.get(outcome.getKey()));
+                        } else {
+                            failCount++;
+                        }
                     }
-                } catch (Exception ex) {
-                    System.err.println("Error verifying evidence #" + evidence.getEvidenceID() + ": " + ex.getMessage());
-                    failCount++;
-                }
-            }
 
-            String message = String.format("Verified %d evidence item(s).", successCount);
-            if (failCount > 0) {
-                message += String.format(" %d item(s) failed to verify.", failCount);
-            }
+                    String message = String.format("Verified %d evidence item(s).", verified.size());
+                    if (failCount > 0) {
+                        message += String.format(" %d item(s) failed to verify.", failCount);
+                    }
 
-            showAlert(Alert.AlertType.INFORMATION, "Verification Complete", message);
-            refreshPendingEvidence();
-        } catch (Exception e) {
-            showError("Error verifying evidence: " + e.getMessage());
-            e.printStackTrace();
+                    showAlert(Alert.AlertType.INFORMATION, "Verification Complete", message);
+                    refreshPendingEvidence();
+                    applyEvidenceRules(verified, adminID);
+                },
+                error -> {
+                    showError("Error verifying evidence: " + error.getMessage());
+                    error.printStackTrace();
+                });
+    }
+
+    /**
+     * Count newly verified evidence against the escalation rules and escalate the perpetrators they fire for
+     */
+    private void applyEvidenceRules(List<Integer> verifiedIDs, int adminID) {
+        if (verifiedIDs.isEmpty()) {
+            return;
         }
+        async.run("evidenceRules",
+                DbExecutor.supply(() -> escalationRules.escalate(escalationRules.evidenceVerified(verifiedIDs), adminID)),
+                escalated -> {
+                    if (escalated > 0) {
+                        showAlert(Alert.AlertType.INFORMATION, "Perpetrators Escalated",
+                                String.format("The verified evidence escalated %d perpetrator(s).", escalated));
+                    }
+                },
+                error -> System.err.println("PendingReportsReviewController: Evidence rules failed: " + error.getMessage()));
     }
 
     @FXML
@@ -678,37 +739,39 @@ public class PendingReportsReviewController {
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<Integer> ids = new ArrayList<>();
         for (Evidence evidence : toReject) {
-            try {
-                boolean archived = recycleBinDAO.archiveEvidence(evidence, currentAdmin.getAdminID(), EVIDENCE_REJECTION_REASON);
-                if (!archived) {
-                    failCount++;
-                    continue;
-                }
-
-                if (evidenceDAO.delete(evidence.getEvidenceID())) {
-                    selectedEvidence.remove(evidence);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-            } catch (Exception ex) {
-                System.err.println("Error rejecting evidence #" + evidence.getEvidenceID() + ": " + ex.getMessage());
-                failCount++;
-            }
+            ids.add(evidence.getEvidenceID());
         }
 
-        String message = String.format("Rejected %d evidence item(s).", successCount);
-        if (failCount > 0) {
-            message += String.format(" %d item(s) failed to archive.", failCount);
-        }
+        // Archive and delete the whole selection atomically
+        async.run("rejectEvidence",
+                recycleBinDAO.archiveEvidenceBatchAsync(ids, currentAdmin.getAdminID(), EVIDENCE_REJECTION_REASON),
+                outcomes -> {
+                    int successCount = 0;
+                    int failCount = 0;
+                    for (Evidence evidence : toReject) {
+                        if (Boolean.TRUE.equals(outcomes.get(evidence.getEvidenceID()))) {
+                            selectedEvidence.remove(evidence);
+                            successCount++;
+                        } else {
+                            failCount++;
+                        }
+                    }
 
-        showAlert(Alert.AlertType.INFORMATION, "Rejection Complete", message);
-        refreshPendingEvidence();
-        refreshRecycleEvidence();
+                    String message = String.format("Rejected %d evidence item(s).", successCount);
+                    if (failCount > 0) {
+                        message += String.format(" %d item(s) failed to archive.", failCount);
+                    }
+
+                    showAlert(Alert.AlertType.INFORMATION, "Rejection Complete", message);
+                    refreshPendingEvidence();
+                    refreshRecycleEvidence();
+                },
+                error -> {
+                    showError("Error rejecting evidence: " + error.getMessage());
+                    error.printStackTrace();
+                });
     }
 
     @FXML
@@ -724,31 +787,41 @@ public class PendingReportsReviewController {
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<Integer> binIDs = new ArrayList<>();
         for (RecycleBinReport report : toRestore) {
-            try {
-                if (recycleBinDAO.restoreIncidentReport(report)) {
-                    recycleReportSelections.remove(report);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-            } catch (Exception ex) {
-                System.err.println("Error restoring report #" + report.getIncidentID() + ": " + ex.getMessage());
-                failCount++;
-            }
+            binIDs.add(report.getBinID());
         }
 
-        String message = String.format("Restored %d report(s).", successCount);
-        if (failCount > 0) {
-            message += String.format(" %d report(s) failed to restore.", failCount);
-        }
+        async.run("restoreReports", recycleBinDAO.restoreReportsBatchAsync(binIDs),
+                outcomes -> {
+                    int successCount = 0;
+                    int failCount = 0;
+                    for (RecycleBinReport report : toRestore) {
+                        if (Boolean.TRUE.equals(outcomes.get(report.getBinID()))) {
+                            recycleReportSelections.remove(report);
+                            escalationRules.incidentAdded(report.getPerpetratorID(), report.getVictimID(),
+                                    report.getDateReported());
+                            successCount++;
+                        } else {
+                            failCount++;
+                        }
+                    }
 
-        showAlert(Alert.AlertType.INFORMATION, "Restore Complete", message);
-        refreshRecycleReports();
-        refreshPendingReports();
+                    String message = String.format("Restored %d report(s).", successCount);
+                    if (failCount > 0) {
+                        message += String.format(" %d report(s) failed to restore.", failCount);
+                    }
+
+                    showAlert(Alert.AlertType.INFORMATION, "Restore Complete", message);
+                    refreshRecycleReports();
+                    refreshRecycleEvidence();
+                    refreshPendingReports();
+                    refreshPendingEvidence();
+                },
+                error -> {
+                    showError("Error restoring reports: " + error.getMessage());
+                    error.printStackTrace();
+                });
     }
 
     @FXML
@@ -764,31 +837,37 @@ public class PendingReportsReviewController {
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
-
+        List<Integer> binIDs = new ArrayList<>();
         for (RecycleBinEvidence evidence : toRestore) {
-            try {
-                if (recycleBinDAO.restoreEvidence(evidence)) {
-                    recycleEvidenceSelections.remove(evidence);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-            } catch (Exception ex) {
-                System.err.println("Error restoring evidence #" + evidence.getEvidenceID() + ": " + ex.getMessage());
-                failCount++;
-            }
+            binIDs.add(evidence.getBinID());
         }
 
-        String message = String.format("Restored %d evidence item(s).", successCount);
-        if (failCount > 0) {
-            message += String.format(" %d item(s) failed to restore.", failCount);
-        }
+        async.run("restoreEvidence", recycleBinDAO.restoreEvidenceBatchAsync(binIDs),
+                outcomes -> {
+                    int successCount = 0;
+                    int failCount = 0;
+                    for (RecycleBinEvidence evidence : toRestore) {
+                        if (Boolean.TRUE.equals(outcomes.get(evidence.getBinID()))) {
+                            recycleEvidenceSelections.remove(evidence);
+                            successCount++;
+                        } else {
+                            failCount++;
+                        }
+                    }
 
-        showAlert(Alert.AlertType.INFORMATION, "Restore Complete", message);
-        refreshRecycleEvidence();
-        refreshPendingEvidence();
+                    String message = String.format("Restored %d evidence item(s).", successCount);
+                    if (failCount > 0) {
+                        message += String.format(" %d item(s) failed to restore.", failCount);
+                    }
+
+                    showAlert(Alert.AlertType.INFORMATION, "Restore Complete", message);
+                    refreshRecycleEvidence();
+                    refreshPendingEvidence();
+                },
+                error -> {
+                    showError("Error restoring evidence: " + error.getMessage());
+                    error.printStackTrace();
+                });
     }
 
     @FXML
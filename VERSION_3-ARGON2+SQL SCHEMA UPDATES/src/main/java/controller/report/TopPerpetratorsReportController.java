@@ -4,16 +4,26 @@ import dao.IncidentReportDAO;
 import dao.IncidentReportDAOImpl;
 import dao.PerpetratorDAO;
 import dao.PerpetratorDAOImpl;
+import dao.SqlCatalog;
+import dao.StreamingQuery;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
+import util.CsvWriter;
+import util.DatabaseConnection;
+import util.DateUtils;
+import util.DbExecutor;
+import util.FxAsync;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.value.ObservableValue;
 
 import java.io.File;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 
 public class TopPerpetratorsReportController {
@@ -30,9 +40,14 @@ public class TopPerpetratorsReportController {
 
     private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
     private final PerpetratorDAO perpDAO = new PerpetratorDAOImpl();
+    private FxAsync.Scope async;
+    private int generatedYear;
+    private int generatedMonth;
 
     @FXML
     private void initialize() {
+        async = FxAsync.bindTo(table);
+
         int year = java.time.Year.now().getValue();
         yearCombo.setItems(FXCollections.observableArrayList(2020, 2021, 2022, 2023, 2024, year));
         yearCombo.setValue(year);
@@ -56,54 +71,75 @@ public class TopPerpetratorsReportController {
         int year = yearCombo.getValue();
         int month = monthCombo.getValue();
 
-        try {
-            String sql = """
-                SELECT p.Identifier, p.IdentifierType, p.AssociatedName, COUNT(*) as cnt
-                FROM IncidentReports i
-                JOIN Perpetrators p ON i.PerpetratorID = p.PerpetratorID
-                WHERE YEAR(i.DateReported) = ? AND MONTH(i.DateReported) = ?
-                GROUP BY p.PerpetratorID
-                ORDER BY cnt DESC LIMIT 10
-                """;
-
-            System.out.println("TopPerpetratorsReportController: Generating report for " + year + "-" + month);
-            System.out.println("TopPerpetratorsReportController: Executing SQL: " + sql);
-
-            List<TopPerp> list = new ArrayList<>();
-            try (var conn = util.DatabaseConnection.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
-                var rs = stmt.executeQuery();
-
-                int rowCount = 0;
-                while (rs.next()) {
-                    rowCount++;
-                    list.add(new TopPerp(
-                            rs.getString("Identifier"),
-                            rs.getString("IdentifierType"),
-                            rs.getString("AssociatedName"),
-                            rs.getInt("cnt")
-                    ));
-                }
-                System.out.println("TopPerpetratorsReportController: Query returned " + rowCount + " rows");
-            }
-
+        System.out.println("TopPerpetratorsReportController: Generating report for " + year + "-" + month);
+        generateButton.setDisable(true);
+        async.run("generate", DbExecutor.supply(() -> loadReport(year, month)), list -> {
+            generateButton.setDisable(false);
+            generatedYear = year;
+            generatedMonth = month;
             table.setItems(FXCollections.observableArrayList(list));
             exportButton.setDisable(list.isEmpty());
-            
+
             if (list.isEmpty()) {
                 showAlert("No perpetrators found for " + year + "-" + String.format("%02d", month) + 
                         ". Try selecting a different year/month or check if data exists in the database.");
             } else {
                 showAlert("Top " + list.size() + " Perpetrators loaded for " + year + "-" + String.format("%02d", month));
             }
-
-        } catch (Exception e) {
+        }, e -> {
+            generateButton.setDisable(false);
             System.err.println("TopPerpetratorsReportController: Error generating report: " + e.getMessage());
             e.printStackTrace();
             showError("Failed: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Runs on a DbExecutor thread
+     */
+    private List<TopPerp> loadReport(int year, int month) throws SQLException {
+        String sql = SqlCatalog.REPORT_TOP_PERPETRATORS;
+
+        List<TopPerp> list = new ArrayList<>();
+        try (var conn = DatabaseConnection.getReadConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, DateUtils.monthStart(year, month));
+            stmt.setObject(2, DateUtils.nextMonthStart(year, month));
+            var rs = stmt.executeQuery();
+
+            int rowCount = 0;
+            while (rs.next()) {
+                rowCount++;
+                list.add(mapRow(rs));
+            }
+            System.out.println("TopPerpetratorsReportController: Query returned " + rowCount + " rows");
+        }
+        return list;
+    }
+
+    private static TopPerp mapRow(ResultSet rs) throws SQLException {
+        return new TopPerp(
+                rs.getString("Identifier"),
+                rs.getString("IdentifierType"),
+                rs.getString("AssociatedName"),
+                rs.getInt("cnt")
+        );
+    }
+
+    /**
+     * Runs on a DbExecutor thread. Rows are streamed from the database
+     * straight into the file, so the export does not depend on what the
+     * table holds and uses constant memory.
+     */
+    private long exportReport(int year, int month, File file) throws SQLException {
+        try (CsvWriter csv = new CsvWriter(file)) {
+            csv.writeRow("Identifier", "Type", "Name", "IncidentCount");
+            return StreamingQuery.forEach(SqlCatalog.REPORT_TOP_PERPETRATORS, TopPerpetratorsReportController::mapRow,
+                    row -> csv.writeRow(row.getIdentifier(), row.getType(), row.getName(), row.getCount()),
+                    DateUtils.monthStart(year, month), DateUtils.nextMonthStart(year, month));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -112,15 +148,18 @@ public class TopPerpetratorsReportController {
         File file = new FileChooser().showSaveDialog(null);
         if (file == null) return;
 
-        try (PrintWriter pw = new PrintWriter(file)) {
-            pw.println("Identifier,Type,Name,IncidentCount");
-            for (var row : table.getItems()) {
-                pw.println(row.getIdentifier() + "," + row.getType() + "," + row.getName() + "," + row.getCount());
-            }
-            showAlert("Exported to " + file.getName());
-        } catch (Exception e) {
-            showError("Export failed");
-        }
+        // Export what was last generated, read again from the database
+        int year = generatedYear;
+        int month = generatedMonth;
+        exportButton.setDisable(true);
+        async.run("export", DbExecutor.supply(() -> exportReport(year, month, file)), rows -> {
+            exportButton.setDisable(false);
+            showAlert("Exported " + rows + " rows to " + file.getName());
+        }, e -> {
+            exportButton.setDisable(false);
+            e.printStackTrace();
+            showError("Export failed: " + e.getMessage());
+        });
     }
 
     private void showAlert(String msg) {
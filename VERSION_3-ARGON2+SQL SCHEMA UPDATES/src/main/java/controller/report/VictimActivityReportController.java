@@ -2,15 +2,25 @@ package controller.report;
 
 import dao.IncidentReportDAO;
 import dao.IncidentReportDAOImpl;
+import dao.SqlCatalog;
+import dao.StreamingQuery;
 import dao.VictimDAO;
 import dao.VictimDAOImpl;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.FileChooser;
+import util.CsvWriter;
+import util.DatabaseConnection;
+import util.DateUtils;
+import util.DbExecutor;
+import util.FxAsync;
 
 import java.io.File;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 
 /**
@@ -29,9 +39,14 @@ public class VictimActivityReportController {
 
     private final VictimDAO victimDAO = new VictimDAOImpl();
     private final IncidentReportDAO incidentDAO = new IncidentReportDAOImpl();
+    private FxAsync.Scope async;
+    private int generatedYear;
+    private int generatedMonth;
 
     @FXML
     private void initialize() {
+        async = FxAsync.bindTo(table);
+
         int year = java.time.Year.now().getValue();
         yearCombo.setItems(FXCollections.observableArrayList(2020, 2021, 2022, 2023, 2024, year));
         yearCombo.setValue(year);
@@ -54,43 +69,15 @@ public class VictimActivityReportController {
         int year = yearCombo.getValue();
         int month = monthCombo.getValue();
 
-        try {
-            String sql = """
-                SELECT v.Name, v.ContactEmail, COUNT(*) as cnt
-                FROM IncidentReports i
-                JOIN Victims v ON i.VictimID = v.VictimID
-                WHERE YEAR(i.DateReported) = ? AND MONTH(i.DateReported) = ?
-                GROUP BY v.VictimID
-                HAVING cnt > 3
-                ORDER BY cnt DESC
-                """;
-
-            System.out.println("VictimActivityReportController: Generating report for " + year + "-" + month);
-            System.out.println("VictimActivityReportController: Executing SQL: " + sql);
-
-            List<VictimActivity> list = new ArrayList<>();
-            try (var conn = util.DatabaseConnection.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-
-                stmt.setInt(1, year);
-                stmt.setInt(2, month);
-                var rs = stmt.executeQuery();
-
-                int rowCount = 0;
-                while (rs.next()) {
-                    rowCount++;
-                    list.add(new VictimActivity(
-                            rs.getString("Name"),
-                            rs.getString("ContactEmail"),
-                            rs.getInt("cnt")
-                    ));
-                }
-                System.out.println("VictimActivityReportController: Query returned " + rowCount + " rows");
-            }
-
+        System.out.println("VictimActivityReportController: Generating report for " + year + "-" + month);
+        generateButton.setDisable(true);
+        async.run("generate", DbExecutor.supply(() -> loadReport(year, month)), list -> {
+            generateButton.setDisable(false);
+            generatedYear = year;
+            generatedMonth = month;
             table.setItems(FXCollections.observableArrayList(list));
             exportButton.setDisable(list.isEmpty());
-            
+
             if (list.isEmpty()) {
                 showAlert("No high-risk victims found for " + year + "-" + String.format("%02d", month) + 
                         ". (Victims with >3 incidents in the selected month)\n" +
@@ -98,11 +85,59 @@ public class VictimActivityReportController {
             } else {
                 showAlert(list.size() + " high-risk victims found.");
             }
-
-        } catch (Exception e) {
+        }, e -> {
+            generateButton.setDisable(false);
             System.err.println("VictimActivityReportController: Error generating report: " + e.getMessage());
             e.printStackTrace();
             showError("Failed: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Runs on a DbExecutor thread
+     */
+    private List<VictimActivity> loadReport(int year, int month) throws SQLException {
+        String sql = SqlCatalog.REPORT_VICTIM_ACTIVITY;
+
+        List<VictimActivity> list = new ArrayList<>();
+        try (var conn = DatabaseConnection.getReadConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, DateUtils.monthStart(year, month));
+            stmt.setObject(2, DateUtils.nextMonthStart(year, month));
+            var rs = stmt.executeQuery();
+
+            int rowCount = 0;
+            while (rs.next()) {
+                rowCount++;
+                list.add(mapRow(rs));
+            }
+            System.out.println("VictimActivityReportController: Query returned " + rowCount + " rows");
+        }
+        return list;
+    }
+
+    private static VictimActivity mapRow(ResultSet rs) throws SQLException {
+        return new VictimActivity(
+                rs.getString("Name"),
+                rs.getString("ContactEmail"),
+                rs.getInt("cnt")
+        );
+    }
+
+    /**
+     * Runs on a DbExecutor thread. Rows are streamed from the database
+     * straight into the file, so the export does not depend on what the
+     * table holds and uses constant memory.
+     */
+    private long exportReport(int year, int month, File file) throws SQLException {
+        try (CsvWriter csv = new CsvWriter(file)) {
+            csv.writeRow("Name", "Email", "IncidentCount");
+            return StreamingQuery.forEach(SqlCatalog.REPORT_VICTIM_ACTIVITY, VictimActivityReportController::mapRow,
+                    v -> csv.writeRow(v.getName(), v.getEmail(), v.getCount()),
+                    DateUtils.monthStart(year, month), DateUtils.nextMonthStart(year, month));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -110,15 +145,19 @@ public class VictimActivityReportController {
     private void handleExport() {
         File file = new FileChooser().showSaveDialog(null);
         if (file == null) return;
-        try (PrintWriter pw = new PrintWriter(file)) {
-            pw.println("Name,Email,IncidentCount");
-            for (var v : table.getItems()) {
-                pw.println(v.getName() + "," + v.getEmail() + "," + v.getCount());
-            }
-            showAlert("Exported");
-        } catch (Exception e) {
-            showError("Export failed");
-        }
+
+        // Export what was last generated, read again from the database
+        int year = generatedYear;
+        int month = generatedMonth;
+        exportButton.setDisable(true);
+        async.run("export", DbExecutor.supply(() -> exportReport(year, month, file)), rows -> {
+            exportButton.setDisable(false);
+            showAlert("Exported " + rows + " rows to " + file.getName());
+        }, e -> {
+            exportButton.setDisable(false);
+            e.printStackTrace();
+            showError("Export failed: " + e.getMessage());
+        });
     }
 
     private void showAlert(String msg) { new Alert(Alert.AlertType.INFORMATION, msg).show(); }
@@ -1,8 +1,10 @@
 package dao;
 
 import model.Administrator;
+import util.DbExecutor;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Data Access Object interface for Administrator entity
@@ -55,5 +57,30 @@ public interface AdministratorDAO {
      * @throws SQLException if database error occurs
      */
     boolean delete(int adminID) throws SQLException;
-}
 
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Administrator> findByEmailAsync(String email) {
+        return DbExecutor.supply(() -> findByEmail(email));
+    }
+
+    default CompletableFuture<Administrator> findByIdAsync(int adminID) {
+        return DbExecutor.supply(() -> findById(adminID));
+    }
+
+    default CompletableFuture<List<Administrator>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Boolean> createAsync(Administrator admin) {
+        return DbExecutor.supply(() -> create(admin));
+    }
+
+    default CompletableFuture<Boolean> updateAsync(Administrator admin) {
+        return DbExecutor.supply(() -> update(admin));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int adminID) {
+        return DbExecutor.supply(() -> delete(adminID));
+    }
+}
@@ -9,11 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class AdministratorDAOImpl implements AdministratorDAO {
+    private static final RowMapper<Administrator> MAPPER = BeanRowMapper.of(Administrator.class, SqlCatalog.ADMIN_ROW);
 
     @Override
     public Administrator findByEmail(String email) throws SQLException {
         // Trim email and use case-insensitive comparison for better compatibility
-        String query = "SELECT * FROM Administrators WHERE LOWER(TRIM(ContactEmail)) = LOWER(TRIM(?))";
+        String query = SqlCatalog.ADMIN_FIND_BY_EMAIL;
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
@@ -21,7 +22,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToAdministrator(rs);
+                return MAPPER.map(rs);
             }
         }
         return null;
@@ -29,7 +30,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
 
     @Override
     public Administrator findById(int adminID) throws SQLException {
-        String query = "SELECT * FROM Administrators WHERE AdminID = ?";
+        String query = SqlCatalog.ADMIN_FIND_BY_ID;
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
@@ -37,7 +38,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToAdministrator(rs);
+                return MAPPER.map(rs);
             }
         }
         return null;
@@ -46,14 +47,14 @@ public class AdministratorDAOImpl implements AdministratorDAO {
     @Override
     public List<Administrator> findAll() throws SQLException {
         List<Administrator> admins = new ArrayList<>();
-        String query = "SELECT * FROM Administrators";
+        String query = SqlCatalog.ADMIN_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                admins.add(mapResultSetToAdministrator(rs));
+                admins.add(MAPPER.map(rs));
             }
         }
         return admins;
@@ -61,7 +62,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
 
     @Override
     public boolean create(Administrator admin) throws SQLException {
-        String query = "INSERT INTO Administrators (Name, Role, ContactEmail, PasswordHash) VALUES (?, ?, ?, ?)";
+        String query = SqlCatalog.ADMIN_INSERT;
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
 
@@ -83,7 +84,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
 
     @Override
     public boolean update(Administrator admin) throws SQLException {
-        String query = "UPDATE Administrators SET Name = ?, Role = ?, ContactEmail = ?, PasswordHash = ? WHERE AdminID = ?";
+        String query = SqlCatalog.ADMIN_UPDATE;
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
@@ -99,7 +100,7 @@ public class AdministratorDAOImpl implements AdministratorDAO {
 
     @Override
     public boolean delete(int adminID) throws SQLException {
-        String query = "DELETE FROM Administrators WHERE AdminID = ?";
+        String query = SqlCatalog.ADMIN_DELETE;
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
@@ -107,20 +108,5 @@ public class AdministratorDAOImpl implements AdministratorDAO {
             return stmt.executeUpdate() > 0;
         }
     }
-
-    private Administrator mapResultSetToAdministrator(ResultSet rs) throws SQLException {
-        Administrator admin = new Administrator();
-        admin.setAdminID(rs.getInt("AdminID"));
-        admin.setName(rs.getString("Name"));
-        admin.setRole(rs.getString("Role"));
-        admin.setContactEmail(rs.getString("ContactEmail"));
-        admin.setPasswordHash(rs.getString("PasswordHash"));
-
-        Timestamp timestamp = rs.getTimestamp("DateAssigned");
-        if (timestamp != null) {
-            admin.setDateAssigned(timestamp.toLocalDateTime());
-        }
-        return admin;
-    }
 }
 
@@ -1,8 +1,10 @@
 package dao;
 
 import model.AttackType;
+import util.DbExecutor;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface AttackTypeDAO {
     AttackType findById(int attackTypeID) throws SQLException;
@@ -11,4 +13,30 @@ public interface AttackTypeDAO {
     boolean create(AttackType attackType) throws SQLException;
     boolean update(AttackType attackType) throws SQLException;
     boolean delete(int attackTypeID) throws SQLException;
-}
\ No newline at end of file
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<AttackType> findByIdAsync(int attackTypeID) {
+        return DbExecutor.supply(() -> findById(attackTypeID));
+    }
+
+    default CompletableFuture<AttackType> findByNameAsync(String attackName) {
+        return DbExecutor.supply(() -> findByName(attackName));
+    }
+
+    default CompletableFuture<List<AttackType>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Boolean> createAsync(AttackType attackType) {
+        return DbExecutor.supply(() -> create(attackType));
+    }
+
+    default CompletableFuture<Boolean> updateAsync(AttackType attackType) {
+        return DbExecutor.supply(() -> update(attackType));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int attackTypeID) {
+        return DbExecutor.supply(() -> delete(attackTypeID));
+    }
+}
@@ -8,30 +8,31 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class AttackTypeDAOImpl implements AttackTypeDAO {
+    private static final RowMapper<AttackType> MAPPER = BeanRowMapper.of(AttackType.class, SqlCatalog.ATTACK_TYPE_ROW);
 
     @Override
     public AttackType findById(int attackTypeID) throws SQLException {
-        String sql = "SELECT * FROM AttackTypes WHERE AttackTypeID = ?";
+        String sql = SqlCatalog.ATTACK_TYPE_FIND_BY_ID;
         return executeQuery(sql, stmt -> stmt.setInt(1, attackTypeID));
     }
 
     @Override
     public AttackType findByName(String attackName) throws SQLException {
-        String sql = "SELECT * FROM AttackTypes WHERE AttackName = ?";
+        String sql = SqlCatalog.ATTACK_TYPE_FIND_BY_NAME;
         return executeQuery(sql, stmt -> stmt.setString(1, attackName));
     }
 
     @Override
     public List<AttackType> findAll() throws SQLException {
         List<AttackType> list = new ArrayList<>();
-        String sql = "SELECT * FROM AttackTypes ORDER BY SeverityLevel DESC, AttackName";
+        String sql = SqlCatalog.ATTACK_TYPE_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToAttackType(rs));
+                list.add(MAPPER.map(rs));
             }
         }
         return list;
@@ -39,7 +40,7 @@ public class AttackTypeDAOImpl implements AttackTypeDAO {
 
     @Override
     public boolean create(AttackType attackType) throws SQLException {
-        String sql = "INSERT INTO AttackTypes (AttackName, Description, SeverityLevel) VALUES (?, ?, ?)";
+        String sql = SqlCatalog.ATTACK_TYPE_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -62,7 +63,7 @@ public class AttackTypeDAOImpl implements AttackTypeDAO {
 
     @Override
     public boolean update(AttackType attackType) throws SQLException {
-        String sql = "UPDATE AttackTypes SET AttackName = ?, Description = ?, SeverityLevel = ? WHERE AttackTypeID = ?";
+        String sql = SqlCatalog.ATTACK_TYPE_UPDATE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -78,7 +79,7 @@ public class AttackTypeDAOImpl implements AttackTypeDAO {
 
     @Override
     public boolean delete(int attackTypeID) throws SQLException {
-        String sql = "DELETE FROM AttackTypes WHERE AttackTypeID = ?";
+        String sql = SqlCatalog.ATTACK_TYPE_DELETE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -95,22 +96,13 @@ public class AttackTypeDAOImpl implements AttackTypeDAO {
             setter.setValues(stmt);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToAttackType(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
         return null;
     }
 
-    private AttackType mapResultSetToAttackType(ResultSet rs) throws SQLException {
-        AttackType at = new AttackType();
-        at.setAttackTypeID(rs.getInt("AttackTypeID"));
-        at.setAttackName(rs.getString("AttackName"));
-        at.setDescription(rs.getString("Description"));
-        at.setSeverityLevel(rs.getString("SeverityLevel"));
-        return at;
-    }
-
     @FunctionalInterface
     private interface PreparedStatementSetter {
         void setValues(PreparedStatement stmt) throws SQLException;
@@ -0,0 +1,175 @@
+package dao;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Row mapper generated for one model class and one {@link Projection}.
+ *
+ *   static final RowMapper<Evidence> EVIDENCE = BeanRowMapper.of(Evidence.class, SqlCatalog.EVIDENCE_ROW);
+ *
+ * Each selected column is bound to the model's setter of the same name
+ * (column IncidentID -> setIncidentID). The setters and the no-arg
+ * constructor are turned into lambdas through LambdaMetafactory when the
+ * mapper is built, so mapping a row is plain interface calls: no reflection,
+ * no column-name lookups and no boxing of int columns. The column reader is
+ * picked from the setter's parameter type:
+ *
+ *   int            rs.getInt
+ *   Integer        rs.getInt, null when SQL NULL
+ *   String         rs.getString
+ *   LocalDateTime  rs.getObject(i, LocalDateTime.class), same for LocalDate
+ *
+ * A column without a matching setter, or a setter of another type, fails
+ * when the mapper is built, i.e. when the DAO class is loaded. Mappers are
+ * cached per class and projection.
+ */
+public final class BeanRowMapper<T> implements RowMapper<T> {
+    private static final Map<Class<?>, Map<Projection, BeanRowMapper<?>>> CACHE = new ConcurrentHashMap<>();
+
+    private final Supplier<T> constructor;
+    private final Column<T>[] columns;
+
+    private BeanRowMapper(Supplier<T> constructor, Column<T>[] columns) {
+        this.constructor = constructor;
+        this.columns = columns;
+    }
+
+    /**
+     * The mapper for rows of this projection into this class, built on first use
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanRowMapper<T> of(Class<T> type, Projection projection) {
+        return (BeanRowMapper<T>) CACHE.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(projection, p -> build(type, p));
+    }
+
+    @Override
+    public T map(ResultSet rs) throws SQLException {
+        T target = constructor.get();
+        for (Column<T> column : columns) {
+            column.read(rs, target);
+        }
+        return target;
+    }
+
+    /**
+     * Reads one column into one property
+     */
+    private interface Column<T> {
+        void read(ResultSet rs, T target) throws SQLException;
+    }
+
+    private static <T> BeanRowMapper<T> build(Class<T> type, Projection projection) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, Method> setters = setters(type);
+        List<String> names = projection.columnNames();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Column<T>[] columns = new Column[names.size()];
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                String name = names.get(i);
+                Method setter = setters.get(name.toLowerCase(Locale.ROOT));
+                if (setter == null) {
+                    throw new IllegalArgumentException(type.getSimpleName() + " has no setter for column " + name);
+                }
+                columns[i] = column(lookup, type, setter, projection.index(name));
+            }
+            return new BeanRowMapper<>(constructor(lookup, type), columns);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot build row mapper for " + type.getName(), t);
+        }
+    }
+
+    /**
+     * Public one-argument setters keyed by lower-case property name
+     */
+    private static Map<String, Method> setters(Class<?> type) {
+        Map<String, Method> setters = new HashMap<>();
+        for (Method m : type.getMethods()) {
+            if (m.getName().startsWith("set") && m.getParameterCount() == 1
+                    && m.getReturnType() == void.class && !Modifier.isStatic(m.getModifiers())) {
+                setters.put(m.getName().substring(3).toLowerCase(Locale.ROOT), m);
+            }
+        }
+        return setters;
+    }
+
+    private static <T> Column<T> column(MethodHandles.Lookup lookup, Class<T> type, Method setter, int index)
+            throws Throwable {
+        Class<?> param = setter.getParameterTypes()[0];
+        MethodHandle handle = lookup.unreflect(setter);
+
+        if (param == int.class) {
+            ObjIntConsumer<T> set = intSetter(lookup, type, handle);
+            return (rs, target) -> set.accept(target, rs.getInt(index));
+        }
+        BiConsumer<T, Object> set = objectSetter(lookup, type, param, handle);
+        if (param == Integer.class) {
+            return (rs, target) -> {
+                int value = rs.getInt(index);
+                set.accept(target, rs.wasNull() ? null : value);
+            };
+        }
+        if (param == String.class) {
+            return (rs, target) -> set.accept(target, rs.getString(index));
+        }
+        if (param == LocalDateTime.class || param == LocalDate.class) {
+            return (rs, target) -> set.accept(target, rs.getObject(index, param));
+        }
+        throw new IllegalArgumentException("Unsupported type " + param.getSimpleName() + " for " + setter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjIntConsumer<T> intSetter(MethodHandles.Lookup lookup, Class<T> type, MethodHandle setter)
+            throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(ObjIntConsumer.class),
+                MethodType.methodType(void.class, Object.class, int.class),
+                setter,
+                MethodType.methodType(void.class, type, int.class));
+        return (ObjIntConsumer<T>) site.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BiConsumer<T, Object> objectSetter(MethodHandles.Lookup lookup, Class<T> type, Class<?> param,
+                                                          MethodHandle setter) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                setter,
+                MethodType.methodType(void.class, type, param));
+        return (BiConsumer<T, Object>) site.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> constructor(MethodHandles.Lookup lookup, Class<T> type) throws Throwable {
+        MethodHandle ctor = lookup.findConstructor(type, MethodType.methodType(void.class));
+        CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                ctor,
+                MethodType.methodType(type));
+        return (Supplier<T>) site.getTarget().invoke();
+    }
+}
@@ -0,0 +1,212 @@
+package dao;
+
+import model.AttackType;
+import util.UnitOfWork;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AttackTypes served from memory.
+ *
+ * The table is reference data that changes only through this DAO, so the
+ * whole table is read once (at startup, see {@link #preload}) into an
+ * immutable snapshot, and findById/findByName/findAll answer from it without
+ * touching the database. create/update/delete write through to
+ * {@link AttackTypeDAOImpl} and then swap in a freshly read snapshot;
+ * readers always see either the old or the new snapshot, never a mix.
+ *
+ * Callers get copies, so editing a returned AttackType does not change the
+ * cache. Names are matched case-insensitively, like the column's collation.
+ * A write inside a {@link UnitOfWork} only drops the snapshot: it must not
+ * publish rows that may still be rolled back, so the next read outside the
+ * unit loads the committed table. Rows changed outside the application are
+ * picked up after {@link #invalidate()}.
+ */
+public final class CachedAttackTypeDAO implements AttackTypeDAO {
+    private static final CachedAttackTypeDAO INSTANCE = new CachedAttackTypeDAO(new AttackTypeDAOImpl());
+
+    private final AttackTypeDAO delegate;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CachedAttackTypeDAO(AttackTypeDAO delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CachedAttackTypeDAO getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Load the table ahead of the first lookup; meant for a background startup thread
+     */
+    public static void preload() throws SQLException {
+        INSTANCE.snapshot();
+    }
+
+    @Override
+    public AttackType findById(int attackTypeID) throws SQLException {
+        return copy(snapshot().byId.get(attackTypeID));
+    }
+
+    @Override
+    public AttackType findByName(String attackName) throws SQLException {
+        if (attackName == null) {
+            return null;
+        }
+        return copy(snapshot().byName.get(key(attackName)));
+    }
+
+    @Override
+    public List<AttackType> findAll() throws SQLException {
+        List<AttackType> all = snapshot().all;
+        List<AttackType> list = new ArrayList<>(all.size());
+        for (AttackType type : all) {
+            list.add(copy(type));
+        }
+        return list;
+    }
+
+    @Override
+    public boolean create(AttackType attackType) throws SQLException {
+        try {
+            return delegate.create(attackType);
+        } finally {
+            reload();
+        }
+    }
+
+    @Override
+    public boolean update(AttackType attackType) throws SQLException {
+        try {
+            return delegate.update(attackType);
+        } finally {
+            reload();
+        }
+    }
+
+    @Override
+    public boolean delete(int attackTypeID) throws SQLException {
+        try {
+            return delegate.delete(attackTypeID);
+        } finally {
+            reload();
+        }
+    }
+
+    /**
+     * Drop the snapshot; the next lookup reads the table again
+     */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    public Stats getStats() {
+        Snapshot current = snapshot.get();
+        return new Stats(hits.sum(), misses.sum(), current != null ? current.all.size() : -1);
+    }
+
+    private Snapshot snapshot() throws SQLException {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        Snapshot loaded = new Snapshot(delegate.findAll());
+        // Only into an empty slot: a reload after a write may already have published newer rows
+        if (!UnitOfWork.isActive()) {
+            snapshot.compareAndSet(null, loaded);
+        }
+        return loaded;
+    }
+
+    private void reload() {
+        snapshot.set(null);
+        if (UnitOfWork.isActive()) {
+            return;
+        }
+        try {
+            snapshot.set(new Snapshot(delegate.findAll()));
+        } catch (SQLException e) {
+            // Left empty: the next lookup retries the load
+            System.err.println("CachedAttackTypeDAO: Reload failed: " + e.getMessage());
+        }
+    }
+
+    private static String key(String attackName) {
+        return attackName.toLowerCase(Locale.ROOT);
+    }
+
+    private static AttackType copy(AttackType type) {
+        if (type == null) {
+            return null;
+        }
+        AttackType copy = new AttackType(type.getAttackName(), type.getDescription(), type.getSeverityLevel());
+        copy.setAttackTypeID(type.getAttackTypeID());
+        return copy;
+    }
+
+    /**
+     * One read of the whole table, never modified after construction
+     */
+    private static final class Snapshot {
+        private final List<AttackType> all;
+        private final Map<Integer, AttackType> byId;
+        private final Map<String, AttackType> byName;
+
+        Snapshot(List<AttackType> rows) {
+            Map<Integer, AttackType> ids = new HashMap<>();
+            Map<String, AttackType> names = new HashMap<>();
+            for (AttackType type : rows) {
+                ids.put(type.getAttackTypeID(), type);
+                names.putIfAbsent(key(type.getAttackName()), type);
+            }
+            this.all = List.copyOf(rows);
+            this.byId = Map.copyOf(ids);
+            this.byName = Map.copyOf(names);
+        }
+    }
+
+    /**
+     * Lookup counts since startup; a miss is a lookup that had to read the table
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+
+        Stats(long hits, long misses, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+
+        /**
+         * Cached rows, or -1 when nothing is loaded
+         */
+        public int getSize() { return size; }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Attack type cache: %s, %d hits, %d misses (%.1f%% hit rate)",
+                    size < 0 ? "not loaded" : size + " rows", hits, misses, getHitRate() * 100);
+        }
+    }
+}
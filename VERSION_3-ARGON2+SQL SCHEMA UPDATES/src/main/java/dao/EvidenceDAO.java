@@ -1,8 +1,13 @@
 package dao;
 
 import model.Evidence;
+import util.DbExecutor;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * DAO Interface for Evidence Upload Transaction
@@ -28,13 +33,73 @@ public interface EvidenceDAO {
      */
     List<Evidence> findPending() throws SQLException;
 
+    /**
+     * Pending evidence, oldest first, one page at a time
+     * @param cursor null for the first page, else Page.getNextCursor() of the previous page
+     */
+    Page<Evidence> findPendingPage(String cursor, int limit) throws SQLException;
+
     /**
      * Update verification status (Verified / Rejected)
      */
     boolean verify(int evidenceID, String status, int adminID) throws SQLException;
 
+    /**
+     * Update verification status of many evidence items in one transaction,
+     * sent as a single JDBC batch. On error nothing is committed.
+     * @return outcome per ID in the caller's order: true if the row was updated
+     */
+    Map<Integer, Boolean> verifyBatch(Collection<Integer> evidenceIDs, String status, int adminID) throws SQLException;
+
     /**
      * Delete evidence (admin only)
      */
     boolean delete(int evidenceID) throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * Verified evidence per perpetrator, victim and submission day since the given time, from one grouped query
+     * @return number of groups passed to the handler
+     */
+    long forEachVerifiedDailyCount(LocalDateTime since, IncidentReportDAO.DailyCountHandler handler) throws SQLException;
+
+    /**
+     * The same groups for the given evidence items whatever their status, one query per SqlCatalog.MAX_ID_LIST IDs
+     * @return number of groups passed to the handler
+     */
+    long forEachDailyCount(Collection<Integer> evidenceIDs, IncidentReportDAO.DailyCountHandler handler)
+            throws SQLException;
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Boolean> uploadAsync(Evidence evidence) {
+        return DbExecutor.supply(() -> upload(evidence));
+    }
+
+    default CompletableFuture<Evidence> findByIdAsync(int evidenceID) {
+        return DbExecutor.supply(() -> findById(evidenceID));
+    }
+
+    default CompletableFuture<List<Evidence>> findByIncidentIDAsync(int incidentID) {
+        return DbExecutor.supply(() -> findByIncidentID(incidentID));
+    }
+
+    default CompletableFuture<List<Evidence>> findPendingAsync() {
+        return DbExecutor.supply(this::findPending);
+    }
+
+    default CompletableFuture<Page<Evidence>> findPendingPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findPendingPage(cursor, limit));
+    }
+
+    default CompletableFuture<Boolean> verifyAsync(int evidenceID, String status, int adminID) {
+        return DbExecutor.supply(() -> verify(evidenceID, status, adminID));
+    }
+
+    default CompletableFuture<Map<Integer, Boolean>> verifyBatchAsync(Collection<Integer> evidenceIDs, String status, int adminID) {
+        return DbExecutor.supply(() -> verifyBatch(evidenceIDs, status, adminID));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int evidenceID) {
+        return DbExecutor.supply(() -> delete(evidenceID));
+    }
+}
@@ -2,22 +2,22 @@ package dao;
 
 import model.Evidence;
 import util.DatabaseConnection;
-import util.DateUtils;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 public class EvidenceDAOImpl implements EvidenceDAO {
+    private static final RowMapper<Evidence> MAPPER = BeanRowMapper.of(Evidence.class, SqlCatalog.EVIDENCE_ROW);
 
     @Override
     public boolean upload(Evidence evidence) throws SQLException {
-        String sql = """
-            INSERT INTO EvidenceUpload 
-            (IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus, AdminID) 
-            VALUES (?, ?, ?, ?, 'Pending', NULL)
-            """;
+        String sql = SqlCatalog.EVIDENCE_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -25,7 +25,7 @@ public class EvidenceDAOImpl implements EvidenceDAO {
             stmt.setInt(1, evidence.getIncidentID());
             stmt.setString(2, evidence.getEvidenceType());
             stmt.setString(3, evidence.getFilePath());
-            stmt.setString(4, DateUtils.toDatabaseFormat(LocalDateTime.now()));
+            stmt.setObject(4, LocalDateTime.now());
 
             if (stmt.executeUpdate() > 0) {
                 try (ResultSet keys = stmt.getGeneratedKeys()) {
@@ -43,34 +43,41 @@ public class EvidenceDAOImpl implements EvidenceDAO {
 
     @Override
     public Evidence findById(int evidenceID) throws SQLException {
-        String sql = "SELECT * FROM EvidenceUpload WHERE EvidenceID = ?";
+        String sql = SqlCatalog.EVIDENCE_FIND_BY_ID;
         return executeQuery(sql, stmt -> stmt.setInt(1, evidenceID));
     }
 
     @Override
     public List<Evidence> findByIncidentID(int incidentID) throws SQLException {
-        return findByColumn("IncidentID", incidentID);
+        return findList(SqlCatalog.EVIDENCE_FIND_BY_INCIDENT, incidentID);
     }
 
     @Override
     public List<Evidence> findPending() throws SQLException {
         List<Evidence> list = new ArrayList<>();
-        String sql = "SELECT * FROM EvidenceUpload WHERE VerifiedStatus = 'Pending' ORDER BY SubmissionDate";
+        String sql = SqlCatalog.EVIDENCE_FIND_PENDING;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToEvidence(rs));
+                list.add(MAPPER.map(rs));
             }
         }
         return list;
     }
 
+    @Override
+    public Page<Evidence> findPendingPage(String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.EVIDENCE_PENDING_PAGE.fetch(conn, cursor, limit, MAPPER);
+        }
+    }
+
     @Override
     public boolean verify(int evidenceID, String status, int adminID) throws SQLException {
-        String sql = "UPDATE EvidenceUpload SET VerifiedStatus = ?, AdminID = ? WHERE EvidenceID = ?";
+        String sql = SqlCatalog.EVIDENCE_UPDATE_STATUS;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -83,9 +90,14 @@ public class EvidenceDAOImpl implements EvidenceDAO {
         }
     }
 
+    @Override
+    public Map<Integer, Boolean> verifyBatch(Collection<Integer> evidenceIDs, String status, int adminID) throws SQLException {
+        return StatusBatch.update(SqlCatalog.EVIDENCE_UPDATE_STATUS, "evidence.verify", evidenceIDs, status, adminID);
+    }
+
     @Override
     public boolean delete(int evidenceID) throws SQLException {
-        String sql = "DELETE FROM EvidenceUpload WHERE EvidenceID = ?";
+        String sql = SqlCatalog.EVIDENCE_DELETE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -95,9 +107,54 @@ public class EvidenceDAOImpl implements EvidenceDAO {
         }
     }
 
-    private List<Evidence> findByColumn(String column, int value) throws SQLException {
+    @Override
+    public long forEachVerifiedDailyCount(LocalDateTime since, IncidentReportDAO.DailyCountHandler handler)
+            throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SqlCatalog.EVIDENCE_VERIFIED_DAILY_COUNTS_SINCE)) {
+
+            stmt.setObject(1, since);
+            return readDailyCounts(stmt, handler);
+        }
+    }
+
+    @Override
+    public long forEachDailyCount(Collection<Integer> evidenceIDs, IncidentReportDAO.DailyCountHandler handler)
+            throws SQLException {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(evidenceIDs));
+        long groups = 0;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += SqlCatalog.MAX_ID_LIST) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + SqlCatalog.MAX_ID_LIST, ids.size()));
+                String sql = SqlCatalog.withIdList(SqlCatalog.EVIDENCE_DAILY_COUNTS_BY_IDS, chunk.size());
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int size = SqlCatalog.idListSize(chunk.size());
+                    for (int i = 0; i < size; i++) {
+                        // Padding repeats the last ID
+                        stmt.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    groups += readDailyCounts(stmt, handler);
+                }
+            }
+        }
+        return groups;
+    }
+
+    private static long readDailyCounts(PreparedStatement stmt, IncidentReportDAO.DailyCountHandler handler)
+            throws SQLException {
+        long groups = 0;
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                handler.accept(rs.getInt(1), rs.getInt(2), rs.getObject(3, LocalDate.class), rs.getInt(4));
+                groups++;
+            }
+        }
+        return groups;
+    }
+
+    private List<Evidence> findList(String sql, int value) throws SQLException {
         List<Evidence> list = new ArrayList<>();
-        String sql = "SELECT * FROM EvidenceUpload WHERE " + column + " = ? ORDER BY SubmissionDate DESC";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -105,7 +162,7 @@ public class EvidenceDAOImpl implements EvidenceDAO {
             stmt.setInt(1, value);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    list.add(mapResultSetToEvidence(rs));
+                    list.add(MAPPER.map(rs));
                 }
             }
         }
@@ -119,35 +176,13 @@ public class EvidenceDAOImpl implements EvidenceDAO {
             setter.setValues(stmt);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToEvidence(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
         return null;
     }
 
-    private Evidence mapResultSetToEvidence(ResultSet rs) throws SQLException {
-        Evidence e = new Evidence();
-        e.setEvidenceID(rs.getInt("EvidenceID"));
-        e.setIncidentID(rs.getInt("IncidentID"));
-        e.setEvidenceType(rs.getString("EvidenceType"));
-        e.setFilePath(rs.getString("FilePath"));
-
-        String dateStr = rs.getString("SubmissionDate");
-        if (dateStr != null) {
-            e.setSubmissionDate(DateUtils.fromDatabaseFormat(dateStr));
-        }
-
-        e.setVerifiedStatus(rs.getString("VerifiedStatus"));
-        e.setAdminID(getInteger(rs, "AdminID"));
-        return e;
-    }
-
-    private Integer getInteger(ResultSet rs, String column) throws SQLException {
-        int val = rs.getInt(column);
-        return rs.wasNull() ? null : val;
-    }
-
     @FunctionalInterface
     private interface PreparedStatementSetter {
         void setValues(PreparedStatement stmt) throws SQLException;
@@ -1,16 +1,45 @@
 package dao;
 
 import model.IncidentReport;
+import model.IncidentReportView;
+import util.DbExecutor;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface IncidentReportDAO {
     boolean create(IncidentReport report) throws SQLException;
     IncidentReport findById(int incidentID) throws SQLException;
     List<IncidentReport> findByVictimID(int victimID) throws SQLException;
+
+    /**
+     * A victim's reports, newest first, without the Description column;
+     * for pickers that only show the ID, date and status
+     */
+    List<IncidentReport> findSummariesByVictimID(int victimID) throws SQLException;
     List<IncidentReport> findByPerpetratorID(int perpetratorID) throws SQLException;
     List<IncidentReport> findPending() throws SQLException;
 
+    /**
+     * Pending reports, oldest first, one page at a time
+     * @param cursor null for the first page, else Page.getNextCursor() of the previous page
+     */
+    Page<IncidentReport> findPendingPage(String cursor, int limit) throws SQLException;
+
+    /**
+     * A victim's reports, newest first, one page at a time
+     */
+    Page<IncidentReport> findByVictimIDPage(int victimID, String cursor, int limit) throws SQLException;
+
+    /**
+     * A victim's reports with attack, perpetrator and admin names joined in, newest first, one page at a time
+     */
+    Page<IncidentReportView> findViewsByVictimIDPage(int victimID, String cursor, int limit) throws SQLException;
+
     /**
      * Updates the administrative status of an incident report (e.g., 'Verified', 'Rejected', 'Under Review').
      * Called by admins during moderation.
@@ -22,8 +51,93 @@ public interface IncidentReportDAO {
      * @throws SQLException if a database access error occurs
      */
     boolean updateStatus(int incidentID, String status, Integer adminID) throws SQLException;
+
+    /**
+     * Updates the status of many reports in one transaction, sent to the server as a single JDBC batch.
+     * Either every update is committed or, on error, none is.
+     *
+     * @param incidentIDs reports to update; duplicates are ignored
+     * @param status      the new status
+     * @param adminID     the admin performing the action, or null
+     * @return outcome per ID in the caller's order: true if the row was updated, false if no such report
+     * @throws SQLException if the batch fails (the transaction is rolled back)
+     */
+    Map<Integer, Boolean> updateStatusBatch(Collection<Integer> incidentIDs, String status, Integer adminID) throws SQLException;
     boolean delete(int incidentID) throws SQLException;
     int countVictimsLast7Days(int perpetratorID) throws SQLException;
     int countUniqueVictimsLast7Days(int perpetratorID) throws SQLException; // ADD THIS
     int countIncidentsLastMonth(int victimID) throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * Reports per perpetrator, victim and calendar day since the given time, from one grouped query
+     * @return number of groups passed to the handler
+     */
+    long forEachDailyCount(LocalDateTime since, DailyCountHandler handler) throws SQLException;
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Boolean> createAsync(IncidentReport report) {
+        return DbExecutor.supply(() -> create(report));
+    }
+
+    default CompletableFuture<IncidentReport> findByIdAsync(int incidentID) {
+        return DbExecutor.supply(() -> findById(incidentID));
+    }
+
+    default CompletableFuture<List<IncidentReport>> findByVictimIDAsync(int victimID) {
+        return DbExecutor.supply(() -> findByVictimID(victimID));
+    }
+
+    default CompletableFuture<List<IncidentReport>> findByPerpetratorIDAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> findByPerpetratorID(perpetratorID));
+    }
+
+    default CompletableFuture<List<IncidentReport>> findPendingAsync() {
+        return DbExecutor.supply(this::findPending);
+    }
+
+    default CompletableFuture<Page<IncidentReport>> findPendingPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findPendingPage(cursor, limit));
+    }
+
+    default CompletableFuture<Page<IncidentReport>> findByVictimIDPageAsync(int victimID, String cursor, int limit) {
+        return DbExecutor.supply(() -> findByVictimIDPage(victimID, cursor, limit));
+    }
+
+    default CompletableFuture<Page<IncidentReportView>> findViewsByVictimIDPageAsync(int victimID, String cursor,
+                                                                                    int limit) {
+        return DbExecutor.supply(() -> findViewsByVictimIDPage(victimID, cursor, limit));
+    }
+
+    default CompletableFuture<Boolean> updateStatusAsync(int incidentID, String status, Integer adminID) {
+        return DbExecutor.supply(() -> updateStatus(incidentID, status, adminID));
+    }
+
+    default CompletableFuture<Map<Integer, Boolean>> updateStatusBatchAsync(Collection<Integer> incidentIDs, String status, Integer adminID) {
+        return DbExecutor.supply(() -> updateStatusBatch(incidentIDs, status, adminID));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int incidentID) {
+        return DbExecutor.supply(() -> delete(incidentID));
+    }
+
+    default CompletableFuture<Integer> countVictimsLast7DaysAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> countVictimsLast7Days(perpetratorID));
+    }
+
+    default CompletableFuture<Integer> countUniqueVictimsLast7DaysAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> countUniqueVictimsLast7Days(perpetratorID));
+    }
+
+    default CompletableFuture<Integer> countIncidentsLastMonthAsync(int victimID) {
+        return DbExecutor.supply(() -> countIncidentsLastMonth(victimID));
+    }
+
+    /**
+     * Receives one group of {@link #forEachDailyCount} (also used for evidence, see EvidenceDAO)
+     */
+    @FunctionalInterface
+    interface DailyCountHandler {
+        void accept(int perpetratorID, int victimID, LocalDate day, int reports);
+    }
+}
@@ -1,20 +1,29 @@
 package dao;
 
 import model.IncidentReport;
+import model.IncidentReportView;
 import util.DatabaseConnection;
-import util.DateUtils;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public class IncidentReportDAOImpl implements IncidentReportDAO {
+    private static final RowMapper<IncidentReport> REPORT_MAPPER =
+            BeanRowMapper.of(IncidentReport.class, SqlCatalog.INCIDENT_ROW);
+    // Same class, narrower shape: Description stays null
+    private static final RowMapper<IncidentReport> SUMMARY_MAPPER =
+            BeanRowMapper.of(IncidentReport.class, SqlCatalog.INCIDENT_SUMMARY_ROW);
+    private static final RowMapper<IncidentReportView> VIEW_MAPPER =
+            BeanRowMapper.of(IncidentReportView.class, SqlCatalog.INCIDENT_VIEW_ROW);
 
     @Override
     public boolean create(IncidentReport report) throws SQLException {
-        String sql = "INSERT INTO IncidentReports (VictimID, PerpetratorID, AttackTypeID, AdminID, " +
-                "DateReported, Description, Status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String sql = SqlCatalog.INCIDENT_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -23,7 +32,7 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
             stmt.setInt(2, report.getPerpetratorID());
             stmt.setInt(3, report.getAttackTypeID());
             setInteger(stmt, 4, report.getAdminID());
-            stmt.setString(5, DateUtils.toDatabaseFormat(LocalDateTime.now()));
+            stmt.setObject(5, LocalDateTime.now());
             stmt.setString(6, report.getDescription());
             stmt.setString(7, report.getStatus());
 
@@ -41,23 +50,28 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
 
     @Override
     public IncidentReport findById(int incidentID) throws SQLException {
-        String sql = "SELECT * FROM IncidentReports WHERE IncidentID = ?";
+        String sql = SqlCatalog.INCIDENT_FIND_BY_ID;
         return executeQuery(sql, stmt -> stmt.setInt(1, incidentID));
     }
 
     @Override
     public List<IncidentReport> findByVictimID(int victimID) throws SQLException {
-        return findByColumn("VictimID", victimID);
+        return findList(SqlCatalog.INCIDENT_FIND_BY_VICTIM, victimID, REPORT_MAPPER);
+    }
+
+    @Override
+    public List<IncidentReport> findSummariesByVictimID(int victimID) throws SQLException {
+        return findList(SqlCatalog.INCIDENT_SUMMARY_BY_VICTIM, victimID, SUMMARY_MAPPER);
     }
 
     @Override
     public List<IncidentReport> findByPerpetratorID(int perpetratorID) throws SQLException {
-        return findByColumn("PerpetratorID", perpetratorID);
+        return findList(SqlCatalog.INCIDENT_FIND_BY_PERPETRATOR, perpetratorID, REPORT_MAPPER);
     }
 
     @Override
     public List<IncidentReport> findPending() throws SQLException {
-        String sql = "SELECT * FROM IncidentReports WHERE Status = 'Pending' ORDER BY DateReported";
+        String sql = SqlCatalog.INCIDENT_FIND_PENDING;
         List<IncidentReport> list = new ArrayList<>();
 
         try (Connection conn = DatabaseConnection.getConnection();
@@ -65,15 +79,37 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToIncidentReport(rs));
+                list.add(REPORT_MAPPER.map(rs));
             }
         }
         return list;
     }
 
+    @Override
+    public Page<IncidentReport> findPendingPage(String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.INCIDENT_PENDING_PAGE.fetch(conn, cursor, limit, REPORT_MAPPER);
+        }
+    }
+
+    @Override
+    public Page<IncidentReport> findByVictimIDPage(int victimID, String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.INCIDENT_BY_VICTIM_PAGE.fetch(conn, cursor, limit, REPORT_MAPPER, victimID);
+        }
+    }
+
+    @Override
+    public Page<IncidentReportView> findViewsByVictimIDPage(int victimID, String cursor, int limit)
+            throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.INCIDENT_VIEW_BY_VICTIM_PAGE.fetch(conn, cursor, limit, VIEW_MAPPER, victimID);
+        }
+    }
+
     @Override
     public boolean updateStatus(int incidentID, String status, Integer adminID) throws SQLException {
-        String sql = "UPDATE IncidentReports SET Status = ?, AdminID = ? WHERE IncidentID = ?";
+        String sql = SqlCatalog.INCIDENT_UPDATE_STATUS;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -86,9 +122,14 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
         }
     }
 
+    @Override
+    public Map<Integer, Boolean> updateStatusBatch(Collection<Integer> incidentIDs, String status, Integer adminID) throws SQLException {
+        return StatusBatch.update(SqlCatalog.INCIDENT_UPDATE_STATUS, "incident.updateStatus", incidentIDs, status, adminID);
+    }
+
     @Override
     public boolean delete(int incidentID) throws SQLException {
-        String sql = "DELETE FROM IncidentReports WHERE IncidentID = ?";
+        String sql = SqlCatalog.INCIDENT_DELETE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -100,12 +141,7 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
 
     @Override
     public int countVictimsLast7Days(int perpetratorID) throws SQLException {
-        String sql = """
-            SELECT COUNT(DISTINCT VictimID) 
-            FROM IncidentReports 
-            WHERE PerpetratorID = ? 
-              AND DateReported >= DATE_SUB(CURDATE(), INTERVAL 7 DAY)
-            """;
+        String sql = SqlCatalog.INCIDENT_COUNT_VICTIMS_LAST_7_DAYS;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -119,12 +155,7 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
 
     @Override
     public int countUniqueVictimsLast7Days(int perpetratorID) throws SQLException {
-        String sql = """
-        SELECT COUNT(DISTINCT VictimID) 
-        FROM IncidentReports 
-        WHERE PerpetratorID = ? 
-          AND DateReported >= DATE_SUB(CURDATE(), INTERVAL 7 DAY)
-        """;
+        String sql = SqlCatalog.INCIDENT_COUNT_VICTIMS_LAST_7_DAYS;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -136,15 +167,28 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
         }
     }
 
+    @Override
+    public long forEachDailyCount(LocalDateTime since, DailyCountHandler handler) throws SQLException {
+        String sql = SqlCatalog.INCIDENT_DAILY_COUNTS_SINCE;
+        long groups = 0;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, since);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.accept(rs.getInt(1), rs.getInt(2), rs.getObject(3, LocalDate.class), rs.getInt(4));
+                    groups++;
+                }
+            }
+        }
+        return groups;
+    }
+
     @Override
     public int countIncidentsLastMonth(int victimID) throws SQLException {
-        String sql = """
-            SELECT COUNT(*) 
-            FROM IncidentReports 
-            WHERE VictimID = ? 
-              AND YEAR(DateReported) = YEAR(CURDATE()) 
-              AND MONTH(DateReported) = MONTH(CURDATE())
-            """;
+        String sql = SqlCatalog.INCIDENT_COUNT_THIS_MONTH_FOR_VICTIM;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -156,9 +200,8 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
         }
     }
 
-    private List<IncidentReport> findByColumn(String column, int value) throws SQLException {
+    private List<IncidentReport> findList(String sql, int value, RowMapper<IncidentReport> mapper) throws SQLException {
         List<IncidentReport> list = new ArrayList<>();
-        String sql = "SELECT * FROM IncidentReports WHERE " + column + " = ? ORDER BY DateReported DESC";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -166,7 +209,7 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
             stmt.setInt(1, value);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    list.add(mapResultSetToIncidentReport(rs));
+                    list.add(mapper.map(rs));
                 }
             }
         }
@@ -180,26 +223,13 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
             setter.setValues(stmt);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToIncidentReport(rs);
+                    return REPORT_MAPPER.map(rs);
                 }
             }
         }
         return null;
     }
 
-    private IncidentReport mapResultSetToIncidentReport(ResultSet rs) throws SQLException {
-        IncidentReport ir = new IncidentReport();
-        ir.setIncidentID(rs.getInt("IncidentID"));
-        ir.setVictimID(rs.getInt("VictimID"));
-        ir.setPerpetratorID(rs.getInt("PerpetratorID"));
-        ir.setAttackTypeID(rs.getInt("AttackTypeID"));
-        ir.setAdminID(getInteger(rs, "AdminID"));
-        ir.setDateReported(DateUtils.fromDatabaseFormat(rs.getString("DateReported")));
-        ir.setDescription(rs.getString("Description"));
-        ir.setStatus(rs.getString("Status"));
-        return ir;
-    }
-
     private void setInteger(PreparedStatement stmt, int index, Integer value) throws SQLException {
         if (value == null) {
             stmt.setNull(index, Types.INTEGER);
@@ -208,11 +238,6 @@ public class IncidentReportDAOImpl implements IncidentReportDAO {
         }
     }
 
-    private Integer getInteger(ResultSet rs, String column) throws SQLException {
-        int val = rs.getInt(column);
-        return rs.wasNull() ? null : val;
-    }
-
     @FunctionalInterface
     private interface PreparedStatementSetter {
         void setValues(PreparedStatement stmt) throws SQLException;
@@ -0,0 +1,152 @@
+package dao;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination for one list query.
+ *
+ * Rows are ordered by a date column and then the primary key, and each page
+ * starts strictly after the last row of the previous one. The server only
+ * reads the rows it returns, however far the user has scrolled, where OFFSET
+ * would re-read every skipped row. NULL dates sort the way MySQL sorts them
+ * (first ascending, last descending) and the cursor remembers when paging
+ * has reached them.
+ *
+ * The three statements (first page, after a date, after a NULL date) are
+ * built once from a {@link Projection}, so the statement cache sees the same
+ * strings every time and the rows come back in the projection's column order.
+ */
+public final class Keyset {
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final int sortIndex;
+    private final int idIndex;
+    private final String firstPage;
+    private final String afterValue;
+    private final String afterNull;
+
+    private Keyset(Projection projection, String table, String where, String sortColumn, String idColumn,
+                   boolean descending) {
+        // Both are read from every row; fails at class init if the projection leaves one out
+        this.sortIndex = projection.index(sortColumn);
+        this.idIndex = projection.index(idColumn);
+
+        String s = sortColumn;
+        String id = idColumn;
+        String order = descending
+                ? " ORDER BY " + s + " DESC, " + id + " DESC LIMIT ?"
+                : " ORDER BY " + s + ", " + id + " LIMIT ?";
+        String seekValue = descending
+                ? "(" + s + " < ? OR (" + s + " = ? AND " + id + " < ?) OR " + s + " IS NULL)"
+                : "(" + s + " > ? OR (" + s + " = ? AND " + id + " > ?))";
+        String seekNull = descending
+                ? "(" + s + " IS NULL AND " + id + " < ?)"
+                : "((" + s + " IS NULL AND " + id + " > ?) OR " + s + " IS NOT NULL)";
+        String filter = where == null ? " WHERE " : " WHERE " + where + " AND ";
+        String select = "SELECT " + projection.columns() + " FROM " + table;
+
+        this.firstPage = select + (where == null ? "" : " WHERE " + where) + order;
+        this.afterValue = select + filter + seekValue + order;
+        this.afterNull = select + filter + seekNull + order;
+    }
+
+    /**
+     * Newest first: ORDER BY sortColumn DESC, idColumn DESC
+     * @param where filter without the WHERE keyword, or null
+     */
+    public static Keyset descending(Projection projection, String table, String where, String sortColumn,
+                                    String idColumn) {
+        return new Keyset(projection, table, where, sortColumn, idColumn, true);
+    }
+
+    /**
+     * Oldest first: ORDER BY sortColumn, idColumn
+     * @param where filter without the WHERE keyword, or null
+     */
+    public static Keyset ascending(Projection projection, String table, String where, String sortColumn,
+                                   String idColumn) {
+        return new Keyset(projection, table, where, sortColumn, idColumn, false);
+    }
+
+    /**
+     * Read one page
+     * @param cursor null for the first page, else a cursor from a previous page of this query
+     * @param limit rows per page, clamped to 1..MAX_PAGE_SIZE
+     * @param whereParams values for the ? in the where filter, in order
+     */
+    <T> Page<T> fetch(Connection conn, String cursor, int limit, RowMapper<T> mapper, Object... whereParams)
+            throws SQLException {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Position after = cursor == null ? null : Position.decode(cursor);
+        String sql = after == null ? firstPage : after.key == null ? afterNull : afterValue;
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (Object param : whereParams) {
+                stmt.setObject(index++, param);
+            }
+            if (after != null) {
+                if (after.key != null) {
+                    stmt.setString(index++, after.key);
+                    stmt.setString(index++, after.key);
+                }
+                stmt.setInt(index++, after.id);
+            }
+            // One extra row tells us whether there is a next page
+            stmt.setInt(index, size + 1);
+
+            List<T> items = new ArrayList<>(Math.min(size, 256));
+            String lastKey = null;
+            int lastId = 0;
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (items.size() == size) {
+                        return new Page<>(items, new Position(lastKey, lastId).encode());
+                    }
+                    items.add(mapper.map(rs));
+                    lastKey = rs.getString(sortIndex);
+                    lastId = rs.getInt(idIndex);
+                }
+            }
+            return new Page<>(items, null);
+        }
+    }
+
+    /**
+     * Sort key and ID of the last row on a page
+     */
+    private static final class Position {
+        private final String key;
+        private final int id;
+
+        Position(String key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        String encode() {
+            String raw = key == null ? String.valueOf(id) : id + ":" + key;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Position decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int colon = raw.indexOf(':');
+                if (colon < 0) {
+                    return new Position(null, Integer.parseInt(raw));
+                }
+                return new Position(raw.substring(colon + 1), Integer.parseInt(raw.substring(0, colon)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+            }
+        }
+    }
+}
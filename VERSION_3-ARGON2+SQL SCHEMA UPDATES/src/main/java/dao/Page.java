@@ -0,0 +1,33 @@
+package dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * Pass {@link #getNextCursor()} back to the same find...Page method to get
+ * the rows that follow; it is null on the last page. Cursors are opaque and
+ * only valid for the query that produced them.
+ */
+public final class Page<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
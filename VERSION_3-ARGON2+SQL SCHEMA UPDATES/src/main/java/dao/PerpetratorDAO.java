@@ -1,8 +1,13 @@
 package dao;
 
 import model.Perpetrator;
+import util.DbExecutor;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
 
 /**
  * DAO Interface for Perpetrators
@@ -23,6 +28,12 @@ public interface PerpetratorDAO {
      */
     List<Perpetrator> findAll() throws SQLException;
 
+    /**
+     * Perpetrators by most recent incident, one page at a time
+     * @param cursor null for the first page, else Page.getNextCursor() of the previous page
+     */
+    Page<Perpetrator> findAllPage(String cursor, int limit) throws SQLException;
+
     /**
      * Create new perpetrator
      */
@@ -39,7 +50,104 @@ public interface PerpetratorDAO {
     boolean delete(int perpetratorID) throws SQLException;
 
     /**
-     * Create or update: upsert logic for incident reporting
+     * Insert, or overwrite the row with the same identifier, in one atomic statement.
+     * LastIncidentDate is set to now.
+     * @return the given perpetrator with its ID set
      */
     Perpetrator createOrUpdate(Perpetrator perpetrator) throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * Record that an identifier was reported: a new identifier is inserted as
+     * UnderReview, a known one keeps its data and only gets LastIncidentDate set
+     * to now. The upsert is one atomic statement; the row is then read back by
+     * ID on the same connection for its current threat level.
+     * @return the perpetrator as stored
+     */
+    Perpetrator recordIncident(String identifier, String identifierType, String associatedName) throws SQLException;
+
+    /**
+     * Bulk upsert, e.g. from a blocklist file. Rows are sent as batched
+     * multi-row INSERT ... ON DUPLICATE KEY UPDATE statements and committed
+     * in chunks, so memory and transaction size stay bounded however many
+     * entries there are. New identifiers get the entry's threat level; known
+     * ones keep theirs. A failure rolls back the current chunk only; the
+     * upsert is idempotent, so the import can simply be run again.
+     *
+     * @param entries  identifier, type, optional name and threat level of each entry; read once, lazily
+     * @param progress called after each committed chunk with the number of entries written so far
+     * @return number of entries written
+     */
+    long importBlocklist(Iterable<Perpetrator> entries, LongConsumer progress) throws SQLException;
+
+    /**
+     * Current threat level of each perpetrator, one query per SqlCatalog.MAX_ID_LIST IDs
+     * @return perpetratorID -> threat level; IDs that do not exist are absent
+     */
+    Map<Integer, String> findThreatLevels(Collection<Integer> perpetratorIDs) throws SQLException;
+
+    /**
+     * Set the threat level of many perpetrators and log each change, in one
+     * transaction with one batched UPDATE and one batched log INSERT. A
+     * perpetrator whose level no longer matches the expected one is left
+     * alone and not logged.
+     * @param expectedLevels perpetratorID -> level it is expected to have now
+     * @param adminID logged as the admin who made the change; null for automatic changes
+     * @return perpetratorID -> whether it was changed
+     */
+    Map<Integer, Boolean> changeThreatLevelBatch(Map<Integer, String> expectedLevels, String newLevel, Integer adminID)
+            throws SQLException;
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Perpetrator> findByIdentifierAsync(String identifier) {
+        return DbExecutor.supply(() -> findByIdentifier(identifier));
+    }
+
+    default CompletableFuture<Perpetrator> findByIdAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> findById(perpetratorID));
+    }
+
+    default CompletableFuture<List<Perpetrator>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Page<Perpetrator>> findAllPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findAllPage(cursor, limit));
+    }
+
+    default CompletableFuture<Boolean> createAsync(Perpetrator perpetrator) {
+        return DbExecutor.supply(() -> create(perpetrator));
+    }
+
+    default CompletableFuture<Boolean> updateAsync(Perpetrator perpetrator) {
+        return DbExecutor.supply(() -> update(perpetrator));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> delete(perpetratorID));
+    }
+
+    default CompletableFuture<Perpetrator> createOrUpdateAsync(Perpetrator perpetrator) {
+        return DbExecutor.supply(() -> createOrUpdate(perpetrator));
+    }
+
+    default CompletableFuture<Perpetrator> recordIncidentAsync(String identifier, String identifierType, String associatedName) {
+        return DbExecutor.supply(() -> recordIncident(identifier, identifierType, associatedName));
+    }
+
+    /**
+     * progress is called on the executor thread; use Platform.runLater to show it
+     */
+    default CompletableFuture<Long> importBlocklistAsync(Iterable<Perpetrator> entries, LongConsumer progress) {
+        return DbExecutor.supply(() -> importBlocklist(entries, progress));
+    }
+
+    default CompletableFuture<Map<Integer, String>> findThreatLevelsAsync(Collection<Integer> perpetratorIDs) {
+        return DbExecutor.supply(() -> findThreatLevels(perpetratorIDs));
+    }
+
+    default CompletableFuture<Map<Integer, Boolean>> changeThreatLevelBatchAsync(Map<Integer, String> expectedLevels,
+                                                                                 String newLevel, Integer adminID) {
+        return DbExecutor.supply(() -> changeThreatLevelBatch(expectedLevels, newLevel, adminID));
+    }
+}
@@ -2,18 +2,28 @@ package dao;
 
 import model.Perpetrator;
 import util.DatabaseConnection;
-import util.DateUtils;
+import util.QueryMetrics;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
 
 public class PerpetratorDAOImpl implements PerpetratorDAO {
+    // Entries per executeBatch call and per commit during a blocklist import
+    private static final int IMPORT_CHUNK = 1000;
+
+    private static final RowMapper<Perpetrator> MAPPER =
+            BeanRowMapper.of(Perpetrator.class, SqlCatalog.PERPETRATOR_ROW);
 
     @Override
     public Perpetrator findByIdentifier(String identifier) throws SQLException {
-        String sql = "SELECT * FROM Perpetrators WHERE Identifier = ?";
+        String sql = SqlCatalog.PERPETRATOR_FIND_BY_IDENTIFIER;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -21,7 +31,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
             stmt.setString(1, identifier);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToPerpetrator(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
@@ -30,7 +40,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
 
     @Override
     public Perpetrator findById(int perpetratorID) throws SQLException {
-        String sql = "SELECT * FROM Perpetrators WHERE PerpetratorID = ?";
+        String sql = SqlCatalog.PERPETRATOR_FIND_BY_ID;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -38,7 +48,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
             stmt.setInt(1, perpetratorID);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToPerpetrator(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
@@ -48,23 +58,29 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
     @Override
     public List<Perpetrator> findAll() throws SQLException {
         List<Perpetrator> list = new ArrayList<>();
-        String sql = "SELECT * FROM Perpetrators ORDER BY LastIncidentDate DESC";
+        String sql = SqlCatalog.PERPETRATOR_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToPerpetrator(rs));
+                list.add(MAPPER.map(rs));
             }
         }
         return list;
     }
 
+    @Override
+    public Page<Perpetrator> findAllPage(String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.PERPETRATOR_PAGE.fetch(conn, cursor, limit, MAPPER);
+        }
+    }
+
     @Override
     public boolean create(Perpetrator perpetrator) throws SQLException {
-        String sql = "INSERT INTO Perpetrators (Identifier, IdentifierType, AssociatedName, ThreatLevel, LastIncidentDate) " +
-                "VALUES (?, ?, ?, ?, ?)";
+        String sql = SqlCatalog.PERPETRATOR_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -73,7 +89,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
             stmt.setString(2, perpetrator.getIdentifierType());
             stmt.setString(3, perpetrator.getAssociatedName());
             stmt.setString(4, perpetrator.getThreatLevel());
-            stmt.setString(5, DateUtils.toDatabaseFormat(perpetrator.getLastIncidentDate()));
+            stmt.setObject(5, perpetrator.getLastIncidentDate());
 
             if (stmt.executeUpdate() > 0) {
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
@@ -89,8 +105,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
 
     @Override
     public boolean update(Perpetrator perpetrator) throws SQLException {
-        String sql = "UPDATE Perpetrators SET IdentifierType = ?, AssociatedName = ?, " +
-                "ThreatLevel = ?, LastIncidentDate = ? WHERE PerpetratorID = ?";
+        String sql = SqlCatalog.PERPETRATOR_UPDATE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -98,7 +113,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
             stmt.setString(1, perpetrator.getIdentifierType());
             stmt.setString(2, perpetrator.getAssociatedName());
             stmt.setString(3, perpetrator.getThreatLevel());
-            stmt.setString(4, DateUtils.toDatabaseFormat(perpetrator.getLastIncidentDate()));
+            stmt.setObject(4, perpetrator.getLastIncidentDate());
             stmt.setInt(5, perpetrator.getPerpetratorID());
 
             return stmt.executeUpdate() > 0;
@@ -107,7 +122,7 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
 
     @Override
     public boolean delete(int perpetratorID) throws SQLException {
-        String sql = "DELETE FROM Perpetrators WHERE PerpetratorID = ?";
+        String sql = SqlCatalog.PERPETRATOR_DELETE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -119,35 +134,192 @@ public class PerpetratorDAOImpl implements PerpetratorDAO {
 
     @Override
     public Perpetrator createOrUpdate(Perpetrator perpetrator) throws SQLException {
-        Perpetrator existing = findByIdentifier(perpetrator.getIdentifier());
-        if (existing != null) {
-            // Update existing
-            existing.setIdentifierType(perpetrator.getIdentifierType());
-            existing.setAssociatedName(perpetrator.getAssociatedName());
-            existing.setThreatLevel(perpetrator.getThreatLevel());
-            existing.setLastIncidentDate(LocalDateTime.now());
-            update(existing);
-            return existing;
-        } else {
-            // Create new
-            perpetrator.setLastIncidentDate(LocalDateTime.now());
-            create(perpetrator);
-            return perpetrator;
+        String sql = SqlCatalog.PERPETRATOR_UPSERT;
+        perpetrator.setLastIncidentDate(LocalDateTime.now());
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, perpetrator.getIdentifier());
+            stmt.setString(2, perpetrator.getIdentifierType());
+            stmt.setString(3, perpetrator.getAssociatedName());
+            stmt.setString(4, perpetrator.getThreatLevel());
+            stmt.setObject(5, perpetrator.getLastIncidentDate());
+            stmt.executeUpdate();
+            perpetrator.setPerpetratorID(upsertedID(stmt));
+        }
+        return perpetrator;
+    }
+
+    @Override
+    public Perpetrator recordIncident(String identifier, String identifierType, String associatedName) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            int id;
+            try (PreparedStatement stmt = conn.prepareStatement(SqlCatalog.PERPETRATOR_RECORD_INCIDENT,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                stmt.setString(1, identifier);
+                stmt.setString(2, identifierType);
+                stmt.setString(3, associatedName);
+                stmt.setObject(4, LocalDateTime.now());
+                stmt.executeUpdate();
+                id = upsertedID(stmt);
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(SqlCatalog.PERPETRATOR_FIND_BY_ID)) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return MAPPER.map(rs);
+                    }
+                }
+            }
+        }
+        throw new SQLException("Perpetrator " + identifier + " was not found after upsert");
+    }
+
+    @Override
+    public long importBlocklist(Iterable<Perpetrator> entries, LongConsumer progress) throws SQLException {
+        String sql = SqlCatalog.PERPETRATOR_IMPORT;
+        long written = 0;
+        long start = System.nanoTime();
+        boolean failed = true;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int pending = 0;
+                for (Perpetrator p : entries) {
+                    stmt.setString(1, p.getIdentifier());
+                    stmt.setString(2, p.getIdentifierType());
+                    stmt.setString(3, p.getAssociatedName());
+                    stmt.setString(4, p.getThreatLevel());
+                    stmt.addBatch();
+                    if (++pending == IMPORT_CHUNK) {
+                        written += commitChunk(conn, stmt, pending, written, progress);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    written += commitChunk(conn, stmt, pending, written, progress);
+                }
+                failed = false;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                System.err.println("PerpetratorDAOImpl: Import stopped after " + written + " entries: " + e.getMessage());
+                throw e;
+            }
+        } finally {
+            int items = (int) Math.min(written, Integer.MAX_VALUE);
+            QueryMetrics.getInstance().recordBatch("perpetrator.import", items, System.nanoTime() - start, failed);
+        }
+        return written;
+    }
+
+    @Override
+    public Map<Integer, String> findThreatLevels(Collection<Integer> perpetratorIDs) throws SQLException {
+        Map<Integer, String> levels = new LinkedHashMap<>();
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(perpetratorIDs));
+        if (ids.isEmpty()) {
+            return levels;
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += SqlCatalog.MAX_ID_LIST) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + SqlCatalog.MAX_ID_LIST, ids.size()));
+                String sql = SqlCatalog.withIdList(SqlCatalog.PERPETRATOR_THREAT_LEVELS_BY_IDS, chunk.size());
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int size = SqlCatalog.idListSize(chunk.size());
+                    for (int i = 0; i < size; i++) {
+                        // Padding repeats the last ID
+                        stmt.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            levels.put(rs.getInt(1), rs.getString(2));
+                        }
+                    }
+                }
+            }
+        }
+        return levels;
+    }
+
+    @Override
+    public Map<Integer, Boolean> changeThreatLevelBatch(Map<Integer, String> expectedLevels, String newLevel,
+                                                        Integer adminID) throws SQLException {
+        Map<Integer, Boolean> outcomes = new LinkedHashMap<>();
+        if (expectedLevels.isEmpty()) {
+            return outcomes;
+        }
+        long start = System.nanoTime();
+        boolean committed = false;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement update = conn.prepareStatement(SqlCatalog.PERPETRATOR_CHANGE_THREAT_LEVEL);
+                 PreparedStatement log = conn.prepareStatement(SqlCatalog.THREAT_LOG_INSERT)) {
+
+                List<Integer> ids = new ArrayList<>(expectedLevels.keySet());
+                for (int id : ids) {
+                    update.setString(1, newLevel);
+                    update.setInt(2, id);
+                    update.setString(3, expectedLevels.get(id));
+                    update.addBatch();
+                }
+                int[] counts = update.executeBatch();
+
+                LocalDateTime now = LocalDateTime.now();
+                boolean logged = false;
+                for (int i = 0; i < ids.size(); i++) {
+                    boolean changed = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+                    outcomes.put(ids.get(i), changed);
+                    if (changed) {
+                        log.setInt(1, ids.get(i));
+                        log.setString(2, expectedLevels.get(ids.get(i)));
+                        log.setString(3, newLevel);
+                        log.setObject(4, now);
+                        if (adminID != null) {
+                            log.setInt(5, adminID);
+                        } else {
+                            log.setNull(5, Types.INTEGER);
+                        }
+                        log.addBatch();
+                        logged = true;
+                    }
+                }
+                if (logged) {
+                    log.executeBatch();
+                }
+                conn.commit();
+                committed = true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            QueryMetrics.getInstance().recordBatch("perpetrator.changeThreatLevel", expectedLevels.size(),
+                    System.nanoTime() - start, !committed);
         }
+        return outcomes;
     }
 
-    private Perpetrator mapResultSetToPerpetrator(ResultSet rs) throws SQLException {
-        Perpetrator p = new Perpetrator();
-        p.setPerpetratorID(rs.getInt("PerpetratorID"));
-        p.setIdentifier(rs.getString("Identifier"));
-        p.setIdentifierType(rs.getString("IdentifierType"));
-        p.setAssociatedName(rs.getString("AssociatedName"));
-        p.setThreatLevel(rs.getString("ThreatLevel"));
-
-        String dateStr = rs.getString("LastIncidentDate");
-        if (dateStr != null) {
-            p.setLastIncidentDate(DateUtils.fromDatabaseFormat(dateStr));
+    private long commitChunk(Connection conn, PreparedStatement stmt, int rows, long writtenBefore,
+                             LongConsumer progress) throws SQLException {
+        stmt.executeBatch();
+        conn.commit();
+        progress.accept(writtenBefore + rows);
+        return rows;
+    }
+
+    /**
+     * ID set by LAST_INSERT_ID(PerpetratorID): the new row's, or the existing row's on a duplicate
+     */
+    private int upsertedID(PreparedStatement stmt) throws SQLException {
+        // The driver may report a second key for an updated row; the first one is LAST_INSERT_ID()
+        try (ResultSet keys = stmt.getGeneratedKeys()) {
+            if (keys.next()) {
+                return keys.getInt(1);
+            }
         }
-        return p;
+        throw new SQLException("Upsert returned no ID");
     }
 }
\ No newline at end of file
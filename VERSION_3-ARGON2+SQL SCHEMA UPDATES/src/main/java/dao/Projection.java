@@ -0,0 +1,76 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The columns one kind of query selects, in select-list order.
+ *
+ *   static final Projection INCIDENT_ROW = Projection.of("IncidentID", "VictimID", ...);
+ *   "SELECT " + INCIDENT_ROW.columns() + " FROM IncidentReports WHERE ..."
+ *
+ * Row mappers ask the projection for each column's position once, when they
+ * are built, and then read rs.getInt(3) instead of rs.getInt("PerpetratorID"):
+ * no name lookup per row, and no column the caller does not display (such as
+ * a TEXT description) is sent by the server.
+ */
+public final class Projection {
+    private final List<String> columns;
+    private final String list;
+
+    private Projection(List<String> columns) {
+        this.columns = List.copyOf(columns);
+        this.list = String.join(", ", columns);
+    }
+
+    public static Projection of(String... columns) {
+        return new Projection(Arrays.asList(columns));
+    }
+
+    /**
+     * The same columns minus some, for a narrower use case of the same table
+     */
+    public Projection without(String... dropped) {
+        List<String> kept = new ArrayList<>(columns);
+        for (String column : dropped) {
+            if (!kept.remove(column)) {
+                throw new IllegalArgumentException("Column not in projection: " + column);
+            }
+        }
+        return new Projection(kept);
+    }
+
+    /**
+     * Comma-separated select list
+     */
+    public String columns() {
+        return list;
+    }
+
+    /**
+     * Column names in select-list order
+     */
+    public List<String> columnNames() {
+        return columns;
+    }
+
+    /**
+     * 1-based position of a column in the result set
+     * @throws IllegalArgumentException if the column is not selected
+     */
+    public int index(String column) {
+        int index = indexIfSelected(column);
+        if (index == 0) {
+            throw new IllegalArgumentException("Column not in projection: " + column);
+        }
+        return index;
+    }
+
+    /**
+     * 1-based position of a column, or 0 when this projection leaves it out
+     */
+    public int indexIfSelected(String column) {
+        return columns.indexOf(column) + 1;
+    }
+}
@@ -1,27 +1,112 @@
 package dao;
 
-import model.Evidence;
-import model.IncidentReport;
 import model.RecycleBinEvidence;
 import model.RecycleBinReport;
+import util.DbExecutor;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * DAO for archiving and restoring records via the recycle bin tables.
+ *
+ * Archive and restore are set-based: rows are copied server side with
+ * INSERT ... SELECT and removed with one DELETE, all in one transaction, so
+ * a selection of any size takes a fixed number of round trips per 500 rows
+ * and no row is ever both archived and live.
  */
 public interface RecycleBinDAO {
 
-    boolean archiveIncidentReport(IncidentReport report, int rejectedByAdminId, String reason) throws SQLException;
+    /**
+     * ArchiveReason given to evidence that goes to the bin with its report;
+     * restoring the report brings exactly this evidence back
+     */
+    String WITH_REPORT_REASON = "Archived with rejected report";
 
-    boolean archiveEvidence(Evidence evidence, int rejectedByAdminId, String reason) throws SQLException;
+    /**
+     * Move reports and all their evidence to the recycle bin
+     * @return outcome per incident ID in the caller's order: true if it was archived, false if it no longer exists
+     */
+    Map<Integer, Boolean> archiveReportsBatch(Collection<Integer> incidentIDs, int rejectedByAdminId, String reason) throws SQLException;
+
+    /**
+     * Move evidence items to the recycle bin
+     * @return outcome per evidence ID in the caller's order: true if it was archived, false if it no longer exists
+     */
+    Map<Integer, Boolean> archiveEvidenceBatch(Collection<Integer> evidenceIDs, int rejectedByAdminId, String reason) throws SQLException;
 
     List<RecycleBinReport> findAllReports() throws SQLException;
 
     List<RecycleBinEvidence> findAllEvidence() throws SQLException;
 
-    boolean restoreIncidentReport(RecycleBinReport archivedReport) throws SQLException;
+    /**
+     * Archived reports, most recently archived first, one page at a time
+     * @param cursor null for the first page, else Page.getNextCursor() of the previous page
+     */
+    Page<RecycleBinReport> findReportsPage(String cursor, int limit) throws SQLException;
+
+    /**
+     * Archived evidence, most recently archived first, one page at a time
+     */
+    Page<RecycleBinEvidence> findEvidencePage(String cursor, int limit) throws SQLException;
+
+    /**
+     * Put archived reports back, with the evidence archived along with them.
+     * A report is skipped if its IncidentID is in use again or its victim,
+     * perpetrator or attack type has since been deleted.
+     * @return outcome per bin ID in the caller's order: true if it was restored
+     */
+    Map<Integer, Boolean> restoreReportsBatch(Collection<Integer> binIDs) throws SQLException;
+
+    /**
+     * Put archived evidence back. An item is skipped if its report is not
+     * live or its EvidenceID is in use again.
+     * @return outcome per bin ID in the caller's order: true if it was restored
+     */
+    Map<Integer, Boolean> restoreEvidenceBatch(Collection<Integer> binIDs) throws SQLException;
+
+    default boolean restoreIncidentReport(RecycleBinReport archivedReport) throws SQLException {
+        return restoreReportsBatch(List.of(archivedReport.getBinID())).getOrDefault(archivedReport.getBinID(), false);
+    }
+
+    default boolean restoreEvidence(RecycleBinEvidence archivedEvidence) throws SQLException {
+        return restoreEvidenceBatch(List.of(archivedEvidence.getBinID())).getOrDefault(archivedEvidence.getBinID(), false);
+    }
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Map<Integer, Boolean>> archiveReportsBatchAsync(Collection<Integer> incidentIDs, int rejectedByAdminId, String reason) {
+        return DbExecutor.supply(() -> archiveReportsBatch(incidentIDs, rejectedByAdminId, reason));
+    }
+
+    default CompletableFuture<Map<Integer, Boolean>> archiveEvidenceBatchAsync(Collection<Integer> evidenceIDs, int rejectedByAdminId, String reason) {
+        return DbExecutor.supply(() -> archiveEvidenceBatch(evidenceIDs, rejectedByAdminId, reason));
+    }
+
+    default CompletableFuture<List<RecycleBinReport>> findAllReportsAsync() {
+        return DbExecutor.supply(this::findAllReports);
+    }
+
+    default CompletableFuture<List<RecycleBinEvidence>> findAllEvidenceAsync() {
+        return DbExecutor.supply(this::findAllEvidence);
+    }
+
+    default CompletableFuture<Page<RecycleBinReport>> findReportsPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findReportsPage(cursor, limit));
+    }
+
+    default CompletableFuture<Page<RecycleBinEvidence>> findEvidencePageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findEvidencePage(cursor, limit));
+    }
+
+    default CompletableFuture<Map<Integer, Boolean>> restoreReportsBatchAsync(Collection<Integer> binIDs) {
+        return DbExecutor.supply(() -> restoreReportsBatch(binIDs));
+    }
 
-    boolean restoreEvidence(RecycleBinEvidence archivedEvidence) throws SQLException;
+    default CompletableFuture<Map<Integer, Boolean>> restoreEvidenceBatchAsync(Collection<Integer> binIDs) {
+        return DbExecutor.supply(() -> restoreEvidenceBatch(binIDs));
+    }
 }
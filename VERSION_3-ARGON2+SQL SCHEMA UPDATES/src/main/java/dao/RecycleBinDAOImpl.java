@@ -1,81 +1,98 @@
 package dao;
 
-import model.Evidence;
-import model.IncidentReport;
 import model.RecycleBinEvidence;
 import model.RecycleBinReport;
 import util.DatabaseConnection;
-import util.DateUtils;
+import util.QueryMetrics;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 public class RecycleBinDAOImpl implements RecycleBinDAO {
-
-    private static final String INSERT_REPORT_SQL = """
-        INSERT INTO RecycleBinReports
-        (IncidentID, VictimID, PerpetratorID, AttackTypeID, DateReported, Description,
-         OriginalStatus, AdminAssignedID, RejectedByAdminID, ArchiveReason, ArchivedAt)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-
-    private static final String INSERT_EVIDENCE_SQL = """
-        INSERT INTO RecycleBinEvidence
-        (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, OriginalStatus,
-         AdminAssignedID, RejectedByAdminID, ArchiveReason, ArchivedAt)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-
-    private static final String SELECT_REPORTS_SQL = "SELECT * FROM RecycleBinReports ORDER BY ArchivedAt DESC";
-    private static final String SELECT_EVIDENCE_SQL = "SELECT * FROM RecycleBinEvidence ORDER BY ArchivedAt DESC";
-    private static final String DELETE_RECYCLE_REPORT_SQL = "DELETE FROM RecycleBinReports WHERE BinID = ?";
-    private static final String DELETE_RECYCLE_EVIDENCE_SQL = "DELETE FROM RecycleBinEvidence WHERE BinID = ?";
-
-    private static final String RESTORE_REPORT_SQL = """
-        INSERT INTO IncidentReports
-        (IncidentID, VictimID, PerpetratorID, AttackTypeID, AdminID, DateReported, Description, Status)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-
-    private static final String RESTORE_EVIDENCE_SQL = """
-        INSERT INTO EvidenceUpload
-        (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus, AdminID)
-        VALUES (?, ?, ?, ?, ?, ?, ?)
-        """;
+    private static final RowMapper<RecycleBinReport> REPORT_MAPPER =
+            BeanRowMapper.of(RecycleBinReport.class, SqlCatalog.RECYCLE_REPORT_ROW);
+    private static final RowMapper<RecycleBinEvidence> EVIDENCE_MAPPER =
+            BeanRowMapper.of(RecycleBinEvidence.class, SqlCatalog.RECYCLE_EVIDENCE_ROW);
 
     @Override
-    public boolean archiveIncidentReport(IncidentReport report, int rejectedByAdminId, String reason) throws SQLException {
+    public Map<Integer, Boolean> archiveReportsBatch(Collection<Integer> incidentIDs, int rejectedByAdminId, String reason) throws SQLException {
         String archiveReason = (reason == null || reason.isBlank()) ? "Rejected from Pending Reports Review" : reason;
+        LocalDateTime archivedAt = LocalDateTime.now();
 
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_REPORT_SQL)) {
-
-            stmt.setInt(1, report.getIncidentID());
-            stmt.setInt(2, report.getVictimID());
-            stmt.setInt(3, report.getPerpetratorID());
-            stmt.setInt(4, report.getAttackTypeID());
-            stmt.setString(5, DateUtils.toDatabaseFormat(report.getDateReported()));
-            stmt.setString(6, report.getDescription());
-            stmt.setString(7, report.getStatus());
-            setInteger(stmt, 8, report.getAdminID());
-            stmt.setInt(9, rejectedByAdminId);
-            stmt.setString(10, archiveReason);
-            stmt.setString(11, DateUtils.toDatabaseFormat(DateUtils.now()));
-
-            return stmt.executeUpdate() > 0;
-        }
+        return inChunks("recycle.archiveReports", incidentIDs, (conn, ids, outcomes) -> {
+            List<Integer> live = selectIDs(conn, SqlCatalog.RECYCLE_REPORT_LOCK_LIVE, ids);
+            if (live.isEmpty()) {
+                return;
+            }
+
+            // Evidence first: the report delete cascades to it
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_REPORT_EVIDENCE_ARCHIVE, live.size()))) {
+                stmt.setInt(1, rejectedByAdminId);
+                stmt.setString(2, WITH_REPORT_REASON);
+                stmt.setObject(3, archivedAt);
+                bindIDs(stmt, 4, live);
+                stmt.executeUpdate();
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_REPORT_ARCHIVE, live.size()))) {
+                stmt.setInt(1, rejectedByAdminId);
+                stmt.setString(2, archiveReason);
+                stmt.setObject(3, archivedAt);
+                bindIDs(stmt, 4, live);
+                stmt.executeUpdate();
+            }
+
+            executeForIDs(conn, SqlCatalog.RECYCLE_REPORT_DELETE_LIVE, live);
+            for (int id : live) {
+                outcomes.put(id, true);
+            }
+        });
+    }
+
+    @Override
+    public Map<Integer, Boolean> archiveEvidenceBatch(Collection<Integer> evidenceIDs, int rejectedByAdminId, String reason) throws SQLException {
+        String archiveReason = (reason == null || reason.isBlank()) ? "Rejected from Pending Evidence Review" : reason;
+        LocalDateTime archivedAt = LocalDateTime.now();
+
+        return inChunks("recycle.archiveEvidence", evidenceIDs, (conn, ids, outcomes) -> {
+            List<Integer> live = selectIDs(conn, SqlCatalog.RECYCLE_EVIDENCE_LOCK_LIVE, ids);
+            if (live.isEmpty()) {
+                return;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_EVIDENCE_ARCHIVE, live.size()))) {
+                stmt.setInt(1, rejectedByAdminId);
+                stmt.setString(2, archiveReason);
+                stmt.setObject(3, archivedAt);
+                bindIDs(stmt, 4, live);
+                stmt.executeUpdate();
+            }
+
+            executeForIDs(conn, SqlCatalog.RECYCLE_EVIDENCE_DELETE_LIVE, live);
+            for (int id : live) {
+                outcomes.put(id, true);
+            }
+        });
     }
 
     @Override
     public List<RecycleBinReport> findAllReports() throws SQLException {
         List<RecycleBinReport> reports = new ArrayList<>();
         try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_REPORTS_SQL);
+             PreparedStatement stmt = conn.prepareStatement(SqlCatalog.RECYCLE_REPORT_FIND_ALL);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                reports.add(mapRecycleReport(rs));
+                reports.add(REPORT_MAPPER.map(rs));
             }
         }
         return reports;
@@ -85,163 +102,192 @@ public class RecycleBinDAOImpl implements RecycleBinDAO {
     public List<RecycleBinEvidence> findAllEvidence() throws SQLException {
         List<RecycleBinEvidence> evidenceList = new ArrayList<>();
         try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_EVIDENCE_SQL);
+             PreparedStatement stmt = conn.prepareStatement(SqlCatalog.RECYCLE_EVIDENCE_FIND_ALL);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                evidenceList.add(mapRecycleEvidence(rs));
+                evidenceList.add(EVIDENCE_MAPPER.map(rs));
             }
         }
         return evidenceList;
     }
 
     @Override
-    public boolean restoreIncidentReport(RecycleBinReport archivedReport) throws SQLException {
+    public Page<RecycleBinReport> findReportsPage(String cursor, int limit) throws SQLException {
         try (Connection conn = DatabaseConnection.getConnection()) {
-
-            boolean defaultAutoCommit = conn.getAutoCommit();
-            conn.setAutoCommit(false); // Start transaction
-
-            try (PreparedStatement insertStmt = conn.prepareStatement(RESTORE_REPORT_SQL);
-                PreparedStatement deleteStmt = conn.prepareStatement(DELETE_RECYCLE_REPORT_SQL)) {
-
-                // Insert back into main IncidentReports table
-                insertStmt.setInt(1, archivedReport.getIncidentID());
-                setInteger(insertStmt, 2, archivedReport.getVictimID());
-                setInteger(insertStmt, 3, archivedReport.getPerpetratorID());
-                setInteger(insertStmt, 4, archivedReport.getAttackTypeID());
-                setInteger(insertStmt, 5, archivedReport.getAdminAssignedID());
-                insertStmt.setString(6, DateUtils.toDatabaseFormat(
-                        archivedReport.getDateReported() != null ? archivedReport.getDateReported() : DateUtils.now()));
-                insertStmt.setString(7, archivedReport.getDescription());
-
-                // Restore original status or default to Pending
-                String status = archivedReport.getOriginalStatus() != null ? archivedReport.getOriginalStatus() : "Pending";
-                insertStmt.setString(8, status);
-
-                insertStmt.executeUpdate();
-
-                // Remove entry from recycle bin
-                deleteStmt.setInt(1, archivedReport.getBinID());
-                deleteStmt.executeUpdate();
-
-                conn.commit(); // Commit transaction
-                conn.setAutoCommit(defaultAutoCommit);
-                return true;
-
-            } catch (SQLException e) {
-                conn.rollback();
-                throw e;
-            }
+            return SqlCatalog.RECYCLE_REPORT_PAGE.fetch(conn, cursor, limit, REPORT_MAPPER);
         }
     }
 
     @Override
-    public boolean restoreEvidence(RecycleBinEvidence archivedEvidence) throws SQLException {
+    public Page<RecycleBinEvidence> findEvidencePage(String cursor, int limit) throws SQLException {
         try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.RECYCLE_EVIDENCE_PAGE.fetch(conn, cursor, limit, EVIDENCE_MAPPER);
+        }
+    }
 
-            boolean defaultAutoCommit = conn.getAutoCommit();
-            conn.setAutoCommit(false); // Begin transaction
+    @Override
+    public Map<Integer, Boolean> restoreReportsBatch(Collection<Integer> binIDs) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
 
-            try (PreparedStatement insertStmt = conn.prepareStatement(RESTORE_EVIDENCE_SQL);
-                PreparedStatement deleteStmt = conn.prepareStatement(DELETE_RECYCLE_EVIDENCE_SQL)) {
+        return inChunks("recycle.restoreReports", binIDs, (conn, ids, outcomes) -> {
+            Map<Integer, Integer> binByIncident = selectRestorable(conn, SqlCatalog.RECYCLE_REPORT_LOCK_RESTORABLE, ids);
+            if (binByIncident.isEmpty()) {
+                return;
+            }
+            List<Integer> bins = new ArrayList<>(binByIncident.values());
+            List<Integer> incidents = new ArrayList<>(binByIncident.keySet());
+
+            // Insert back into main IncidentReports table, original status or Pending
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_REPORT_RESTORE, bins.size()))) {
+                stmt.setObject(1, now);
+                bindIDs(stmt, 2, bins);
+                stmt.executeUpdate();
+            }
 
-                // Reinsert evidence into main EvidenceUpload table
-                insertStmt.setInt(1, archivedEvidence.getEvidenceID());
-                setInteger(insertStmt, 2, archivedEvidence.getIncidentID());
-                insertStmt.setString(3, archivedEvidence.getEvidenceType());
-                insertStmt.setString(4, archivedEvidence.getFilePath());
-                insertStmt.setString(5, DateUtils.toDatabaseFormat(
-                        archivedEvidence.getSubmissionDate() != null ? archivedEvidence.getSubmissionDate() : DateUtils.now()));
+            // Then the evidence that was archived with those reports
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_REPORT_EVIDENCE_RESTORE, incidents.size()))) {
+                stmt.setObject(1, now);
+                int next = bindIDs(stmt, 2, incidents);
+                stmt.setString(next, WITH_REPORT_REASON);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_REPORT_EVIDENCE_DELETE, incidents.size()))) {
+                int next = bindIDs(stmt, 1, incidents);
+                stmt.setString(next, WITH_REPORT_REASON);
+                stmt.executeUpdate();
+            }
 
-                String status = archivedEvidence.getOriginalStatus() != null ? archivedEvidence.getOriginalStatus() : "Pending";
-                insertStmt.setString(6, status);
+            // Remove entries from recycle bin
+            executeForIDs(conn, SqlCatalog.RECYCLE_REPORT_DELETE, bins);
+            for (int bin : bins) {
+                outcomes.put(bin, true);
+            }
+        });
+    }
 
-                setInteger(insertStmt, 7, archivedEvidence.getAdminAssignedID());
+    @Override
+    public Map<Integer, Boolean> restoreEvidenceBatch(Collection<Integer> binIDs) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+
+        return inChunks("recycle.restoreEvidence", binIDs, (conn, ids, outcomes) -> {
+            List<Integer> bins = new ArrayList<>(
+                    selectRestorable(conn, SqlCatalog.RECYCLE_EVIDENCE_LOCK_RESTORABLE, ids).values());
+            if (bins.isEmpty()) {
+                return;
+            }
 
-                insertStmt.executeUpdate();
+            // Reinsert evidence into main EvidenceUpload table
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    SqlCatalog.withIdList(SqlCatalog.RECYCLE_EVIDENCE_RESTORE, bins.size()))) {
+                stmt.setObject(1, now);
+                bindIDs(stmt, 2, bins);
+                stmt.executeUpdate();
+            }
 
-                // Remove entry from recycle bin
-                deleteStmt.setInt(1, archivedEvidence.getBinID());
-                deleteStmt.executeUpdate();
+            // Remove entries from recycle bin
+            executeForIDs(conn, SqlCatalog.RECYCLE_EVIDENCE_DELETE, bins);
+            for (int bin : bins) {
+                outcomes.put(bin, true);
+            }
+        });
+    }
 
-                conn.commit(); // Commit
-                conn.setAutoCommit(defaultAutoCommit);
-                return true;
+    /**
+     * One chunk of IDs processed inside the caller's transaction
+     */
+    @FunctionalInterface
+    private interface ChunkWork {
+        void run(Connection conn, List<Integer> ids, Map<Integer, Boolean> outcomes) throws SQLException;
+    }
 
+    /**
+     * Run work over the IDs in chunks of SqlCatalog.MAX_ID_LIST, all in one transaction.
+     * Every ID starts out false; work marks the ones it handled.
+     */
+    private Map<Integer, Boolean> inChunks(String operation, Collection<Integer> requested, ChunkWork work) throws SQLException {
+        Map<Integer, Boolean> outcomes = new LinkedHashMap<>();
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(requested));
+        if (ids.isEmpty()) {
+            return outcomes;
+        }
+        for (Integer id : ids) {
+            outcomes.put(id, false);
+        }
+        long start = System.nanoTime();
+        boolean committed = false;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false); // Start transaction
+            try {
+                for (int from = 0; from < ids.size(); from += SqlCatalog.MAX_ID_LIST) {
+                    work.run(conn, ids.subList(from, Math.min(from + SqlCatalog.MAX_ID_LIST, ids.size())), outcomes);
+                }
+                conn.commit();
+                committed = true;
             } catch (SQLException e) {
                 conn.rollback();
                 throw e;
             }
+        } finally {
+            QueryMetrics.getInstance().recordBatch(operation, ids.size(), System.nanoTime() - start, !committed);
         }
+        return outcomes;
     }
 
-    @Override
-    public boolean archiveEvidence(Evidence evidence, int rejectedByAdminId, String reason) throws SQLException {
-        String archiveReason = (reason == null || reason.isBlank()) ? "Rejected from Pending Evidence Review" : reason;
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_EVIDENCE_SQL)) {
-
-            stmt.setInt(1, evidence.getEvidenceID());
-            stmt.setInt(2, evidence.getIncidentID());
-            stmt.setString(3, evidence.getEvidenceType());
-            stmt.setString(4, evidence.getFilePath());
-            stmt.setString(5, DateUtils.toDatabaseFormat(evidence.getSubmissionDate()));
-            stmt.setString(6, evidence.getVerifiedStatus());
-            setInteger(stmt, 7, evidence.getAdminID());
-            stmt.setInt(8, rejectedByAdminId);
-            stmt.setString(9, archiveReason);
-            stmt.setString(10, DateUtils.toDatabaseFormat(DateUtils.now()));
-
-            return stmt.executeUpdate() > 0;
+    /**
+     * Bind IDs to an expanded IN list, repeating the last one to fill the padding
+     * @return the next parameter index after the list
+     */
+    private int bindIDs(PreparedStatement stmt, int firstIndex, List<Integer> ids) throws SQLException {
+        int size = SqlCatalog.idListSize(ids.size());
+        for (int i = 0; i < size; i++) {
+            stmt.setInt(firstIndex + i, ids.get(Math.min(i, ids.size() - 1)));
         }
+        return firstIndex + size;
     }
 
-    private void setInteger(PreparedStatement stmt, int index, Integer value) throws SQLException {
-        if (value == null) {
-            stmt.setNull(index, Types.INTEGER);
-        } else {
-            stmt.setInt(index, value);
+    private void executeForIDs(Connection conn, String sql, List<Integer> ids) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SqlCatalog.withIdList(sql, ids.size()))) {
+            bindIDs(stmt, 1, ids);
+            stmt.executeUpdate();
         }
     }
 
-    private RecycleBinReport mapRecycleReport(ResultSet rs) throws SQLException {
-        RecycleBinReport report = new RecycleBinReport();
-        report.setBinID(rs.getInt("BinID"));
-        report.setIncidentID(rs.getInt("IncidentID"));
-        report.setVictimID(getInteger(rs, "VictimID"));
-        report.setPerpetratorID(getInteger(rs, "PerpetratorID"));
-        report.setAttackTypeID(getInteger(rs, "AttackTypeID"));
-        report.setDateReported(DateUtils.fromDatabaseFormat(rs.getString("DateReported")));
-        report.setDescription(rs.getString("Description"));
-        report.setOriginalStatus(rs.getString("OriginalStatus"));
-        report.setAdminAssignedID(getInteger(rs, "AdminAssignedID"));
-        report.setRejectedByAdminID(rs.getInt("RejectedByAdminID"));
-        report.setArchiveReason(rs.getString("ArchiveReason"));
-        report.setArchivedAt(DateUtils.fromDatabaseFormat(rs.getString("ArchivedAt")));
-        return report;
-    }
-
-    private RecycleBinEvidence mapRecycleEvidence(ResultSet rs) throws SQLException {
-        RecycleBinEvidence evidence = new RecycleBinEvidence();
-        evidence.setBinID(rs.getInt("BinID"));
-        evidence.setEvidenceID(rs.getInt("EvidenceID"));
-        evidence.setIncidentID(getInteger(rs, "IncidentID"));
-        evidence.setEvidenceType(rs.getString("EvidenceType"));
-        evidence.setFilePath(rs.getString("FilePath"));
-        evidence.setSubmissionDate(DateUtils.fromDatabaseFormat(rs.getString("SubmissionDate")));
-        evidence.setOriginalStatus(rs.getString("OriginalStatus"));
-        evidence.setAdminAssignedID(getInteger(rs, "AdminAssignedID"));
-        evidence.setRejectedByAdminID(rs.getInt("RejectedByAdminID"));
-        evidence.setArchiveReason(rs.getString("ArchiveReason"));
-        evidence.setArchivedAt(DateUtils.fromDatabaseFormat(rs.getString("ArchivedAt")));
-        return evidence;
+    /**
+     * IDs from the first column of a locking SELECT ... IN (:ids)
+     */
+    private List<Integer> selectIDs(Connection conn, String sql, List<Integer> ids) throws SQLException {
+        List<Integer> found = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SqlCatalog.withIdList(sql, ids.size()))) {
+            bindIDs(stmt, 1, ids);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    found.add(rs.getInt(1));
+                }
+            }
+        }
+        return found;
     }
 
-    private Integer getInteger(ResultSet rs, String column) throws SQLException {
-        int value = rs.getInt(column);
-        return rs.wasNull() ? null : value;
+    /**
+     * Restorable bin rows as original ID -> BinID; when several bin rows hold
+     * the same record only one of them can be restored
+     */
+    private Map<Integer, Integer> selectRestorable(Connection conn, String sql, List<Integer> binIDs) throws SQLException {
+        Map<Integer, Integer> binByID = new LinkedHashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SqlCatalog.withIdList(sql, binIDs.size()))) {
+            bindIDs(stmt, 1, binIDs);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    binByID.putIfAbsent(rs.getInt(2), rs.getInt(1));
+                }
+            }
+        }
+        return binByID;
     }
 }
 
@@ -0,0 +1,445 @@
+package dao;
+
+/**
+ * Central catalog of every SQL statement the application runs.
+ *
+ * Statements are constants so the same string is prepared each time; the
+ * pooled connections cache prepared statements by their SQL text, so a
+ * statement built on the fly (e.g. by concatenating a column name) would
+ * never be reused. Add new statements here rather than inline in a DAO.
+ * Paged lists are {@link Keyset} constants, which build their statements once.
+ *
+ * Queries name their columns through a {@link Projection} per table instead
+ * of SELECT *, so the DAO row mappers can read columns by position.
+ */
+public final class SqlCatalog {
+
+    // ==============================
+    // Administrators
+    // ==============================
+    public static final Projection ADMIN_ROW = Projection.of(
+            "AdminID", "Name", "Role", "ContactEmail", "PasswordHash", "DateAssigned");
+    public static final String ADMIN_FIND_BY_EMAIL =
+            "SELECT " + ADMIN_ROW.columns() + " FROM Administrators WHERE LOWER(TRIM(ContactEmail)) = LOWER(TRIM(?))";
+    public static final String ADMIN_FIND_BY_ID =
+            "SELECT " + ADMIN_ROW.columns() + " FROM Administrators WHERE AdminID = ?";
+    public static final String ADMIN_FIND_ALL = "SELECT " + ADMIN_ROW.columns() + " FROM Administrators";
+    public static final String ADMIN_INSERT =
+            "INSERT INTO Administrators (Name, Role, ContactEmail, PasswordHash) VALUES (?, ?, ?, ?)";
+    public static final String ADMIN_UPDATE =
+            "UPDATE Administrators SET Name = ?, Role = ?, ContactEmail = ?, PasswordHash = ? WHERE AdminID = ?";
+    public static final String ADMIN_DELETE = "DELETE FROM Administrators WHERE AdminID = ?";
+
+    // ==============================
+    // AttackTypes
+    // ==============================
+    public static final Projection ATTACK_TYPE_ROW = Projection.of(
+            "AttackTypeID", "AttackName", "Description", "SeverityLevel");
+    public static final String ATTACK_TYPE_FIND_BY_ID =
+            "SELECT " + ATTACK_TYPE_ROW.columns() + " FROM AttackTypes WHERE AttackTypeID = ?";
+    public static final String ATTACK_TYPE_FIND_BY_NAME =
+            "SELECT " + ATTACK_TYPE_ROW.columns() + " FROM AttackTypes WHERE AttackName = ?";
+    public static final String ATTACK_TYPE_FIND_ALL =
+            "SELECT " + ATTACK_TYPE_ROW.columns() + " FROM AttackTypes ORDER BY SeverityLevel DESC, AttackName";
+    public static final String ATTACK_TYPE_INSERT =
+            "INSERT INTO AttackTypes (AttackName, Description, SeverityLevel) VALUES (?, ?, ?)";
+    public static final String ATTACK_TYPE_UPDATE =
+            "UPDATE AttackTypes SET AttackName = ?, Description = ?, SeverityLevel = ? WHERE AttackTypeID = ?";
+    public static final String ATTACK_TYPE_DELETE = "DELETE FROM AttackTypes WHERE AttackTypeID = ?";
+
+    // ==============================
+    // EvidenceUpload
+    // ==============================
+    public static final Projection EVIDENCE_ROW = Projection.of(
+            "EvidenceID", "IncidentID", "EvidenceType", "FilePath", "SubmissionDate", "VerifiedStatus",
+            "AdminID");
+    public static final String EVIDENCE_INSERT = """
+            INSERT INTO EvidenceUpload
+            (IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus, AdminID)
+            VALUES (?, ?, ?, ?, 'Pending', NULL)
+            """;
+    public static final String EVIDENCE_FIND_BY_ID =
+            "SELECT " + EVIDENCE_ROW.columns() + " FROM EvidenceUpload WHERE EvidenceID = ?";
+    public static final String EVIDENCE_FIND_BY_INCIDENT =
+            "SELECT " + EVIDENCE_ROW.columns() + " FROM EvidenceUpload"
+            + " WHERE IncidentID = ? ORDER BY SubmissionDate DESC";
+    public static final String EVIDENCE_FIND_PENDING =
+            "SELECT " + EVIDENCE_ROW.columns() + " FROM EvidenceUpload"
+            + " WHERE VerifiedStatus = 'Pending' ORDER BY SubmissionDate";
+    public static final Keyset EVIDENCE_PENDING_PAGE = Keyset.ascending(
+            EVIDENCE_ROW, "EvidenceUpload", "VerifiedStatus = 'Pending'", "SubmissionDate", "EvidenceID");
+    public static final String EVIDENCE_UPDATE_STATUS =
+            "UPDATE EvidenceUpload SET VerifiedStatus = ?, AdminID = ? WHERE EvidenceID = ?";
+    public static final String EVIDENCE_DELETE = "DELETE FROM EvidenceUpload WHERE EvidenceID = ?";
+    // Rebuilds the evidence escalation rules: verified evidence per perpetrator, victim and submission day
+    public static final String EVIDENCE_VERIFIED_DAILY_COUNTS_SINCE = """
+            SELECT ir.PerpetratorID, ir.VictimID, DATE(e.SubmissionDate) AS SubmissionDay, COUNT(*)
+            FROM EvidenceUpload e
+            JOIN IncidentReports ir ON ir.IncidentID = e.IncidentID
+            WHERE e.VerifiedStatus = 'Verified' AND e.SubmissionDate >= ?
+            GROUP BY ir.PerpetratorID, ir.VictimID, SubmissionDay
+            """;
+    // The same groups for the listed evidence items, whatever their status
+    public static final String EVIDENCE_DAILY_COUNTS_BY_IDS = """
+            SELECT ir.PerpetratorID, ir.VictimID, DATE(e.SubmissionDate) AS SubmissionDay, COUNT(*)
+            FROM EvidenceUpload e
+            JOIN IncidentReports ir ON ir.IncidentID = e.IncidentID
+            WHERE e.EvidenceID IN (:ids)
+            GROUP BY ir.PerpetratorID, ir.VictimID, SubmissionDay
+            """;
+
+    // ==============================
+    // IncidentReports
+    // ==============================
+    public static final Projection INCIDENT_ROW = Projection.of(
+            "IncidentID", "VictimID", "PerpetratorID", "AttackTypeID", "AdminID", "DateReported",
+            "Description", "Status");
+    // For pickers and lists that do not show the TEXT description
+    public static final Projection INCIDENT_SUMMARY_ROW = INCIDENT_ROW.without("Description");
+    public static final String INCIDENT_INSERT =
+            "INSERT INTO IncidentReports (VictimID, PerpetratorID, AttackTypeID, AdminID, "
+            + "DateReported, Description, Status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    public static final String INCIDENT_FIND_BY_ID =
+            "SELECT " + INCIDENT_ROW.columns() + " FROM IncidentReports WHERE IncidentID = ?";
+    public static final String INCIDENT_FIND_BY_VICTIM =
+            "SELECT " + INCIDENT_ROW.columns() + " FROM IncidentReports WHERE VictimID = ? ORDER BY DateReported DESC";
+    public static final String INCIDENT_SUMMARY_BY_VICTIM =
+            "SELECT " + INCIDENT_SUMMARY_ROW.columns() + " FROM IncidentReports WHERE VictimID = ? ORDER BY DateReported DESC";
+    public static final String INCIDENT_FIND_BY_PERPETRATOR =
+            "SELECT " + INCIDENT_ROW.columns() + " FROM IncidentReports"
+            + " WHERE PerpetratorID = ? ORDER BY DateReported DESC";
+    public static final String INCIDENT_FIND_PENDING =
+            "SELECT " + INCIDENT_ROW.columns() + " FROM IncidentReports WHERE Status = 'Pending' ORDER BY DateReported";
+    public static final Keyset INCIDENT_PENDING_PAGE = Keyset.ascending(
+            INCIDENT_ROW, "IncidentReports", "Status = 'Pending'", "DateReported", "IncidentID");
+    public static final Keyset INCIDENT_BY_VICTIM_PAGE = Keyset.descending(
+            INCIDENT_ROW, "IncidentReports", "VictimID = ?", "DateReported", "IncidentID");
+    // Report rows with the attack name, perpetrator identifier and reviewing admin's name joined in.
+    // The derived table gives the joined columns plain names; MySQL merges it into the outer query,
+    // so the VictimID filter and keyset ORDER BY still use the IncidentReports indexes.
+    public static final Projection INCIDENT_VIEW_ROW = Projection.of(
+            "IncidentID", "VictimID", "PerpetratorID", "AttackTypeID", "AdminID", "DateReported",
+            "Description", "Status", "AttackName", "PerpetratorIdentifier", "AdminName");
+    private static final String INCIDENT_VIEW_SOURCE = """
+            (SELECT i.IncidentID, i.VictimID, i.PerpetratorID, i.AttackTypeID, i.AdminID, i.DateReported,
+                    i.Description, i.Status, a.AttackName, p.Identifier AS PerpetratorIdentifier,
+                    ad.Name AS AdminName
+             FROM IncidentReports i
+             LEFT JOIN AttackTypes a ON a.AttackTypeID = i.AttackTypeID
+             LEFT JOIN Perpetrators p ON p.PerpetratorID = i.PerpetratorID
+             LEFT JOIN Administrators ad ON ad.AdminID = i.AdminID) AS v""";
+    public static final Keyset INCIDENT_VIEW_BY_VICTIM_PAGE = Keyset.descending(
+            INCIDENT_VIEW_ROW, INCIDENT_VIEW_SOURCE, "VictimID = ?", "DateReported", "IncidentID");
+    public static final String INCIDENT_UPDATE_STATUS =
+            "UPDATE IncidentReports SET Status = ?, AdminID = ? WHERE IncidentID = ?";
+    public static final String INCIDENT_DELETE = "DELETE FROM IncidentReports WHERE IncidentID = ?";
+    public static final String INCIDENT_COUNT_VICTIMS_LAST_7_DAYS = """
+            SELECT COUNT(DISTINCT VictimID)
+            FROM IncidentReports
+            WHERE PerpetratorID = ?
+              AND DateReported >= DATE_SUB(CURDATE(), INTERVAL 7 DAY)
+            """;
+    // Rebuilds the incident escalation rules: reports per perpetrator, victim and day
+    public static final String INCIDENT_DAILY_COUNTS_SINCE = """
+            SELECT PerpetratorID, VictimID, DATE(DateReported) AS ReportDay, COUNT(*)
+            FROM IncidentReports
+            WHERE DateReported >= ?
+            GROUP BY PerpetratorID, VictimID, ReportDay
+            """;
+    // [first of this month, first of next month), as a plain range so (VictimID, DateReported) is used
+    public static final String INCIDENT_COUNT_THIS_MONTH_FOR_VICTIM = """
+            SELECT COUNT(*)
+            FROM IncidentReports
+            WHERE VictimID = ?
+              AND DateReported >= LAST_DAY(CURDATE() - INTERVAL 1 MONTH) + INTERVAL 1 DAY
+              AND DateReported < LAST_DAY(CURDATE()) + INTERVAL 1 DAY
+            """;
+
+    // ==============================
+    // Perpetrators
+    // ==============================
+    public static final Projection PERPETRATOR_ROW = Projection.of(
+            "PerpetratorID", "Identifier", "IdentifierType", "AssociatedName", "ThreatLevel",
+            "LastIncidentDate");
+    public static final String PERPETRATOR_FIND_BY_IDENTIFIER =
+            "SELECT " + PERPETRATOR_ROW.columns() + " FROM Perpetrators WHERE Identifier = ?";
+    public static final String PERPETRATOR_FIND_BY_ID =
+            "SELECT " + PERPETRATOR_ROW.columns() + " FROM Perpetrators WHERE PerpetratorID = ?";
+    public static final String PERPETRATOR_FIND_ALL =
+            "SELECT " + PERPETRATOR_ROW.columns() + " FROM Perpetrators ORDER BY LastIncidentDate DESC";
+    public static final Keyset PERPETRATOR_PAGE = Keyset.descending(
+            PERPETRATOR_ROW, "Perpetrators", null, "LastIncidentDate", "PerpetratorID");
+    public static final String PERPETRATOR_INSERT =
+            "INSERT INTO Perpetrators (Identifier, IdentifierType, AssociatedName, "
+            + "ThreatLevel, LastIncidentDate) VALUES (?, ?, ?, ?, ?)";
+    public static final String PERPETRATOR_UPDATE = "UPDATE Perpetrators SET IdentifierType = ?, AssociatedName = ?, "
+            + "ThreatLevel = ?, LastIncidentDate = ? WHERE PerpetratorID = ?";
+    public static final String PERPETRATOR_DELETE = "DELETE FROM Perpetrators WHERE PerpetratorID = ?";
+    // Upserts keyed on the unique Identifier. LAST_INSERT_ID(PerpetratorID) makes the
+    // generated key the existing row's ID when the identifier is already known.
+    public static final String PERPETRATOR_UPSERT = """
+            INSERT INTO Perpetrators (Identifier, IdentifierType, AssociatedName, ThreatLevel, LastIncidentDate)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE PerpetratorID = LAST_INSERT_ID(PerpetratorID),
+                IdentifierType = VALUES(IdentifierType), AssociatedName = VALUES(AssociatedName),
+                ThreatLevel = VALUES(ThreatLevel), LastIncidentDate = VALUES(LastIncidentDate)
+            """;
+    // A new identifier starts UnderReview; a known one only gets its LastIncidentDate bumped
+    public static final String PERPETRATOR_RECORD_INCIDENT = """
+            INSERT INTO Perpetrators (Identifier, IdentifierType, AssociatedName, ThreatLevel, LastIncidentDate)
+            VALUES (?, ?, ?, 'UnderReview', ?)
+            ON DUPLICATE KEY UPDATE PerpetratorID = LAST_INSERT_ID(PerpetratorID),
+                LastIncidentDate = VALUES(LastIncidentDate)
+            """;
+    // Blocklist import. No LAST_INSERT_ID and no ? in the update clause, so the driver
+    // can rewrite a batch into one multi-row INSERT. Known identifiers keep their
+    // threat level (changes to it are logged through review) and name if none is given.
+    public static final String PERPETRATOR_IMPORT = """
+            INSERT INTO Perpetrators (Identifier, IdentifierType, AssociatedName, ThreatLevel, LastIncidentDate)
+            VALUES (?, ?, ?, ?, NULL)
+            ON DUPLICATE KEY UPDATE IdentifierType = VALUES(IdentifierType),
+                AssociatedName = COALESCE(VALUES(AssociatedName), AssociatedName)
+            """;
+    public static final String PERPETRATOR_THREAT_LEVELS_BY_IDS =
+            "SELECT PerpetratorID, ThreatLevel FROM Perpetrators WHERE PerpetratorID IN (:ids)";
+    // Only applies while the level is still the one the caller saw, so a concurrent change is not overwritten
+    public static final String PERPETRATOR_CHANGE_THREAT_LEVEL =
+            "UPDATE Perpetrators SET ThreatLevel = ? WHERE PerpetratorID = ? AND ThreatLevel <=> ?";
+
+    // ==============================
+    // Recycle bin
+    // ==============================
+    public static final Projection RECYCLE_REPORT_ROW = Projection.of(
+            "BinID", "IncidentID", "VictimID", "PerpetratorID", "AttackTypeID", "DateReported",
+            "Description", "OriginalStatus", "AdminAssignedID", "RejectedByAdminID", "ArchiveReason",
+            "ArchivedAt");
+    public static final Projection RECYCLE_EVIDENCE_ROW = Projection.of(
+            "BinID", "EvidenceID", "IncidentID", "EvidenceType", "FilePath", "SubmissionDate",
+            "OriginalStatus", "AdminAssignedID", "RejectedByAdminID", "ArchiveReason", "ArchivedAt");
+    public static final String RECYCLE_REPORT_FIND_ALL =
+            "SELECT " + RECYCLE_REPORT_ROW.columns() + " FROM RecycleBinReports ORDER BY ArchivedAt DESC";
+    public static final String RECYCLE_EVIDENCE_FIND_ALL =
+            "SELECT " + RECYCLE_EVIDENCE_ROW.columns() + " FROM RecycleBinEvidence ORDER BY ArchivedAt DESC";
+    public static final Keyset RECYCLE_REPORT_PAGE = Keyset.descending(
+            RECYCLE_REPORT_ROW, "RecycleBinReports", null, "ArchivedAt", "BinID");
+    public static final Keyset RECYCLE_EVIDENCE_PAGE = Keyset.descending(
+            RECYCLE_EVIDENCE_ROW, "RecycleBinEvidence", null, "ArchivedAt", "BinID");
+    // Set-based archive and restore. IN (:ids) is expanded by withIdList();
+    // each statement copies rows server side instead of binding every column.
+    public static final String RECYCLE_REPORT_LOCK_LIVE =
+            "SELECT IncidentID FROM IncidentReports WHERE IncidentID IN (:ids) FOR UPDATE";
+    public static final String RECYCLE_REPORT_ARCHIVE = """
+            INSERT INTO RecycleBinReports
+            (IncidentID, VictimID, PerpetratorID, AttackTypeID, DateReported, Description,
+             OriginalStatus, AdminAssignedID, RejectedByAdminID, ArchiveReason, ArchivedAt)
+            SELECT IncidentID, VictimID, PerpetratorID, AttackTypeID, DateReported, Description,
+                   Status, AdminID, ?, ?, ?
+            FROM IncidentReports WHERE IncidentID IN (:ids)
+            """;
+    public static final String RECYCLE_REPORT_EVIDENCE_ARCHIVE = """
+            INSERT INTO RecycleBinEvidence
+            (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, OriginalStatus,
+             AdminAssignedID, RejectedByAdminID, ArchiveReason, ArchivedAt)
+            SELECT EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus,
+                   AdminID, ?, ?, ?
+            FROM EvidenceUpload WHERE IncidentID IN (:ids)
+            """;
+    // Evidence rows leave with their report through ON DELETE CASCADE
+    public static final String RECYCLE_REPORT_DELETE_LIVE = "DELETE FROM IncidentReports WHERE IncidentID IN (:ids)";
+
+    public static final String RECYCLE_EVIDENCE_LOCK_LIVE =
+            "SELECT EvidenceID FROM EvidenceUpload WHERE EvidenceID IN (:ids) FOR UPDATE";
+    public static final String RECYCLE_EVIDENCE_ARCHIVE = """
+            INSERT INTO RecycleBinEvidence
+            (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, OriginalStatus,
+             AdminAssignedID, RejectedByAdminID, ArchiveReason, ArchivedAt)
+            SELECT EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus,
+                   AdminID, ?, ?, ?
+            FROM EvidenceUpload WHERE EvidenceID IN (:ids)
+            """;
+    public static final String RECYCLE_EVIDENCE_DELETE_LIVE = "DELETE FROM EvidenceUpload WHERE EvidenceID IN (:ids)";
+
+    // A report can only come back if its ID is free and the rows it references still exist
+    public static final String RECYCLE_REPORT_LOCK_RESTORABLE = """
+            SELECT b.BinID, b.IncidentID
+            FROM RecycleBinReports b
+            WHERE b.BinID IN (:ids)
+              AND NOT EXISTS (SELECT 1 FROM IncidentReports r WHERE r.IncidentID = b.IncidentID)
+              AND EXISTS (SELECT 1 FROM Victims v WHERE v.VictimID = b.VictimID)
+              AND EXISTS (SELECT 1 FROM Perpetrators p WHERE p.PerpetratorID = b.PerpetratorID)
+              AND EXISTS (SELECT 1 FROM AttackTypes t WHERE t.AttackTypeID = b.AttackTypeID)
+            FOR UPDATE
+            """;
+    public static final String RECYCLE_REPORT_RESTORE = """
+            INSERT INTO IncidentReports
+            (IncidentID, VictimID, PerpetratorID, AttackTypeID, AdminID, DateReported, Description, Status)
+            SELECT b.IncidentID, b.VictimID, b.PerpetratorID, b.AttackTypeID,
+                   (SELECT a.AdminID FROM Administrators a WHERE a.AdminID = b.AdminAssignedID),
+                   COALESCE(b.DateReported, ?), b.Description, COALESCE(b.OriginalStatus, 'Pending')
+            FROM RecycleBinReports b WHERE b.BinID IN (:ids)
+            """;
+    // Only evidence that was archived together with its report comes back with it
+    public static final String RECYCLE_REPORT_EVIDENCE_RESTORE = """
+            INSERT INTO EvidenceUpload
+            (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus, AdminID)
+            SELECT b.EvidenceID, b.IncidentID, b.EvidenceType, b.FilePath,
+                   COALESCE(b.SubmissionDate, ?), COALESCE(b.OriginalStatus, 'Pending'),
+                   (SELECT a.AdminID FROM Administrators a WHERE a.AdminID = b.AdminAssignedID)
+            FROM RecycleBinEvidence b
+            WHERE b.IncidentID IN (:ids) AND b.ArchiveReason = ?
+              AND NOT EXISTS (SELECT 1 FROM EvidenceUpload e WHERE e.EvidenceID = b.EvidenceID)
+            """;
+    public static final String RECYCLE_REPORT_EVIDENCE_DELETE =
+            "DELETE FROM RecycleBinEvidence WHERE IncidentID IN (:ids) AND ArchiveReason = ?";
+    public static final String RECYCLE_REPORT_DELETE = "DELETE FROM RecycleBinReports WHERE BinID IN (:ids)";
+
+    public static final String RECYCLE_EVIDENCE_LOCK_RESTORABLE = """
+            SELECT b.BinID, b.EvidenceID
+            FROM RecycleBinEvidence b
+            WHERE b.BinID IN (:ids)
+              AND NOT EXISTS (SELECT 1 FROM EvidenceUpload e WHERE e.EvidenceID = b.EvidenceID)
+              AND EXISTS (SELECT 1 FROM IncidentReports r WHERE r.IncidentID = b.IncidentID)
+            FOR UPDATE
+            """;
+    public static final String RECYCLE_EVIDENCE_RESTORE = """
+            INSERT INTO EvidenceUpload
+            (EvidenceID, IncidentID, EvidenceType, FilePath, SubmissionDate, VerifiedStatus, AdminID)
+            SELECT b.EvidenceID, b.IncidentID, b.EvidenceType, b.FilePath,
+                   COALESCE(b.SubmissionDate, ?), COALESCE(b.OriginalStatus, 'Pending'),
+                   (SELECT a.AdminID FROM Administrators a WHERE a.AdminID = b.AdminAssignedID)
+            FROM RecycleBinEvidence b WHERE b.BinID IN (:ids)
+            """;
+    public static final String RECYCLE_EVIDENCE_DELETE = "DELETE FROM RecycleBinEvidence WHERE BinID IN (:ids)";
+
+    // ==============================
+    // ThreatLevelLog
+    // ==============================
+    public static final Projection THREAT_LOG_ROW = Projection.of(
+            "LogID", "PerpetratorID", "OldThreatLevel", "NewThreatLevel", "ChangeDate", "AdminID");
+    public static final String THREAT_LOG_INSERT = """
+            INSERT INTO ThreatLevelLog
+            (PerpetratorID, OldThreatLevel, NewThreatLevel, ChangeDate, AdminID)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    public static final String THREAT_LOG_FIND_BY_PERPETRATOR =
+            "SELECT " + THREAT_LOG_ROW.columns() + " FROM ThreatLevelLog"
+            + " WHERE PerpetratorID = ? ORDER BY ChangeDate DESC";
+    public static final String THREAT_LOG_FIND_ALL =
+            "SELECT " + THREAT_LOG_ROW.columns() + " FROM ThreatLevelLog ORDER BY ChangeDate DESC";
+    public static final Keyset THREAT_LOG_PAGE = Keyset.descending(
+            THREAT_LOG_ROW, "ThreatLevelLog", null, "ChangeDate", "LogID");
+    public static final String THREAT_LOG_LAST_CHANGE_BY_IDS = """
+            SELECT PerpetratorID, MAX(ChangeDate)
+            FROM ThreatLevelLog
+            WHERE PerpetratorID IN (:ids)
+            GROUP BY PerpetratorID
+            """;
+
+    // ==============================
+    // Victims
+    // ==============================
+    public static final Projection VICTIM_ROW = Projection.of(
+            "VictimID", "Name", "ContactEmail", "PasswordHash", "AccountStatus", "DateCreated");
+    public static final String VICTIM_FIND_BY_EMAIL =
+            "SELECT " + VICTIM_ROW.columns() + " FROM Victims WHERE ContactEmail = ?";
+    public static final String VICTIM_FIND_BY_ID =
+            "SELECT " + VICTIM_ROW.columns() + " FROM Victims WHERE VictimID = ?";
+    public static final String VICTIM_FIND_ALL = "SELECT " + VICTIM_ROW.columns() + " FROM Victims ORDER BY VictimID";
+    public static final String VICTIM_INSERT =
+            "INSERT INTO Victims (Name, ContactEmail, PasswordHash, AccountStatus) VALUES (?, ?, ?, ?)";
+    public static final String VICTIM_UPDATE =
+            "UPDATE Victims SET Name = ?, ContactEmail = ?, PasswordHash = ?, AccountStatus = ? WHERE VictimID = ?";
+    public static final String VICTIM_DELETE = "DELETE FROM Victims WHERE VictimID = ?";
+    public static final String VICTIM_UPDATE_STATUS = "UPDATE Victims SET AccountStatus = ? WHERE VictimID = ?";
+
+    // ==============================
+    // VictimStatusLog
+    // ==============================
+    public static final Projection VICTIM_STATUS_LOG_ROW = Projection.of(
+            "LogID", "VictimID", "OldStatus", "NewStatus", "ChangeDate", "AdminID");
+    public static final String VICTIM_STATUS_LOG_INSERT = """
+            INSERT INTO VictimStatusLog
+            (VictimID, OldStatus, NewStatus, ChangeDate, AdminID)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    public static final String VICTIM_STATUS_LOG_FIND_BY_VICTIM =
+            "SELECT " + VICTIM_STATUS_LOG_ROW.columns() + " FROM VictimStatusLog"
+            + " WHERE VictimID = ? ORDER BY ChangeDate DESC";
+    public static final String VICTIM_STATUS_LOG_FIND_ALL =
+            "SELECT " + VICTIM_STATUS_LOG_ROW.columns() + " FROM VictimStatusLog ORDER BY ChangeDate DESC";
+    public static final Keyset VICTIM_STATUS_LOG_PAGE = Keyset.descending(
+            VICTIM_STATUS_LOG_ROW, "VictimStatusLog", null, "ChangeDate", "LogID");
+
+    // ==============================
+    // Admin reports (controller.report)
+    // Each takes one month as a half-open range, bound from DateUtils:
+    // <date> >= monthStart(year, month) AND <date> < nextMonthStart(year, month).
+    // Unlike YEAR(<date>) = ? AND MONTH(<date>) = ?, the range can seek an index.
+    // ==============================
+    public static final String REPORT_MONTHLY_ATTACK_TRENDS = """
+            SELECT a.AttackName, HOUR(i.DateReported) as hour
+            FROM IncidentReports i
+            JOIN AttackTypes a ON i.AttackTypeID = a.AttackTypeID
+            WHERE i.DateReported >= ? AND i.DateReported < ?
+            """;
+    public static final String REPORT_TOP_PERPETRATORS = """
+            SELECT p.Identifier, p.IdentifierType, p.AssociatedName, COUNT(*) as cnt
+            FROM IncidentReports i
+            JOIN Perpetrators p ON i.PerpetratorID = p.PerpetratorID
+            WHERE i.DateReported >= ? AND i.DateReported < ?
+            GROUP BY p.PerpetratorID
+            ORDER BY cnt DESC LIMIT 10
+            """;
+    public static final String REPORT_VICTIM_ACTIVITY = """
+            SELECT v.Name, v.ContactEmail, COUNT(*) as cnt
+            FROM IncidentReports i
+            JOIN Victims v ON i.VictimID = v.VictimID
+            WHERE i.DateReported >= ? AND i.DateReported < ?
+            GROUP BY v.VictimID
+            HAVING cnt > 3
+            ORDER BY cnt DESC
+            """;
+    public static final String REPORT_EVIDENCE_SUMMARY = """
+            SELECT e.EvidenceType, e.VerifiedStatus, a.Name as AdminName, e.SubmissionDate
+            FROM EvidenceUpload e
+            LEFT JOIN Administrators a ON e.AdminID = a.AdminID
+            WHERE e.SubmissionDate >= ? AND e.SubmissionDate < ?
+            ORDER BY e.SubmissionDate DESC
+            """;
+
+    // IN lists are padded up to one of these sizes so only a few distinct
+    // statements reach the statement cache; the largest is the chunk size
+    private static final int[] ID_LIST_SIZES = {1, 8, 32, 128, 500};
+
+    public static final int MAX_ID_LIST = ID_LIST_SIZES[ID_LIST_SIZES.length - 1];
+
+    /**
+     * Expand IN (:ids) to hold idListSize(count) placeholders
+     */
+    public static String withIdList(String sql, int count) {
+        int size = idListSize(count);
+        StringBuilder ids = new StringBuilder("?");
+        for (int i = 1; i < size; i++) {
+            ids.append(", ?");
+        }
+        return sql.replace(":ids", ids);
+    }
+
+    /**
+     * Placeholders used for a list of count IDs; the caller repeats the last ID to fill them
+     */
+    public static int idListSize(int count) {
+        if (count < 1 || count > MAX_ID_LIST) {
+            throw new IllegalArgumentException("ID list size must be 1.." + MAX_ID_LIST + ": " + count);
+        }
+        for (int size : ID_LIST_SIZES) {
+            if (count <= size) {
+                return size;
+            }
+        }
+        return MAX_ID_LIST;
+    }
+
+    private SqlCatalog() {
+    }
+}
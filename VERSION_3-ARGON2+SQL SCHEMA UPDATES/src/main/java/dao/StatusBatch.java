@@ -0,0 +1,79 @@
+package dao;
+
+import util.DatabaseConnection;
+import util.QueryMetrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set the status of many rows in one transaction, for the *_UPDATE_STATUS
+ * statements of {@link SqlCatalog} (status, admin, ID).
+ *
+ * Duplicate IDs are dropped and the rest are sent as JDBC batches of
+ * BATCH_SIZE rows, so a large selection does not build one huge batch. Any
+ * failure, checked or not, rolls back every chunk. The call is recorded in
+ * QueryMetrics under the given name.
+ */
+final class StatusBatch {
+    // Rows per executeBatch call; keeps each rewritten batch well under max_allowed_packet
+    static final int BATCH_SIZE = 500;
+
+    private StatusBatch() {
+    }
+
+    /**
+     * @param adminID bound as NULL when null
+     * @return outcome per ID in the caller's order: true if the row was updated
+     */
+    static Map<Integer, Boolean> update(String sql, String metric, Collection<Integer> rowIDs, String status,
+                                        Integer adminID) throws SQLException {
+        Map<Integer, Boolean> outcomes = new LinkedHashMap<>();
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(rowIDs));
+        if (ids.isEmpty()) {
+            return outcomes;
+        }
+        long start = System.nanoTime();
+        boolean committed = false;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                    List<Integer> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                    for (int id : chunk) {
+                        stmt.setString(1, status);
+                        if (adminID != null) {
+                            stmt.setInt(2, adminID);
+                        } else {
+                            stmt.setNull(2, Types.INTEGER);
+                        }
+                        stmt.setInt(3, id);
+                        stmt.addBatch();
+                    }
+                    int[] counts = stmt.executeBatch();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        outcomes.put(chunk.get(i), counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO);
+                    }
+                }
+                conn.commit();
+                committed = true;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            QueryMetrics.getInstance().recordBatch(metric, ids.size(), System.nanoTime() - start, !committed);
+        }
+        return outcomes;
+    }
+}
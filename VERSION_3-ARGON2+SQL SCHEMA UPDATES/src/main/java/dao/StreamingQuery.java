@@ -0,0 +1,166 @@
+package dao;
+
+import util.DatabaseConnection;
+import util.UnitOfWork;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Row-by-row reads for exports and full scans.
+ *
+ * The query runs on a read connection as a forward-only, read-only
+ * statement with fetch size Integer.MIN_VALUE, which makes MySQL
+ * Connector/J stream rows from the socket one at a time instead of
+ * buffering the whole result. Heap use is one row at a time, whatever the
+ * result size.
+ *
+ * While a stream is open its connection can run nothing else, and it must
+ * be consumed on the thread that opened it. For that reason streaming is
+ * refused inside a {@link UnitOfWork}: the unit's connection would be blocked
+ * for every other statement of the unit until the rows were drained. Run the
+ * export after the unit has committed. Stopping early cancels the
+ * query on the server (KILL QUERY), so the driver does not have to read
+ * the remaining rows to close the result. If the statement still cannot be
+ * closed, the connection is aborted rather than handed back to the pool
+ * with an unread result on it.
+ *
+ * These statements bypass the statement cache: a cached statement would
+ * keep the streaming fetch size for its next, ordinary use.
+ */
+public final class StreamingQuery {
+
+    private StreamingQuery() {
+    }
+
+    /**
+     * Map every row and hand it to the action as it arrives
+     * @param params values for the ? placeholders, in order
+     * @return number of rows processed
+     */
+    public static <T> long forEach(String sql, RowMapper<T> mapper, Consumer<? super T> action, Object... params)
+            throws SQLException {
+        try (Stream<T> rows = stream(sql, mapper, params)) {
+            long[] count = {0};
+            rows.forEachOrdered(row -> {
+                action.accept(row);
+                count[0]++;
+            });
+            return count[0];
+        } catch (UncheckedSQLException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Lazily mapped rows. The caller must close the stream (try-with-resources);
+     * that releases the connection. A SQLException while reading surfaces as
+     * {@link UncheckedSQLException}.
+     */
+    public static <T> Stream<T> stream(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        if (UnitOfWork.isActive()) {
+            throw new SQLException("Streaming queries cannot run inside a unit of work");
+        }
+        Connection conn = DatabaseConnection.getReadConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs;
+        try {
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(stmt, conn);
+            throw e;
+        }
+
+        RowIterator<T> rows = new RowIterator<>(rs, mapper);
+        PreparedStatement openStmt = stmt;
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            if (!rows.exhausted) {
+                try {
+                    openStmt.cancel();
+                } catch (SQLException e) {
+                    System.err.println("StreamingQuery: Could not cancel abandoned query: " + e.getMessage());
+                }
+            }
+            closeQuietly(openStmt, conn);
+        });
+    }
+
+    private static void closeQuietly(PreparedStatement stmt, Connection conn) {
+        boolean clean = true;
+        try {
+            if (stmt != null) {
+                stmt.close();
+            }
+        } catch (SQLException e) {
+            // The streaming result may still be open; the next borrower could not use the connection
+            System.err.println("StreamingQuery: Discarding connection, statement did not close: " + e.getMessage());
+            clean = false;
+        }
+        try {
+            if (clean) {
+                conn.close();
+            } else {
+                conn.abort(Runnable::run);
+            }
+        } catch (SQLException e) {
+            System.err.println("StreamingQuery: Error releasing connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A SQLException thrown while a {@link #stream} was being consumed
+     */
+    public static final class UncheckedSQLException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedSQLException(SQLException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    private static final class RowIterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean exhausted;
+
+        RowIterator(ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (exhausted) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    exhausted = true;
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                throw new UncheckedSQLException(e);
+            }
+        }
+    }
+}
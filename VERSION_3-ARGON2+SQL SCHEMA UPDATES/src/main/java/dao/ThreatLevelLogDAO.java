@@ -1,12 +1,50 @@
 package dao;
 
 import model.ThreatLevelLog;
+import util.DbExecutor;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface ThreatLevelLogDAO {
     boolean logChange(int perpetratorID, String oldLevel, String newLevel, int adminID) throws SQLException;
     boolean insert(ThreatLevelLog log) throws SQLException; // ADD THIS
     List<ThreatLevelLog> findByPerpetratorID(int perpetratorID) throws SQLException;
     List<ThreatLevelLog> findAll() throws SQLException;
+    Page<ThreatLevelLog> findAllPage(String cursor, int limit) throws SQLException; // newest first
+
+    /**
+     * Date of the newest logged change of each perpetrator, one query per SqlCatalog.MAX_ID_LIST IDs
+     * @return perpetratorID -> last ChangeDate; perpetrators never logged are absent
+     */
+    Map<Integer, LocalDateTime> findLastChangeDates(Collection<Integer> perpetratorIDs) throws SQLException;
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Boolean> logChangeAsync(int perpetratorID, String oldLevel, String newLevel, int adminID) {
+        return DbExecutor.supply(() -> logChange(perpetratorID, oldLevel, newLevel, adminID));
+    }
+
+    default CompletableFuture<Boolean> insertAsync(ThreatLevelLog log) {
+        return DbExecutor.supply(() -> insert(log));
+    }
+
+    default CompletableFuture<List<ThreatLevelLog>> findByPerpetratorIDAsync(int perpetratorID) {
+        return DbExecutor.supply(() -> findByPerpetratorID(perpetratorID));
+    }
+
+    default CompletableFuture<List<ThreatLevelLog>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Page<ThreatLevelLog>> findAllPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findAllPage(cursor, limit));
+    }
+
+    default CompletableFuture<Map<Integer, LocalDateTime>> findLastChangeDatesAsync(Collection<Integer> perpetratorIDs) {
+        return DbExecutor.supply(() -> findLastChangeDates(perpetratorIDs));
+    }
 }
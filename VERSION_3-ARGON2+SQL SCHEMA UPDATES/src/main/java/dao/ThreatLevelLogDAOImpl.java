@@ -2,22 +2,23 @@ package dao;
 
 import model.ThreatLevelLog;
 import util.DatabaseConnection;
-import util.DateUtils;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 public class ThreatLevelLogDAOImpl implements ThreatLevelLogDAO {
+    private static final RowMapper<ThreatLevelLog> MAPPER =
+            BeanRowMapper.of(ThreatLevelLog.class, SqlCatalog.THREAT_LOG_ROW);
 
     @Override
     public boolean logChange(int perpetratorID, String oldLevel, String newLevel, int adminID) throws SQLException {
-        String sql = """
-            INSERT INTO ThreatLevelLog 
-            (PerpetratorID, OldThreatLevel, NewThreatLevel, ChangeDate, AdminID) 
-            VALUES (?, ?, ?, ?, ?)
-            """;
+        String sql = SqlCatalog.THREAT_LOG_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -25,7 +26,7 @@ public class ThreatLevelLogDAOImpl implements ThreatLevelLogDAO {
             stmt.setInt(1, perpetratorID);
             stmt.setString(2, oldLevel);
             stmt.setString(3, newLevel);
-            stmt.setString(4, DateUtils.toDatabaseFormat(LocalDateTime.now()));
+            stmt.setObject(4, LocalDateTime.now());
             stmt.setInt(5, adminID);
 
             if (stmt.executeUpdate() > 0) {
@@ -50,28 +51,63 @@ public class ThreatLevelLogDAOImpl implements ThreatLevelLogDAO {
 
     @Override
     public List<ThreatLevelLog> findByPerpetratorID(int perpetratorID) throws SQLException {
-        return findByColumn("PerpetratorID", perpetratorID);
+        return findList(SqlCatalog.THREAT_LOG_FIND_BY_PERPETRATOR, perpetratorID);
     }
 
     @Override
     public List<ThreatLevelLog> findAll() throws SQLException {
         List<ThreatLevelLog> list = new ArrayList<>();
-        String sql = "SELECT * FROM ThreatLevelLog ORDER BY ChangeDate DESC";
+        String sql = SqlCatalog.THREAT_LOG_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToLog(rs));
+                list.add(MAPPER.map(rs));
             }
         }
         return list;
     }
 
-    private List<ThreatLevelLog> findByColumn(String column, int value) throws SQLException {
+    @Override
+    public Page<ThreatLevelLog> findAllPage(String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.THREAT_LOG_PAGE.fetch(conn, cursor, limit, MAPPER);
+        }
+    }
+
+    @Override
+    public Map<Integer, LocalDateTime> findLastChangeDates(Collection<Integer> perpetratorIDs) throws SQLException {
+        Map<Integer, LocalDateTime> dates = new LinkedHashMap<>();
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(perpetratorIDs));
+        if (ids.isEmpty()) {
+            return dates;
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += SqlCatalog.MAX_ID_LIST) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + SqlCatalog.MAX_ID_LIST, ids.size()));
+                String sql = SqlCatalog.withIdList(SqlCatalog.THREAT_LOG_LAST_CHANGE_BY_IDS, chunk.size());
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int size = SqlCatalog.idListSize(chunk.size());
+                    for (int i = 0; i < size; i++) {
+                        // Padding repeats the last ID
+                        stmt.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            dates.put(rs.getInt(1), rs.getObject(2, LocalDateTime.class));
+                        }
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    private List<ThreatLevelLog> findList(String sql, int value) throws SQLException {
         List<ThreatLevelLog> list = new ArrayList<>();
-        String sql = "SELECT * FROM ThreatLevelLog WHERE " + column + " = ? ORDER BY ChangeDate DESC";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -79,21 +115,10 @@ public class ThreatLevelLogDAOImpl implements ThreatLevelLogDAO {
             stmt.setInt(1, value);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    list.add(mapResultSetToLog(rs));
+                    list.add(MAPPER.map(rs));
                 }
             }
         }
         return list;
     }
-
-    private ThreatLevelLog mapResultSetToLog(ResultSet rs) throws SQLException {
-        ThreatLevelLog log = new ThreatLevelLog();
-        log.setLogID(rs.getInt("LogID"));
-        log.setPerpetratorID(rs.getInt("PerpetratorID"));
-        log.setOldThreatLevel(rs.getString("OldThreatLevel"));
-        log.setNewThreatLevel(rs.getString("NewThreatLevel"));
-        log.setChangeDate(DateUtils.fromDatabaseFormat(rs.getString("ChangeDate")));
-        log.setAdminID(rs.getInt("AdminID"));
-        return log;
-    }
 }
\ No newline at end of file
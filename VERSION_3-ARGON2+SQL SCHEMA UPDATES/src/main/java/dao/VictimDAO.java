@@ -1,8 +1,10 @@
 package dao;
 
 import model.Victim;
+import util.DbExecutor;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Data Access Object interface for Victim entity
@@ -65,5 +67,34 @@ public interface VictimDAO {
      * @throws SQLException if database error occurs
      */
     boolean updateAccountStatus(int victimID, String newStatus) throws SQLException;
-}
 
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Victim> findByEmailAsync(String email) {
+        return DbExecutor.supply(() -> findByEmail(email));
+    }
+
+    default CompletableFuture<Victim> findByIdAsync(int victimID) {
+        return DbExecutor.supply(() -> findById(victimID));
+    }
+
+    default CompletableFuture<List<Victim>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Boolean> createAsync(Victim victim) {
+        return DbExecutor.supply(() -> create(victim));
+    }
+
+    default CompletableFuture<Boolean> updateAsync(Victim victim) {
+        return DbExecutor.supply(() -> update(victim));
+    }
+
+    default CompletableFuture<Boolean> deleteAsync(int victimID) {
+        return DbExecutor.supply(() -> delete(victimID));
+    }
+
+    default CompletableFuture<Boolean> updateAccountStatusAsync(int victimID, String newStatus) {
+        return DbExecutor.supply(() -> updateAccountStatus(victimID, newStatus));
+    }
+}
@@ -2,7 +2,6 @@ package dao;
 
 import model.Victim;
 import util.DatabaseConnection;
-import util.DateUtils;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -13,10 +12,11 @@ import java.util.List;
  * Handles database operations for Victim entity
  */
 public class VictimDAOImpl implements VictimDAO {
+    private static final RowMapper<Victim> MAPPER = BeanRowMapper.of(Victim.class, SqlCatalog.VICTIM_ROW);
 
     @Override
     public Victim findByEmail(String email) throws SQLException {
-        String sql = "SELECT * FROM Victims WHERE ContactEmail = ?";
+        String sql = SqlCatalog.VICTIM_FIND_BY_EMAIL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -25,7 +25,7 @@ public class VictimDAOImpl implements VictimDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToVictim(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
@@ -35,7 +35,7 @@ public class VictimDAOImpl implements VictimDAO {
 
     @Override
     public Victim findById(int victimID) throws SQLException {
-        String sql = "SELECT * FROM Victims WHERE VictimID = ?";
+        String sql = SqlCatalog.VICTIM_FIND_BY_ID;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -44,7 +44,7 @@ public class VictimDAOImpl implements VictimDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToVictim(rs);
+                    return MAPPER.map(rs);
                 }
             }
         }
@@ -55,14 +55,14 @@ public class VictimDAOImpl implements VictimDAO {
     @Override
     public List<Victim> findAll() throws SQLException {
         List<Victim> victims = new ArrayList<>();
-        String sql = "SELECT * FROM Victims ORDER BY VictimID";
+        String sql = SqlCatalog.VICTIM_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                victims.add(mapResultSetToVictim(rs));
+                victims.add(MAPPER.map(rs));
             }
         }
 
@@ -71,7 +71,7 @@ public class VictimDAOImpl implements VictimDAO {
 
     @Override
     public boolean create(Victim victim) throws SQLException {
-        String sql = "INSERT INTO Victims (Name, ContactEmail, PasswordHash, AccountStatus) VALUES (?, ?, ?, ?)";
+        String sql = SqlCatalog.VICTIM_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -127,7 +127,7 @@ public class VictimDAOImpl implements VictimDAO {
 
     @Override
     public boolean update(Victim victim) throws SQLException {
-        String sql = "UPDATE Victims SET Name = ?, ContactEmail = ?, PasswordHash = ?, AccountStatus = ? WHERE VictimID = ?";
+        String sql = SqlCatalog.VICTIM_UPDATE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -145,7 +145,7 @@ public class VictimDAOImpl implements VictimDAO {
 
     @Override
     public boolean delete(int victimID) throws SQLException {
-        String sql = "DELETE FROM Victims WHERE VictimID = ?";
+        String sql = SqlCatalog.VICTIM_DELETE;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -159,7 +159,7 @@ public class VictimDAOImpl implements VictimDAO {
 
     @Override
     public boolean updateAccountStatus(int victimID, String newStatus) throws SQLException {
-        String sql = "UPDATE Victims SET AccountStatus = ? WHERE VictimID = ?";
+        String sql = SqlCatalog.VICTIM_UPDATE_STATUS;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -170,24 +170,5 @@ public class VictimDAOImpl implements VictimDAO {
             return stmt.executeUpdate() > 0;
         }
     }
-
-    /**
-     * Helper method to map ResultSet to Victim object
-     */
-    private Victim mapResultSetToVictim(ResultSet rs) throws SQLException {
-        Victim victim = new Victim();
-        victim.setVictimID(rs.getInt("VictimID"));
-        victim.setName(rs.getString("Name"));
-        victim.setContactEmail(rs.getString("ContactEmail"));
-        victim.setPasswordHash(rs.getString("PasswordHash"));
-        victim.setAccountStatus(rs.getString("AccountStatus"));
-
-        String dateStr = rs.getString("DateCreated");
-        if (dateStr != null) {
-            victim.setDateCreated(DateUtils.fromDatabaseFormat(dateStr));
-        }
-
-        return victim;
-    }
 }
 
@@ -1,8 +1,10 @@
 package dao;
 
 import model.VictimStatusLog;
+import util.DbExecutor;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * DAO Interface for Victim Status Change Logging
@@ -22,4 +24,27 @@ public interface VictimStatusLogDAO {
      * Get all logs
      */
     List<VictimStatusLog> findAll() throws SQLException;
-}
\ No newline at end of file
+
+    /**
+     * All logs, newest first, one page at a time
+     */
+    Page<VictimStatusLog> findAllPage(String cursor, int limit) throws SQLException;
+
+    // Async variants: run the blocking call on util.DbExecutor; deliver results with util.FxAsync
+
+    default CompletableFuture<Boolean> logChangeAsync(int victimID, String oldStatus, String newStatus, Integer adminID) {
+        return DbExecutor.supply(() -> logChange(victimID, oldStatus, newStatus, adminID));
+    }
+
+    default CompletableFuture<List<VictimStatusLog>> findByVictimIDAsync(int victimID) {
+        return DbExecutor.supply(() -> findByVictimID(victimID));
+    }
+
+    default CompletableFuture<List<VictimStatusLog>> findAllAsync() {
+        return DbExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Page<VictimStatusLog>> findAllPageAsync(String cursor, int limit) {
+        return DbExecutor.supply(() -> findAllPage(cursor, limit));
+    }
+}
@@ -2,7 +2,6 @@ package dao;
 
 import model.VictimStatusLog;
 import util.DatabaseConnection;
-import util.DateUtils;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -10,14 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class VictimStatusLogDAOImpl implements VictimStatusLogDAO {
+    private static final RowMapper<VictimStatusLog> MAPPER =
+            BeanRowMapper.of(VictimStatusLog.class, SqlCatalog.VICTIM_STATUS_LOG_ROW);
 
     @Override
     public boolean logChange(int victimID, String oldStatus, String newStatus, Integer adminID) throws SQLException {
-        String sql = """
-            INSERT INTO VictimStatusLog 
-            (VictimID, OldStatus, NewStatus, ChangeDate, AdminID) 
-            VALUES (?, ?, ?, ?, ?)
-            """;
+        String sql = SqlCatalog.VICTIM_STATUS_LOG_INSERT;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -25,7 +22,7 @@ public class VictimStatusLogDAOImpl implements VictimStatusLogDAO {
             stmt.setInt(1, victimID);
             stmt.setString(2, oldStatus);
             stmt.setString(3, newStatus);
-            stmt.setString(4, DateUtils.toDatabaseFormat(LocalDateTime.now()));
+            stmt.setObject(4, LocalDateTime.now());
             if (adminID == null) {
                 stmt.setNull(5, Types.INTEGER);
             } else {
@@ -38,28 +35,34 @@ public class VictimStatusLogDAOImpl implements VictimStatusLogDAO {
 
     @Override
     public List<VictimStatusLog> findByVictimID(int victimID) throws SQLException {
-        return findByColumn("VictimID", victimID);
+        return findList(SqlCatalog.VICTIM_STATUS_LOG_FIND_BY_VICTIM, victimID);
     }
 
     @Override
     public List<VictimStatusLog> findAll() throws SQLException {
         List<VictimStatusLog> list = new ArrayList<>();
-        String sql = "SELECT * FROM VictimStatusLog ORDER BY ChangeDate DESC";
+        String sql = SqlCatalog.VICTIM_STATUS_LOG_FIND_ALL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                list.add(mapResultSetToLog(rs));
+                list.add(MAPPER.map(rs));
             }
         }
         return list;
     }
 
-    private List<VictimStatusLog> findByColumn(String column, int value) throws SQLException {
+    @Override
+    public Page<VictimStatusLog> findAllPage(String cursor, int limit) throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return SqlCatalog.VICTIM_STATUS_LOG_PAGE.fetch(conn, cursor, limit, MAPPER);
+        }
+    }
+
+    private List<VictimStatusLog> findList(String sql, int value) throws SQLException {
         List<VictimStatusLog> list = new ArrayList<>();
-        String sql = "SELECT * FROM VictimStatusLog WHERE " + column + " = ? ORDER BY ChangeDate DESC";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -67,21 +70,10 @@ public class VictimStatusLogDAOImpl implements VictimStatusLogDAO {
             stmt.setInt(1, value);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    list.add(mapResultSetToLog(rs));
+                    list.add(MAPPER.map(rs));
                 }
             }
         }
         return list;
     }
-
-    private VictimStatusLog mapResultSetToLog(ResultSet rs) throws SQLException {
-        VictimStatusLog log = new VictimStatusLog();
-        log.setLogID(rs.getInt("LogID"));
-        log.setVictimID(rs.getInt("VictimID"));
-        log.setOldStatus(rs.getString("OldStatus"));
-        log.setNewStatus(rs.getString("NewStatus"));
-        log.setChangeDate(DateUtils.fromDatabaseFormat(rs.getString("ChangeDate")));
-        log.setAdminID(rs.getInt("AdminID"));
-        return log;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package model;
+
+/**
+ * Read model for incident lists: an IncidentReport plus the names its IDs
+ * point to, loaded by one joined query so table cells never look them up.
+ * Names are null when the referenced row is missing or, for the admin, when
+ * the report has not been reviewed yet.
+ */
+public class IncidentReportView extends IncidentReport {
+    private String attackName;
+    private String perpetratorIdentifier;
+    private String adminName;
+
+    // Default constructor
+    public IncidentReportView() {}
+
+    // Getters and Setters
+    public String getAttackName() { return attackName; }
+    public void setAttackName(String attackName) { this.attackName = attackName; }
+
+    public String getPerpetratorIdentifier() { return perpetratorIdentifier; }
+    public void setPerpetratorIdentifier(String perpetratorIdentifier) { this.perpetratorIdentifier = perpetratorIdentifier; }
+
+    public String getAdminName() { return adminName; }
+    public void setAdminName(String adminName) { this.adminName = adminName; }
+}
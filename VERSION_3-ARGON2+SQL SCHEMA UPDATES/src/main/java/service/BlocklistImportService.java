@@ -0,0 +1,153 @@
+package service;
+
+import dao.PerpetratorDAO;
+import dao.PerpetratorDAOImpl;
+import model.Perpetrator;
+import util.CsvReader;
+import util.ValidationUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * Service class for importing perpetrator blocklists from CSV files
+ *
+ * Columns: Identifier, IdentifierType[, AssociatedName]. A first record whose
+ * first field is "Identifier" is treated as a header. IdentifierType must be
+ * one of the Perpetrators ENUM values. Invalid records are skipped and
+ * counted, not fatal. The file is streamed straight into
+ * {@link PerpetratorDAO#importBlocklist}, so memory use does not grow with
+ * the number of entries.
+ */
+public class BlocklistImportService {
+    private static final String[] IDENTIFIER_TYPES = {
+            "Phone Number", "Email Address", "Social Media Account", "Website URL", "IP Address"
+    };
+    private static final String[] THREAT_LEVELS = {"UnderReview", "Suspected", "Malicious", "Cleared"};
+    private static final int MAX_IDENTIFIER_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 100;
+    // Skipped records are counted past this, but no longer logged one by one
+    private static final int MAX_LOGGED_SKIPS = 20;
+
+    private final PerpetratorDAO perpetratorDAO;
+
+    public BlocklistImportService() {
+        this.perpetratorDAO = new PerpetratorDAOImpl();
+    }
+
+    /**
+     * Import a blocklist file
+     * @param threatLevel threat level for identifiers not yet known; known ones keep theirs
+     * @param progress called after each committed chunk with the entries written so far
+     * @return entries written and records skipped
+     */
+    public ImportResult importCsv(File file, String threatLevel, LongConsumer progress)
+            throws IOException, SQLException {
+        if (!ValidationUtils.isValidEnumValue(threatLevel, THREAT_LEVELS)) {
+            throw new IllegalArgumentException("Invalid threat level: " + threatLevel);
+        }
+
+        try (CsvReader reader = new CsvReader(file)) {
+            Entries entries = new Entries(reader, threatLevel);
+            long written = perpetratorDAO.importBlocklist(() -> entries, progress);
+            System.out.println("BlocklistImportService: Imported " + written + " entries from " + file.getName()
+                    + ", skipped " + entries.skipped);
+            return new ImportResult(written, entries.skipped);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Outcome of one import
+     */
+    public static final class ImportResult {
+        private final long imported;
+        private final long skipped;
+
+        ImportResult(long imported, long skipped) {
+            this.imported = imported;
+            this.skipped = skipped;
+        }
+
+        public long getImported() { return imported; }
+        public long getSkipped() { return skipped; }
+    }
+
+    /**
+     * Valid records of the file as perpetrators, parsed as the DAO asks for them
+     */
+    private static final class Entries implements Iterator<Perpetrator> {
+        private final CsvReader reader;
+        private final String threatLevel;
+        private Perpetrator next;
+        private long skipped;
+
+        Entries(CsvReader reader, String threatLevel) {
+            this.reader = reader;
+            this.threatLevel = threatLevel;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null) {
+                    List<String> record = reader.readRecord();
+                    if (record == null) {
+                        return false;
+                    }
+                    next = toPerpetrator(record);
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Perpetrator next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Perpetrator p = next;
+            next = null;
+            return p;
+        }
+
+        private Perpetrator toPerpetrator(List<String> record) {
+            String identifier = record.get(0).trim();
+            if (record.size() == 1 && identifier.isEmpty()) {
+                return null; // blank line
+            }
+            if (reader.getRecordNumber() == 1 && identifier.equalsIgnoreCase("Identifier")) {
+                return null; // header
+            }
+
+            String type = record.size() > 1 ? record.get(1).trim() : "";
+            String name = record.size() > 2 ? record.get(2).trim() : "";
+            if (identifier.isEmpty() || identifier.length() > MAX_IDENTIFIER_LENGTH) {
+                return skip("identifier is empty or longer than " + MAX_IDENTIFIER_LENGTH);
+            }
+            if (!ValidationUtils.isValidEnumValue(type, IDENTIFIER_TYPES)) {
+                return skip("unknown identifier type '" + type + "'");
+            }
+            if (name.length() > MAX_NAME_LENGTH) {
+                return skip("name longer than " + MAX_NAME_LENGTH);
+            }
+            return new Perpetrator(identifier, type, name.isEmpty() ? null : name, threatLevel, null);
+        }
+
+        private Perpetrator skip(String reason) {
+            if (++skipped <= MAX_LOGGED_SKIPS) {
+                System.err.println("BlocklistImportService: Skipping record " + reader.getRecordNumber() + ": " + reason);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package service;
+
+import util.DatabaseConfig;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One escalation or flagging rule, as declared in application.properties
+ *
+ * A rule counts events of one kind per subject over a window and fires
+ * once the count reaches the threshold; the subject is then moved to the
+ * target level (perpetrators) or status (victims). Every event carries the
+ * perpetrator and victim of its incident, so a rule can count the events
+ * themselves or the distinct counterparts behind them:
+ *
+ *   escalation.rules=victims-7d,monthly-flag
+ *   escalation.rule.victims-7d.event=incident         incident | evidence (verified)
+ *   escalation.rule.victims-7d.subject=perpetrator    perpetrator | victim
+ *   escalation.rule.victims-7d.distinct=victim        none | victim | perpetrator
+ *   escalation.rule.victims-7d.window=7d              <n>d | month | all
+ *   escalation.rule.victims-7d.threshold=3
+ *   escalation.rule.victims-7d.target=Malicious
+ *
+ * "7d" counts from 7 days before today, like DATE_SUB(CURDATE(), INTERVAL 7 DAY);
+ * "month" is the current calendar month. Keys left out of a rule named like
+ * one of the {@link #DEFAULTS} take the default's value. An invalid rule is
+ * logged and skipped.
+ *
+ * A rule only ever raises a level or status ({@link #raises}). Perpetrator
+ * levels set on or after the day of a rule's newest event are not
+ * overridden (see {@link EscalationRuleEngine#escalate}), so even a rule
+ * with window=all leaves a Cleared perpetrator alone until new evidence or
+ * reports arrive.
+ */
+public final class EscalationRule {
+    public enum Event { INCIDENT, EVIDENCE }
+    public enum Subject { PERPETRATOR, VICTIM }
+    public enum DistinctBy { NONE, VICTIM, PERPETRATOR }
+
+    public static final int MONTH = -1;
+    public static final int ALL = 0;
+
+    private static final Set<String> THREAT_LEVELS = Set.of("UnderReview", "Suspected", "Malicious", "Cleared");
+    private static final Set<String> ACCOUNT_STATUSES = Set.of("Active", "Flagged", "Suspended");
+    // Rules only move a subject up this order; Cleared ranks with UnderReview
+    private static final Map<String, Integer> SEVERITY = Map.of(
+            "Cleared", 0, "UnderReview", 0, "Suspected", 1, "Malicious", 2,
+            "Active", 0, "Flagged", 1, "Suspended", 2);
+
+    /**
+     * The rules applied when escalation.rules is not set
+     */
+    public static final List<EscalationRule> DEFAULTS = List.of(
+            // 3+ distinct victims within 7 days
+            new EscalationRule("victims-7d", Event.INCIDENT, Subject.PERPETRATOR, DistinctBy.VICTIM, 7, 3, "Malicious"),
+            // more than 5 reports by one victim in a calendar month
+            new EscalationRule("monthly-flag", Event.INCIDENT, Subject.VICTIM, DistinctBy.NONE, MONTH, 6, "Flagged"),
+            // 3+ verified evidence items against one perpetrator; a Cleared level stands until newer evidence
+            new EscalationRule("verified-evidence", Event.EVIDENCE, Subject.PERPETRATOR, DistinctBy.NONE, ALL, 3, "Malicious"));
+
+    private final String name;
+    private final Event event;
+    private final Subject subject;
+    private final DistinctBy distinctBy;
+    private final int windowDays;
+    private final int threshold;
+    private final String target;
+
+    /**
+     * @param windowDays days back from today, or {@link #MONTH} or {@link #ALL}
+     * @throws IllegalArgumentException if the combination cannot be evaluated
+     */
+    public EscalationRule(String name, Event event, Subject subject, DistinctBy distinctBy, int windowDays,
+                          int threshold, String target) {
+        if (windowDays < MONTH) {
+            throw new IllegalArgumentException(name + ": window must be <n>d, month or all");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException(name + ": threshold must be at least 1");
+        }
+        if (distinctBy.name().equals(subject.name())) {
+            throw new IllegalArgumentException(name + ": cannot count distinct " + lower(subject) + "s of a " + lower(subject));
+        }
+        Set<String> targets = subject == Subject.PERPETRATOR ? THREAT_LEVELS : ACCOUNT_STATUSES;
+        if (!targets.contains(target)) {
+            throw new IllegalArgumentException(name + ": target must be one of " + targets);
+        }
+        this.name = name;
+        this.event = event;
+        this.subject = subject;
+        this.distinctBy = distinctBy;
+        this.windowDays = windowDays;
+        this.threshold = threshold;
+        this.target = target;
+    }
+
+    /**
+     * The rules listed in escalation.rules, in order, or {@link #DEFAULTS} when the key is not set
+     */
+    public static List<EscalationRule> load(DatabaseConfig config) {
+        Map<String, EscalationRule> defaults = new LinkedHashMap<>();
+        for (EscalationRule rule : DEFAULTS) {
+            defaults.put(rule.name, rule);
+        }
+        String names = config.getString("escalation.rules", String.join(",", defaults.keySet()));
+
+        List<EscalationRule> rules = new ArrayList<>();
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                rules.add(parse(config, name, defaults.get(name)));
+            } catch (IllegalArgumentException e) {
+                System.err.println("EscalationRule: Skipping rule " + e.getMessage());
+            }
+        }
+        return rules;
+    }
+
+    private static EscalationRule parse(DatabaseConfig config, String name, EscalationRule fallback) {
+        String prefix = "escalation.rule." + name + ".";
+        String event = config.getString(prefix + "event", fallback != null ? fallback.event.name() : null);
+        String subject = config.getString(prefix + "subject", fallback != null ? fallback.subject.name() : null);
+        String distinct = config.getString(prefix + "distinct", fallback != null ? fallback.distinctBy.name() : "none");
+        String window = config.getString(prefix + "window", fallback != null ? formatWindow(fallback.windowDays) : null);
+        String target = config.getString(prefix + "target", fallback != null ? fallback.target : null);
+        int threshold = config.getInt(prefix + "threshold", fallback != null ? fallback.threshold : 0);
+        if (event == null || subject == null || window == null || target == null) {
+            throw new IllegalArgumentException(name + ": event, subject, window and target are required");
+        }
+        return new EscalationRule(name, parseEnum(Event.class, name, event), parseEnum(Subject.class, name, subject),
+                parseEnum(DistinctBy.class, name, distinct), parseWindow(name, window), threshold, target);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + ": unknown " + type.getSimpleName() + " " + value);
+        }
+    }
+
+    private static int parseWindow(String name, String value) {
+        String window = value.trim().toLowerCase(Locale.ROOT);
+        if (window.equals("month")) {
+            return MONTH;
+        }
+        if (window.equals("all")) {
+            return ALL;
+        }
+        try {
+            int days = Integer.parseInt(window.endsWith("d") ? window.substring(0, window.length() - 1) : window);
+            if (days > 0) {
+                return days;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(name + ": window must be <n>d, month or all: " + value);
+    }
+
+    private static String formatWindow(int windowDays) {
+        return windowDays == MONTH ? "month" : windowDays == ALL ? "all" : windowDays + "d";
+    }
+
+    public String getName() { return name; }
+    public Event getEvent() { return event; }
+    public Subject getSubject() { return subject; }
+    public DistinctBy getDistinctBy() { return distinctBy; }
+
+    /**
+     * Days back from today, or {@link #MONTH} or {@link #ALL}
+     */
+    public int getWindowDays() { return windowDays; }
+    public int getThreshold() { return threshold; }
+
+    /**
+     * Threat level (perpetrator rules) or account status (victim rules) the subject is moved to
+     */
+    public String getTarget() { return target; }
+
+    /**
+     * Whether moving a subject from the given level or status to the target is an escalation;
+     * a rule never lowers one
+     */
+    public boolean raises(String current) {
+        return current == null || SEVERITY.getOrDefault(current, 0) < SEVERITY.get(target);
+    }
+
+    /**
+     * First day counted on the given day; null when the window reaches back to the beginning
+     */
+    public LocalDate windowStart(LocalDate today) {
+        if (windowDays == ALL) {
+            return null;
+        }
+        return windowDays == MONTH ? today.withDayOfMonth(1) : today.minusDays(windowDays);
+    }
+
+    /**
+     * What a count of this rule means, e.g. "3 victims in the last 7 days"
+     */
+    public String describe(int count) {
+        String counted = switch (distinctBy) {
+            case VICTIM -> "victims";
+            case PERPETRATOR -> "perpetrators";
+            case NONE -> event == Event.INCIDENT ? "reports" : "verified evidence items";
+        };
+        String window = windowDays == MONTH ? "this month"
+                : windowDays == ALL ? "in total" : "in the last " + windowDays + " days";
+        return count + " " + counted + " " + window;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s events per %s, distinct %s, window %s, threshold %d -> %s",
+                name, lower(event), lower(subject), lower(distinctBy), formatWindow(windowDays), threshold, target);
+    }
+
+    private static String lower(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
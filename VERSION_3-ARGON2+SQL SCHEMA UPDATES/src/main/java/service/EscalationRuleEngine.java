@@ -0,0 +1,608 @@
+package service;
+
+import dao.EvidenceDAO;
+import dao.EvidenceDAOImpl;
+import dao.IncidentReportDAO;
+import dao.IncidentReportDAOImpl;
+import dao.PerpetratorDAO;
+import dao.PerpetratorDAOImpl;
+import dao.ThreatLevelLogDAO;
+import dao.ThreatLevelLogDAOImpl;
+import model.IncidentReport;
+import util.DatabaseConfig;
+import util.IntIntMap;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Escalation and flagging rules, evaluated in memory as events arrive
+ *
+ * Every {@link EscalationRule} is compiled into an evaluator that keeps, per
+ * subject, exactly what its threshold is compared against: how many events
+ * each counterpart (victim or perpetrator) contributed, how many distinct
+ * counterparts that is, and the total. A new event updates those counters
+ * and is checked in constant time per rule, instead of re-running a COUNT
+ * query. Windows that slide also keep per-day buckets; a day that leaves
+ * the window is subtracted the next time its subject is touched (or at the
+ * daily sweep), so each event is added once and expired once.
+ *
+ * The counters are rebuilt from the database by {@link #reload()}, with one
+ * grouped query per event kind, at startup and before every scheduled
+ * escalation run. In between they are kept current by calling the event
+ * methods after the change has been committed: new submissions, reports
+ * leaving for or coming back from the recycle bin, and evidence being
+ * verified. Verified evidence that leaves with a rejected report, and
+ * changes made by other clients, are seen after the next reload; so is an
+ * event that lands while a reload is reading, which may be missed or
+ * counted twice until then.
+ *
+ * Until the first successful reload {@link #isLoaded()} is false;
+ * {@link #ensureLoaded()} loads on demand.
+ *
+ * {@link #escalate} only raises threat levels, and leaves a perpetrator
+ * alone when its level was changed (by an admin or a rule) on or after the
+ * day of the newest event behind the firing: that decision was made with
+ * those events in view. A later event makes the rule apply again.
+ */
+public final class EscalationRuleEngine {
+    // Earliest DATETIME value; a reload reads from here when a rule counts everything
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private static final EscalationRuleEngine INSTANCE = new EscalationRuleEngine(
+            EscalationRule.load(DatabaseConfig.load()), new IncidentReportDAOImpl(), new EvidenceDAOImpl(),
+            new PerpetratorDAOImpl(), new ThreatLevelLogDAOImpl());
+
+    private final List<EscalationRule> rules;
+    private final IncidentReportDAO incidentDAO;
+    private final EvidenceDAO evidenceDAO;
+    private final PerpetratorDAO perpDAO;
+    private final ThreatLevelLogDAO threatLogDAO;
+
+    private List<Evaluator> evaluators = List.of();
+    private boolean loaded;
+    private long currentDay = Long.MIN_VALUE;
+    private LocalDateTime loadedAt;
+
+    private EscalationRuleEngine(List<EscalationRule> rules, IncidentReportDAO incidentDAO, EvidenceDAO evidenceDAO,
+                                 PerpetratorDAO perpDAO, ThreatLevelLogDAO threatLogDAO) {
+        this.rules = List.copyOf(rules);
+        this.incidentDAO = incidentDAO;
+        this.evidenceDAO = evidenceDAO;
+        this.perpDAO = perpDAO;
+        this.threatLogDAO = threatLogDAO;
+    }
+
+    public static EscalationRuleEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The configured rules, in evaluation order
+     */
+    public List<EscalationRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Rebuild every evaluator from the database
+     * @throws SQLException if a query fails; the previous counts stay in place
+     */
+    public void reload() throws SQLException {
+        LocalDate today = LocalDate.now();
+        List<Evaluator> compiled = new ArrayList<>();
+        for (EscalationRule rule : rules) {
+            compiled.add(new Evaluator(rule, today));
+        }
+        long incidents = load(compiled, EscalationRule.Event.INCIDENT, today, incidentDAO::forEachDailyCount);
+        long evidence = load(compiled, EscalationRule.Event.EVIDENCE, today, evidenceDAO::forEachVerifiedDailyCount);
+
+        synchronized (this) {
+            evaluators = compiled;
+            currentDay = today.toEpochDay();
+            loaded = true;
+            loadedAt = LocalDateTime.now();
+        }
+        System.out.println("EscalationRuleEngine: Loaded " + compiled.size() + " rules from " + incidents
+                + " incident and " + evidence + " evidence groups");
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Load the counts unless that has been done already
+     */
+    public void ensureLoaded() throws SQLException {
+        if (!isLoaded()) {
+            reload();
+        }
+    }
+
+    /**
+     * Rules that fire once one more event of this kind dated today is counted, in rule order.
+     * Nothing is recorded: lets a submission apply its escalations in the same transaction
+     * as the report, which is recorded with incidentAdded after commit.
+     */
+    public synchronized List<Firing> check(EscalationRule.Event event, int perpetratorID, int victimID) {
+        LocalDate today = LocalDate.now();
+        advanceTo(today);
+        List<Firing> firings = new ArrayList<>();
+        for (Evaluator evaluator : evaluators) {
+            if (evaluator.rule.getEvent() == event) {
+                int count = evaluator.countWith(perpetratorID, victimID);
+                if (count >= evaluator.rule.getThreshold()) {
+                    firings.add(new Firing(evaluator.rule, evaluator.subjectOf(perpetratorID, victimID), count, today));
+                }
+            }
+        }
+        return firings;
+    }
+
+    /**
+     * Rules whose threshold one perpetrator or victim has reached, in rule order
+     */
+    public synchronized List<Firing> firingFor(EscalationRule.Subject subject, int subjectID) {
+        advanceTo(LocalDate.now());
+        List<Firing> firings = new ArrayList<>();
+        for (Evaluator evaluator : evaluators) {
+            if (evaluator.rule.getSubject() == subject) {
+                int count = evaluator.count(subjectID);
+                if (count >= evaluator.rule.getThreshold()) {
+                    firings.add(new Firing(evaluator.rule, subjectID, count, evaluator.lastEvent(subjectID)));
+                }
+            }
+        }
+        return firings;
+    }
+
+    /**
+     * Every subject of the given kind whose count is at or above a rule's threshold, in rule order
+     */
+    public synchronized List<Firing> firing(EscalationRule.Subject subject) {
+        advanceTo(LocalDate.now());
+        List<Firing> firings = new ArrayList<>();
+        for (Evaluator evaluator : evaluators) {
+            if (evaluator.rule.getSubject() == subject) {
+                evaluator.collectFiring(firings);
+            }
+        }
+        return firings;
+    }
+
+    /**
+     * Count a committed report
+     */
+    public void incidentAdded(IncidentReport report) {
+        incidentAdded(report.getPerpetratorID(), report.getVictimID(), report.getDateReported());
+    }
+
+    public void incidentAdded(Integer perpetratorID, Integer victimID, LocalDateTime dateReported) {
+        record(EscalationRule.Event.INCIDENT, perpetratorID, victimID, dateReported, 1);
+    }
+
+    /**
+     * Stop counting a report that was deleted or moved to the recycle bin
+     */
+    public void incidentRemoved(IncidentReport report) {
+        record(EscalationRule.Event.INCIDENT, report.getPerpetratorID(), report.getVictimID(),
+                report.getDateReported(), -1);
+    }
+
+    /**
+     * Count evidence items whose verification has been committed, looking up their incidents
+     * with one query per SqlCatalog.MAX_ID_LIST IDs; loads the counts first if needed
+     * @return evidence rules that fire for the perpetrators and victims involved, in rule order
+     */
+    public List<Firing> evidenceVerified(Collection<Integer> evidenceIDs) throws SQLException {
+        if (evidenceIDs.isEmpty() || !hasRulesFor(EscalationRule.Event.EVIDENCE)) {
+            return List.of();
+        }
+        List<int[]> events = new ArrayList<>();
+        evidenceDAO.forEachDailyCount(evidenceIDs,
+                (perpID, victimID, day, items) -> events.add(new int[]{perpID, victimID, (int) day.toEpochDay(), items}));
+
+        // A first load reads the verifications just committed, so they are not added again
+        boolean counted = !isLoaded();
+        if (counted) {
+            reload();
+        }
+
+        synchronized (this) {
+            advanceTo(LocalDate.now());
+            List<Firing> firings = new ArrayList<>();
+            for (Evaluator evaluator : evaluators) {
+                if (evaluator.rule.getEvent() != EscalationRule.Event.EVIDENCE) {
+                    continue;
+                }
+                IntIntMap subjects = new IntIntMap();
+                for (int[] event : events) {
+                    if (!counted) {
+                        evaluator.add(event[0], event[1], event[2], event[3]);
+                    }
+                    subjects.put(evaluator.subjectOf(event[0], event[1]), 1);
+                }
+                subjects.forEach((subjectID, unused) -> {
+                    int count = evaluator.count(subjectID);
+                    if (count >= evaluator.rule.getThreshold()) {
+                        firings.add(new Firing(evaluator.rule, subjectID, count, evaluator.lastEvent(subjectID)));
+                    }
+                });
+            }
+            return firings;
+        }
+    }
+
+    /**
+     * Move every perpetrator in the firings to its rule's target level, the first rule per perpetrator
+     * winning, in one batched transaction per target level. Perpetrators already at or above the
+     * target, or whose level was changed on or after the day of the firing's newest event, are
+     * skipped; victim firings are ignored.
+     * @param adminID logged as the admin who made the change; null for automatic changes
+     * @return number of perpetrators changed
+     */
+    public int escalate(List<Firing> firings, Integer adminID) throws SQLException {
+        Map<Integer, Firing> targets = new LinkedHashMap<>();
+        for (Firing firing : firings) {
+            if (firing.rule.getSubject() == EscalationRule.Subject.PERPETRATOR) {
+                targets.putIfAbsent(firing.subjectID, firing);
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, LocalDateTime> lastChanges = threatLogDAO.findLastChangeDates(targets.keySet());
+        Map<String, Map<Integer, String>> byTarget = new LinkedHashMap<>();
+        for (Map.Entry<Integer, String> current : perpDAO.findThreatLevels(targets.keySet()).entrySet()) {
+            Firing firing = targets.get(current.getKey());
+            LocalDateTime lastChange = lastChanges.get(current.getKey());
+            if (!firing.rule.raises(current.getValue())) {
+                continue;
+            }
+            if (lastChange != null && !firing.lastEvent.isAfter(lastChange.toLocalDate())) {
+                continue; // decided after these events; only a newer one overrides it
+            }
+            byTarget.computeIfAbsent(firing.getTarget(), t -> new LinkedHashMap<>())
+                    .put(current.getKey(), current.getValue());
+        }
+        int changed = 0;
+        for (Map.Entry<String, Map<Integer, String>> group : byTarget.entrySet()) {
+            for (boolean outcome : perpDAO.changeThreatLevelBatch(group.getValue(), group.getKey(), adminID).values()) {
+                if (outcome) {
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    public synchronized String getStats() {
+        if (!loaded) {
+            return "Escalation rules: " + rules.size() + " configured, not loaded";
+        }
+        int subjects = 0;
+        for (Evaluator evaluator : evaluators) {
+            subjects += evaluator.subjects.size();
+        }
+        return String.format("Escalation rules: %d loaded at %s, %d subjects tracked",
+                evaluators.size(), loadedAt.withNano(0), subjects);
+    }
+
+    private boolean hasRulesFor(EscalationRule.Event event) {
+        for (EscalationRule rule : rules) {
+            if (rule.getEvent() == event) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void record(EscalationRule.Event event, Integer perpetratorID, Integer victimID,
+                                     LocalDateTime date, int delta) {
+        if (!loaded || perpetratorID == null || victimID == null || date == null) {
+            return;
+        }
+        advanceTo(LocalDate.now());
+        int day = (int) date.toLocalDate().toEpochDay();
+        for (Evaluator evaluator : evaluators) {
+            if (evaluator.rule.getEvent() == event) {
+                evaluator.add(perpetratorID, victimID, day, delta);
+            }
+        }
+    }
+
+    /**
+     * Move every window to today's start when the date changes, dropping subjects left with nothing
+     */
+    private void advanceTo(LocalDate today) {
+        if (today.toEpochDay() == currentDay) {
+            return;
+        }
+        for (Evaluator evaluator : evaluators) {
+            evaluator.advanceTo(today);
+        }
+        currentDay = today.toEpochDay();
+    }
+
+    private static long load(List<Evaluator> compiled, EscalationRule.Event event, LocalDate today,
+                             DailyCountSource source) throws SQLException {
+        List<Evaluator> targets = new ArrayList<>();
+        LocalDate since = today;
+        for (Evaluator evaluator : compiled) {
+            if (evaluator.rule.getEvent() == event) {
+                targets.add(evaluator);
+                LocalDate start = evaluator.rule.windowStart(today);
+                if (since != null && (start == null || start.isBefore(since))) {
+                    since = start;
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        return source.forEach(since != null ? since.atStartOfDay() : BEGINNING, (perpID, victimID, day, events) -> {
+            for (Evaluator evaluator : targets) {
+                evaluator.add(perpID, victimID, (int) day.toEpochDay(), events);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface DailyCountSource {
+        long forEach(LocalDateTime since, IncidentReportDAO.DailyCountHandler handler) throws SQLException;
+    }
+
+    /**
+     * One compiled rule: a window per subject that has events inside it
+     */
+    private static final class Evaluator {
+        private final EscalationRule rule;
+        private final Map<Integer, Window> subjects = new HashMap<>();
+        // First epoch day inside the window today
+        private int start;
+
+        Evaluator(EscalationRule rule, LocalDate today) {
+            this.rule = rule;
+            this.start = startOn(today);
+        }
+
+        int subjectOf(int perpetratorID, int victimID) {
+            return rule.getSubject() == EscalationRule.Subject.PERPETRATOR ? perpetratorID : victimID;
+        }
+
+        // Events are told apart by this ID; 0 when the rule counts every event
+        int counterpartOf(int perpetratorID, int victimID) {
+            return switch (rule.getDistinctBy()) {
+                case VICTIM -> victimID;
+                case PERPETRATOR -> perpetratorID;
+                case NONE -> 0;
+            };
+        }
+
+        void add(int perpetratorID, int victimID, int day, int delta) {
+            if (day < start) {
+                return; // already outside the window
+            }
+            int subjectID = subjectOf(perpetratorID, victimID);
+            Window window = window(subjectID);
+            if (window == null) {
+                if (delta < 0) {
+                    return;
+                }
+                window = new Window(rule.getWindowDays() != EscalationRule.ALL, start);
+                subjects.put(subjectID, window);
+            }
+            window.add(day, counterpartOf(perpetratorID, victimID), delta);
+            if (window.isEmpty()) {
+                subjects.remove(subjectID);
+            }
+        }
+
+        int count(int subjectID) {
+            Window window = window(subjectID);
+            return window == null ? 0 : window.count(rule.getDistinctBy() != EscalationRule.DistinctBy.NONE);
+        }
+
+        /**
+         * Day of the newest event counted for the subject, or null if it has none
+         */
+        LocalDate lastEvent(int subjectID) {
+            Window window = window(subjectID);
+            return window == null ? null : LocalDate.ofEpochDay(window.latest);
+        }
+
+        int countWith(int perpetratorID, int victimID) {
+            Window window = window(subjectOf(perpetratorID, victimID));
+            if (window == null) {
+                return 1;
+            }
+            return window.countWith(counterpartOf(perpetratorID, victimID),
+                    rule.getDistinctBy() != EscalationRule.DistinctBy.NONE);
+        }
+
+        void collectFiring(List<Firing> firings) {
+            Iterator<Map.Entry<Integer, Window>> it = subjects.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, Window> entry = it.next();
+                Window window = entry.getValue();
+                window.advance(start);
+                if (window.isEmpty()) {
+                    it.remove();
+                    continue;
+                }
+                int count = window.count(rule.getDistinctBy() != EscalationRule.DistinctBy.NONE);
+                if (count >= rule.getThreshold()) {
+                    firings.add(new Firing(rule, entry.getKey(), count, LocalDate.ofEpochDay(window.latest)));
+                }
+            }
+        }
+
+        void advanceTo(LocalDate today) {
+            start = startOn(today);
+            Iterator<Window> it = subjects.values().iterator();
+            while (it.hasNext()) {
+                Window window = it.next();
+                window.advance(start);
+                if (window.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+
+        /**
+         * The subject's window, moved up to today's start
+         */
+        private Window window(int subjectID) {
+            Window window = subjects.get(subjectID);
+            if (window != null) {
+                window.advance(start);
+            }
+            return window;
+        }
+
+        private int startOn(LocalDate today) {
+            LocalDate first = rule.windowStart(today);
+            return first == null ? Integer.MIN_VALUE : (int) first.toEpochDay();
+        }
+    }
+
+    /**
+     * Running counts for one subject of one rule
+     */
+    private static final class Window {
+        // epoch day -> counterpart -> events; null for windows that never slide
+        private final NavigableMap<Integer, IntIntMap> days;
+        // counterpart -> events inside the window; a count can drop to 0 after a removal
+        private final IntIntMap counterparts = new IntIntMap(4);
+        private int distinct;
+        private int total;
+        private int start;
+        // Newest day an event was added on; removals leave it in place
+        private int latest = Integer.MIN_VALUE;
+
+        Window(boolean slides, int start) {
+            this.days = slides ? new TreeMap<>() : null;
+            this.start = start;
+        }
+
+        void add(int day, int counterpart, int delta) {
+            IntIntMap counts = null;
+            if (days != null) {
+                counts = delta > 0 ? days.computeIfAbsent(day, d -> new IntIntMap(4)) : days.get(day);
+                if (counts == null) {
+                    return;
+                }
+            }
+            if (delta < 0) {
+                // Never below zero: an event that was never counted cannot be taken away
+                int counted = counts != null ? counts.get(counterpart, 0) : counterparts.get(counterpart, 0);
+                delta = -Math.min(counted, -delta);
+                if (delta == 0) {
+                    return;
+                }
+            }
+            if (counts != null) {
+                counts.put(counterpart, counts.get(counterpart, 0) + delta);
+            }
+            if (delta > 0) {
+                latest = Math.max(latest, day);
+            }
+            change(counterpart, delta);
+        }
+
+        /**
+         * Subtract the days before start
+         */
+        void advance(int start) {
+            if (start <= this.start) {
+                return;
+            }
+            this.start = start;
+            if (days == null) {
+                return;
+            }
+            NavigableMap<Integer, IntIntMap> expired = days.headMap(start, false);
+            for (IntIntMap counts : expired.values()) {
+                counts.forEach((counterpart, events) -> change(counterpart, -events));
+            }
+            expired.clear();
+        }
+
+        int count(boolean distinctOnly) {
+            return distinctOnly ? distinct : total;
+        }
+
+        int countWith(int counterpart, boolean distinctOnly) {
+            if (!distinctOnly) {
+                return total + 1;
+            }
+            return counterparts.get(counterpart, 0) > 0 ? distinct : distinct + 1;
+        }
+
+        boolean isEmpty() {
+            return total == 0;
+        }
+
+        private void change(int counterpart, int delta) {
+            int before = counterparts.get(counterpart, 0);
+            int after = before + delta;
+            counterparts.put(counterpart, after);
+            if (before == 0 && after > 0) {
+                distinct++;
+            } else if (before > 0 && after == 0) {
+                distinct--;
+            }
+            total += delta;
+        }
+    }
+
+    /**
+     * A rule whose threshold a perpetrator or victim has reached
+     */
+    public static final class Firing {
+        private final EscalationRule rule;
+        private final int subjectID;
+        private final int count;
+        private final LocalDate lastEvent;
+
+        Firing(EscalationRule rule, int subjectID, int count, LocalDate lastEvent) {
+            this.rule = rule;
+            this.subjectID = subjectID;
+            this.count = count;
+            this.lastEvent = lastEvent;
+        }
+
+        public EscalationRule getRule() { return rule; }
+
+        /**
+         * PerpetratorID or VictimID, depending on the rule's subject
+         */
+        public int getSubjectID() { return subjectID; }
+        public int getCount() { return count; }
+        public String getTarget() { return rule.getTarget(); }
+
+        /**
+         * Day of the newest event counted; today for a check made before the event is recorded
+         */
+        public LocalDate getLastEvent() { return lastEvent; }
+
+        /**
+         * e.g. "3 victims in the last 7 days"
+         */
+        public String describe() {
+            return rule.describe(count);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package service;
+
+import util.DatabaseConfig;
+import util.QueryMetrics;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background escalation of perpetrators
+ *
+ * Every escalation.periodMs (see application.properties.template) the
+ * {@link EscalationRuleEngine} is reloaded from the database and every
+ * perpetrator that a rule fires for is moved to that rule's target level,
+ * one batched UPDATE and one batched ThreatLevelLog INSERT per target, logged
+ * without an admin. This catches what the checks made as events arrive
+ * cannot see: reports made by other clients or by earlier versions of the
+ * application, and evidence removed with a rejected report. Victim rules
+ * are applied at submission only.
+ *
+ * A run never lowers a level, and skips a perpetrator whose level was
+ * changed on or after the day of the newest event behind the rule: a level
+ * an admin set in ReviewThreatLevelController stands until a newer report
+ * or evidence item makes the rule fire again.
+ *
+ * Runs are recorded in QueryMetrics as "escalation.run" (items = perpetrators
+ * escalated) and summarized by {@link #getStats()}.
+ */
+public final class EscalationScheduler {
+    private static final Object LOCK = new Object();
+    private static EscalationScheduler instance;
+
+    private final EscalationRuleEngine rules;
+    private final ScheduledExecutorService executor;
+    private final long period;
+
+    private long runs;
+    private long failures;
+    private long totalEscalated;
+    private int lastEscalated;
+    private long lastRunMillis;
+    private LocalDateTime lastRunAt;
+
+    private EscalationScheduler(EscalationRuleEngine rules, long period) {
+        this.rules = rules;
+        this.period = period;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "escalation-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Start the scheduler with the configured period, unless it is disabled or already running
+     */
+    public static void start() {
+        DatabaseConfig config = DatabaseConfig.load();
+        long period = config.getEscalationPeriod();
+        synchronized (LOCK) {
+            if (instance != null || period <= 0) {
+                return;
+            }
+            instance = new EscalationScheduler(EscalationRuleEngine.getInstance(), period);
+            long delay = Math.max(0, config.getEscalationInitialDelay());
+            instance.executor.scheduleWithFixedDelay(instance::runScheduled, delay, period, TimeUnit.MILLISECONDS);
+            System.out.println("EscalationScheduler: Checking perpetrators every " + period / 1000 + "s");
+        }
+    }
+
+    /**
+     * Stop the scheduler; a run in progress finishes its transaction
+     */
+    public static void shutdown() {
+        synchronized (LOCK) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * The running scheduler, or null when it is disabled or not started
+     */
+    public static EscalationScheduler getInstance() {
+        synchronized (LOCK) {
+            return instance;
+        }
+    }
+
+    /**
+     * Evaluate all perpetrators now, on the calling thread
+     * @return number of perpetrators escalated
+     */
+    public int runOnce() throws SQLException {
+        long start = System.nanoTime();
+        int escalated = 0;
+        boolean failed = true;
+        try {
+            rules.reload();
+            List<EscalationRuleEngine.Firing> firings = rules.firing(EscalationRule.Subject.PERPETRATOR);
+            escalated = rules.escalate(firings, null);
+            if (escalated > 0) {
+                System.out.println("EscalationScheduler: Escalated " + escalated + " perpetrators ("
+                        + firings.size() + " rule matches)");
+            }
+            failed = false;
+            return escalated;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            QueryMetrics.getInstance().recordBatch("escalation.run", escalated, nanos, failed);
+            recordRun(escalated, nanos, failed);
+        }
+    }
+
+    public String getStats() {
+        synchronized (this) {
+            if (lastRunAt == null) {
+                return "Escalation scheduler: every " + period / 1000 + "s, not run yet";
+            }
+            return String.format("Escalation scheduler: every %ds, %d runs (%d failed), %d escalated; "
+                            + "last run %s took %d ms and escalated %d",
+                    period / 1000, runs, failures, totalEscalated,
+                    lastRunAt.withNano(0), lastRunMillis, lastEscalated);
+        }
+    }
+
+    private void runScheduled() {
+        try {
+            runOnce();
+        } catch (SQLException | RuntimeException e) {
+            // Keep the schedule alive; the next run tries again
+            System.err.println("EscalationScheduler: Run failed: " + e.getMessage());
+        }
+    }
+
+    private synchronized void recordRun(int escalated, long nanos, boolean failed) {
+        runs++;
+        if (failed) {
+            failures++;
+        }
+        totalEscalated += escalated;
+        lastEscalated = escalated;
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        lastRunAt = LocalDateTime.now();
+    }
+}
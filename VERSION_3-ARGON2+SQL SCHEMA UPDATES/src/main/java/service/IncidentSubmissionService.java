@@ -0,0 +1,151 @@
+package service;
+
+import dao.AttackTypeDAO;
+import dao.CachedAttackTypeDAO;
+import dao.IncidentReportDAO;
+import dao.IncidentReportDAOImpl;
+import dao.PerpetratorDAO;
+import dao.PerpetratorDAOImpl;
+import dao.ThreatLevelLogDAO;
+import dao.ThreatLevelLogDAOImpl;
+import dao.VictimDAO;
+import dao.VictimDAOImpl;
+import dao.VictimStatusLogDAO;
+import dao.VictimStatusLogDAOImpl;
+import model.AttackType;
+import model.IncidentReport;
+import model.Perpetrator;
+import model.Victim;
+import util.UnitOfWork;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Service class for submitting incident reports (Transaction 1)
+ *
+ * One submission records the perpetrator, creates the incident, and applies
+ * every incident rule of the {@link EscalationRuleEngine} that the new report
+ * makes fire: by default the perpetrator becomes Malicious once enough
+ * distinct victims reported it within 7 days, and the victim is flagged after
+ * too many reports in a month. A rule only raises a level or status, so a
+ * report never lowers one an admin set higher. All of it runs in one {@link UnitOfWork}: one
+ * connection, one commit, and a failure at any step rolls back the whole
+ * submission, so no orphan perpetrator or half-applied escalation is left
+ * behind. The rules are checked in memory, so they cost no queries; the
+ * report is counted by the engine after commit.
+ */
+public class IncidentSubmissionService {
+    // Automatic escalations are logged under the default administrator
+    private static final int SYSTEM_ADMIN_ID = 1;
+
+    private final PerpetratorDAO perpDAO;
+    private final AttackTypeDAO attackDAO;
+    private final IncidentReportDAO incidentDAO;
+    private final ThreatLevelLogDAO threatLogDAO;
+    private final VictimDAO victimDAO;
+    private final VictimStatusLogDAO victimStatusLogDAO;
+    private final EscalationRuleEngine rules;
+
+    public IncidentSubmissionService() {
+        this.perpDAO = new PerpetratorDAOImpl();
+        this.attackDAO = CachedAttackTypeDAO.getInstance();
+        this.incidentDAO = new IncidentReportDAOImpl();
+        this.threatLogDAO = new ThreatLevelLogDAOImpl();
+        this.victimDAO = new VictimDAOImpl();
+        this.victimStatusLogDAO = new VictimStatusLogDAOImpl();
+        this.rules = EscalationRuleEngine.getInstance();
+    }
+
+    /**
+     * Submit one incident report in a single transaction
+     * @param victim reporting victim; left unchanged, the caller applies a new status after commit
+     * @param identifierType Perpetrators ENUM value
+     * @param associatedName null when not given
+     * @return the created report and what was escalated or flagged
+     * @throws IllegalArgumentException if the attack type does not exist
+     * @throws SQLException if any step fails; nothing is written then
+     */
+    public Submission submit(Victim victim, String identifier, String identifierType, String associatedName,
+                             String attackName, String description) throws SQLException {
+        // Outside the unit: the counts must not include anything this transaction writes
+        rules.ensureLoaded();
+
+        Submission submission = UnitOfWork.run("incident.submit", conn -> {
+            AttackType attackType = attackDAO.findByName(attackName);
+            if (attackType == null) {
+                throw new IllegalArgumentException("Unknown attack type: " + attackName);
+            }
+
+            // 1. Create perpetrator, or update last incident of a known one (single upsert)
+            Perpetrator perp = perpDAO.recordIncident(identifier, identifierType, associatedName);
+
+            // 2. Create incident
+            IncidentReport report = new IncidentReport();
+            report.setVictimID(victim.getVictimID());
+            report.setPerpetratorID(perp.getPerpetratorID());
+            report.setAttackTypeID(attackType.getAttackTypeID());
+            report.setDateReported(LocalDateTime.now());
+            report.setDescription(description);
+            report.setStatus("Pending");
+            if (!incidentDAO.create(report)) {
+                throw new SQLException("Incident report was not created");
+            }
+
+            // 3. Apply the rules this report makes fire; the first rule per perpetrator or victim wins
+            EscalationRuleEngine.Firing escalation = null;
+            EscalationRuleEngine.Firing flag = null;
+            for (EscalationRuleEngine.Firing firing
+                    : rules.check(EscalationRule.Event.INCIDENT, perp.getPerpetratorID(), victim.getVictimID())) {
+                if (firing.getRule().getSubject() == EscalationRule.Subject.PERPETRATOR) {
+                    if (escalation == null && firing.getRule().raises(perp.getThreatLevel())) {
+                        String oldLevel = perp.getThreatLevel();
+                        perp.setThreatLevel(firing.getTarget());
+                        perpDAO.update(perp);
+                        threatLogDAO.logChange(perp.getPerpetratorID(), oldLevel, firing.getTarget(), SYSTEM_ADMIN_ID);
+                        escalation = firing;
+                    }
+                } else if (flag == null && firing.getRule().raises(victim.getAccountStatus())) {
+                    victimDAO.updateAccountStatus(victim.getVictimID(), firing.getTarget());
+                    victimStatusLogDAO.logChange(victim.getVictimID(), victim.getAccountStatus(), firing.getTarget(), null);
+                    flag = firing;
+                }
+            }
+            return new Submission(report, perp, escalation, flag);
+        });
+
+        rules.incidentAdded(submission.getReport());
+        return submission;
+    }
+
+    /**
+     * Outcome of one committed submission
+     */
+    public static final class Submission {
+        private final IncidentReport report;
+        private final Perpetrator perpetrator;
+        private final EscalationRuleEngine.Firing escalation;
+        private final EscalationRuleEngine.Firing victimFlag;
+
+        Submission(IncidentReport report, Perpetrator perpetrator, EscalationRuleEngine.Firing escalation,
+                   EscalationRuleEngine.Firing victimFlag) {
+            this.report = report;
+            this.perpetrator = perpetrator;
+            this.escalation = escalation;
+            this.victimFlag = victimFlag;
+        }
+
+        public IncidentReport getReport() { return report; }
+        public Perpetrator getPerpetrator() { return perpetrator; }
+
+        /**
+         * The rule that changed the perpetrator's threat level, or null
+         */
+        public EscalationRuleEngine.Firing getEscalation() { return escalation; }
+
+        /**
+         * The rule that changed the victim's account status, or null
+         */
+        public EscalationRuleEngine.Firing getVictimFlag() { return victimFlag; }
+    }
+}
@@ -0,0 +1,13 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Unit of database work executed on a leased connection.
+ * @see DatabaseConnection#withConnection(ConnectionCallback)
+ */
+@FunctionalInterface
+public interface ConnectionCallback<T> {
+    T doInConnection(Connection conn) throws SQLException;
+}
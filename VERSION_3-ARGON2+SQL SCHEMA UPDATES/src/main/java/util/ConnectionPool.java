@@ -0,0 +1,348 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool.
+ *
+ * - At most maxPoolSize physical connections exist; callers wait up to
+ *   connectionTimeout for one to free up.
+ * - Idle connections are validated on borrow unless they were used within
+ *   the validation interval.
+ * - A housekeeper thread closes connections that are past maxLifetime or
+ *   idle above minIdle, refills to minIdle, and reports leases held longer
+ *   than the leak detection threshold.
+ * - Every borrow is an independent lease owned by the borrowing thread, so
+ *   any number of threads (up to maxPoolSize) can query concurrently, each
+ *   on its own socket. Using a lease from another thread is detected.
+ * - Each physical connection keeps an LRU cache of prepared statements
+ *   (statementCacheSize) so repeated DAO queries skip re-preparing.
+ */
+public class ConnectionPool {
+    private final DatabaseConfig config;
+    private final String url;
+    private final Properties jdbcProperties;
+    private final int maxPoolSize;
+    private final int statementCacheSize;
+    private final PooledConnection.ThreadCheck threadCheck;
+    private final QueryMetrics queryMetrics;
+    private final SlowQueryLog slowQueryLog;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> active = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean shutdown;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder crossThreadCount = new LongAdder();
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    public ConnectionPool(DatabaseConfig config) {
+        this.config = config;
+        this.url = config.getUrl();
+        this.jdbcProperties = config.getJdbcProperties();
+        this.maxPoolSize = Math.max(1, config.getMaxPoolSize());
+        this.statementCacheSize = config.getStatementCacheSize();
+        this.permits = new Semaphore(maxPoolSize, true);
+        this.threadCheck = PooledConnection.ThreadCheck.parse(config.getLeaseThreadCheck());
+        this.queryMetrics = config.isQueryMetricsEnabled() ? QueryMetrics.getInstance() : null;
+        this.slowQueryLog = queryMetrics != null ? SlowQueryLog.getInstance(config) : null;
+
+        try {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            System.err.println("ConnectionPool: MySQL JDBC Driver not found");
+        }
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, config.getHousekeepingPeriod());
+        housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection. Closing the returned connection gives it back to the pool.
+     * @throws SQLTransientConnectionException if no connection becomes available within connectionTimeout
+     * @throws SQLException if a new connection cannot be opened
+     */
+    public Connection borrow() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getConnectionTimeout(), TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeout()
+                        + " ms waiting for a database connection (pool size " + maxPoolSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            PooledConnection pc;
+            while ((pc = idle.pollFirst()) != null) {
+                if (pc.isExpired(config.getMaxLifetime())
+                        || !pc.isValid(config.getValidationTimeout(), config.getValidationInterval())) {
+                    destroy(pc);
+                    continue;
+                }
+                break;
+            }
+            if (pc == null) {
+                pc = create();
+            }
+            active.add(pc);
+            borrowCount.increment();
+            return pc.lease(config.getLeakDetectionThreshold() > 0, threadCheck);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Called when a lease is closed
+     */
+    void release(PooledConnection pc) {
+        active.remove(pc);
+        try {
+            pc.reset();
+            if (shutdown || pc.isExpired(config.getMaxLifetime())) {
+                destroy(pc);
+            } else {
+                idle.offerFirst(pc);
+            }
+        } catch (SQLException e) {
+            System.err.println("ConnectionPool: Discarding connection that failed to reset: " + e.getMessage());
+            destroy(pc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Called when a lease is aborted: the physical connection is dropped, not reused
+     */
+    void discard(PooledConnection pc) {
+        active.remove(pc);
+        try {
+            pc.abortPhysical();
+            totalConnections.decrementAndGet();
+            destroyedCount.increment();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Metrics sink for statements run on this pool, or null when metrics are off
+     */
+    QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    /**
+     * Slow query log, or null when disabled
+     */
+    SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    void recordCrossThreadUse() {
+        crossThreadCount.increment();
+    }
+
+    /**
+     * Open connections until minIdle idle connections are available
+     */
+    public void fillToMinIdle() {
+        int minIdle = config.getMinIdle();
+        while (!shutdown && idle.size() < minIdle && totalConnections.get() < maxPoolSize) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            try {
+                idle.offerLast(create());
+            } catch (SQLException e) {
+                System.err.println("ConnectionPool: Could not open idle connection: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Close every connection. Leased connections are closed when they are returned.
+     */
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            destroy(pc);
+        }
+    }
+
+    public Stats getStats() {
+        long borrows = borrowCount.sum();
+        return new Stats(
+                totalConnections.get(),
+                active.size(),
+                idle.size(),
+                permits.getQueueLength(),
+                borrows,
+                borrows == 0 ? 0 : totalWaitNanos.sum() / borrows / 1_000,
+                maxWaitNanos.get() / 1_000,
+                timeoutCount.sum(),
+                createdCount.sum(),
+                destroyedCount.sum(),
+                leakCount.sum(),
+                crossThreadCount.sum(),
+                statementCounters.hits.sum(),
+                statementCounters.misses.sum(),
+                statementCounters.evictions.sum());
+    }
+
+    private PooledConnection create() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, jdbcProperties);
+        totalConnections.incrementAndGet();
+        createdCount.increment();
+        return new PooledConnection(this, physical,
+                new StatementCache(physical, statementCacheSize, statementCounters));
+    }
+
+    private void destroy(PooledConnection pc) {
+        pc.closePhysical();
+        totalConnections.decrementAndGet();
+        destroyedCount.increment();
+    }
+
+    private void recordWait(long nanos) {
+        totalWaitNanos.add(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private void housekeep() {
+        try {
+            int minIdle = config.getMinIdle();
+            for (PooledConnection pc : idle) {
+                boolean surplus = idle.size() > minIdle && pc.isIdleLongerThan(config.getIdleTimeout());
+                if ((surplus || pc.isExpired(config.getMaxLifetime())) && idle.remove(pc)) {
+                    destroy(pc);
+                }
+            }
+            for (PooledConnection pc : active) {
+                if (pc.checkLeak(config.getLeakDetectionThreshold())) {
+                    leakCount.increment();
+                }
+            }
+            fillToMinIdle();
+        } catch (RuntimeException e) {
+            System.err.println("ConnectionPool: Housekeeping failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Point-in-time pool statistics. Wait times are in microseconds.
+     */
+    public static final class Stats {
+        private final int total;
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final long borrowCount;
+        private final long averageWaitMicros;
+        private final long maxWaitMicros;
+        private final long timeouts;
+        private final long created;
+        private final long destroyed;
+        private final long leaks;
+        private final long crossThreadUses;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+        private final long statementCacheEvictions;
+
+        Stats(int total, int active, int idle, int waiting, long borrowCount, long averageWaitMicros,
+              long maxWaitMicros, long timeouts, long created, long destroyed, long leaks, long crossThreadUses,
+              long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+            this.total = total;
+            this.active = active;
+            this.idle = idle;
+            this.waiting = waiting;
+            this.borrowCount = borrowCount;
+            this.averageWaitMicros = averageWaitMicros;
+            this.maxWaitMicros = maxWaitMicros;
+            this.timeouts = timeouts;
+            this.created = created;
+            this.destroyed = destroyed;
+            this.leaks = leaks;
+            this.crossThreadUses = crossThreadUses;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+            this.statementCacheEvictions = statementCacheEvictions;
+        }
+
+        public int getTotal() { return total; }
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getWaiting() { return waiting; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getAverageWaitMicros() { return averageWaitMicros; }
+        public long getMaxWaitMicros() { return maxWaitMicros; }
+        public long getTimeouts() { return timeouts; }
+        public long getCreated() { return created; }
+        public long getDestroyed() { return destroyed; }
+        public long getLeaks() { return leaks; }
+        public long getCrossThreadUses() { return crossThreadUses; }
+        public long getStatementCacheHits() { return statementCacheHits; }
+        public long getStatementCacheMisses() { return statementCacheMisses; }
+        public long getStatementCacheEvictions() { return statementCacheEvictions; }
+
+        /** Fraction of prepareStatement calls served from the cache (0..1) */
+        public double getStatementCacheHitRatio() {
+            long lookups = statementCacheHits + statementCacheMisses;
+            return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Pool[total=" + total + ", active=" + active + ", idle=" + idle + ", waiting=" + waiting
+                    + ", borrows=" + borrowCount + ", avgWait=" + averageWaitMicros + "us, maxWait="
+                    + maxWaitMicros + "us, timeouts=" + timeouts + ", created=" + created
+                    + ", destroyed=" + destroyed + ", leaks=" + leaks + ", crossThread=" + crossThreadUses
+                    + ", stmtCache=" + statementCacheHits + "/" + (statementCacheHits + statementCacheMisses)
+                    + " hits, evictions=" + statementCacheEvictions + "]";
+        }
+    }
+}
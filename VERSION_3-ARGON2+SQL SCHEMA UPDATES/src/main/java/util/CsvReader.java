@@ -0,0 +1,96 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads UTF-8 CSV (RFC 4180) one record at a time, the counterpart of
+ * {@link CsvWriter}.
+ *
+ * Quoted fields may contain commas, doubled quotes and line breaks. Only the
+ * current record is held in memory, so files of any size can be read.
+ */
+public final class CsvReader implements Closeable {
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private long recordNumber;
+
+    public CsvReader(File file) throws IOException {
+        this(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    public CsvReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Next record, or null at end of input. A blank line is returned as one empty field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        if (recordNumber == 0 && c == '\uFEFF') {
+            c = in.read(); // byte order mark written by spreadsheet exports
+        }
+        recordNumber++;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                in.mark(1);
+                if (in.read() != '\n') {
+                    in.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 1-based number of the record last returned by readRecord
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
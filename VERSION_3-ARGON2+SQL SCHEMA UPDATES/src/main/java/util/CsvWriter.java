@@ -0,0 +1,57 @@
+package util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Buffered UTF-8 CSV output (RFC 4180).
+ *
+ * Fields containing a comma, quote or line break are quoted, so names and
+ * descriptions cannot shift columns. writeRow reports I/O errors as
+ * UncheckedIOException so it can be called from a row callback.
+ */
+public final class CsvWriter implements Closeable {
+    private final Writer out;
+
+    public CsvWriter(File file) throws IOException {
+        this.out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write one line; null fields are written empty
+     */
+    public void writeRow(Object... fields) {
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                if (fields[i] != null) {
+                    out.write(escape(fields[i].toString()));
+                }
+            }
+            out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String escape(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,241 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Database configuration loaded from application.properties on the classpath.
+ * Every setting falls back to a default so the application still starts
+ * against a local MySQL instance when no properties file is present.
+ */
+public class DatabaseConfig {
+    private static final String PROPERTIES_FILE = "application.properties";
+    private static final String JDBC_PROPERTY_PREFIX = "db.jdbc.";
+    private static final String REPLICA_PREFIX = "db.replica.";
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/CybersecurityDB";
+    private static final String DEFAULT_USER = "root";
+    private static final String DEFAULT_PASSWORD = "";
+
+    private final Properties properties;
+
+    private DatabaseConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Load configuration from application.properties, or defaults if the file is missing
+     */
+    public static DatabaseConfig load() {
+        Properties props = new Properties();
+        try (InputStream in = DatabaseConfig.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+            if (in != null) {
+                props.load(in);
+            } else {
+                System.out.println("DatabaseConfig: " + PROPERTIES_FILE + " not found, using defaults");
+            }
+        } catch (IOException e) {
+            System.err.println("DatabaseConfig: Failed to read " + PROPERTIES_FILE + ": " + e.getMessage());
+        }
+        return new DatabaseConfig(props);
+    }
+
+    public String getUrl() {
+        return getString("db.url", DEFAULT_URL);
+    }
+
+    public String getUsername() {
+        return getString("db.username", DEFAULT_USER);
+    }
+
+    public String getPassword() {
+        return getString("db.password", DEFAULT_PASSWORD);
+    }
+
+    /** Maximum number of physical connections held by the pool */
+    public int getMaxPoolSize() {
+        return getInt("db.maxPoolSize", 10);
+    }
+
+    /** Number of idle connections the pool tries to keep open */
+    public int getMinIdle() {
+        return Math.min(getInt("db.minIdle", 2), getMaxPoolSize());
+    }
+
+    /** How long a caller waits for a free connection before failing (ms) */
+    public long getConnectionTimeout() {
+        return getLong("db.connectionTimeout", 30000);
+    }
+
+    /** Idle connections above minIdle are closed after this long (ms) */
+    public long getIdleTimeout() {
+        return getLong("db.idleTimeout", 600000);
+    }
+
+    /** Connections are retired after this age regardless of use (ms) */
+    public long getMaxLifetime() {
+        return getLong("db.maxLifetime", 1800000);
+    }
+
+    /** A connection held longer than this is reported as a possible leak (ms, 0 = off) */
+    public long getLeakDetectionThreshold() {
+        return getLong("db.leakDetectionThreshold", 60000);
+    }
+
+    /** Timeout for the isValid() check performed on borrow (ms) */
+    public long getValidationTimeout() {
+        return getLong("db.validationTimeout", 5000);
+    }
+
+    /** Connections used more recently than this are handed out without re-validation (ms) */
+    public long getValidationInterval() {
+        return getLong("db.validationInterval", 500);
+    }
+
+    /** How often the housekeeper evicts idle/expired connections and checks for leaks (ms) */
+    public long getHousekeepingPeriod() {
+        return getLong("db.housekeepingPeriod", 30000);
+    }
+
+    /** OFF, WARN or STRICT: how to treat a connection used from a thread other than its borrower */
+    public String getLeaseThreadCheck() {
+        return getString("db.leaseThreadCheck", "STRICT");
+    }
+
+    /** Prepared statements kept open per connection (0 = no caching) */
+    public int getStatementCacheSize() {
+        return getInt("db.statementCacheSize", 64);
+    }
+
+    /** Threads running async DAO calls (DbExecutor); defaults to the pool size */
+    public int getAsyncThreads() {
+        return getInt("db.async.threads", getMaxPoolSize());
+    }
+
+    /** Async DAO calls allowed to wait for a thread before new ones are rejected */
+    public int getAsyncQueueSize() {
+        return getInt("db.async.queueSize", 200);
+    }
+
+    /** Record per-statement counts and latency percentiles (see QueryMetrics) */
+    public boolean isQueryMetricsEnabled() {
+        return getBoolean("db.metrics.enabled", true);
+    }
+
+    /** Statements slower than this are written to the slow query log (ms, 0 = off) */
+    public long getSlowQueryThreshold() {
+        return getLong("db.slowQuery.thresholdMs", 500);
+    }
+
+    /** Run EXPLAIN the first time each statement shape is slow */
+    public boolean isSlowQueryExplainEnabled() {
+        return getBoolean("db.slowQuery.explain", true);
+    }
+
+    /** Slow query log file; rotated copies get .0, .1, ... before the extension */
+    public String getSlowQueryLogFile() {
+        return getString("db.slowQuery.logFile", "logs/slow-queries.log");
+    }
+
+    public int getSlowQueryLogMaxBytes() {
+        return getInt("db.slowQuery.maxFileBytes", 1048576);
+    }
+
+    public int getSlowQueryLogFileCount() {
+        return Math.max(1, getInt("db.slowQuery.fileCount", 5));
+    }
+
+    /** Reads go back to the primary while the replica is further behind than this (seconds) */
+    public long getReplicaMaxLagSeconds() {
+        return getLong("db.replica.maxLagSeconds", 5);
+    }
+
+    /** How often replication lag is re-checked; a down replica is retried at the same rate (ms) */
+    public long getReplicaLagCheckInterval() {
+        return getLong("db.replica.lagCheckInterval", 5000);
+    }
+
+    /** How often every perpetrator is re-checked against the escalation rules (ms, 0 = off) */
+    public long getEscalationPeriod() {
+        return getLong("escalation.periodMs", 300000);
+    }
+
+    /** Delay before the first escalation check after startup (ms) */
+    public long getEscalationInitialDelay() {
+        return getLong("escalation.initialDelayMs", 30000);
+    }
+
+    /**
+     * Configuration for the read replica, or null if db.replica.url is not set.
+     * Every db.replica.* key overrides the matching db.* key; anything not
+     * overridden (credentials, pool sizes, db.jdbc.*) is shared with the primary.
+     * The replica fails fast by default (2 s) so a dead replica does not stall reports.
+     */
+    public DatabaseConfig getReplicaConfig() {
+        if (properties.getProperty(REPLICA_PREFIX + "url", "").isBlank()) {
+            return null;
+        }
+        Properties replica = new Properties();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(REPLICA_PREFIX)) {
+                replica.setProperty(key, properties.getProperty(key));
+            }
+        }
+        replica.setProperty("db.connectionTimeout", "2000");
+        replica.setProperty("db.jdbc.connectTimeout", "2000");
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(REPLICA_PREFIX)) {
+                replica.setProperty("db." + key.substring(REPLICA_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return new DatabaseConfig(replica);
+    }
+
+    /**
+     * Driver properties: credentials plus every db.jdbc.* entry with the prefix stripped
+     */
+    public Properties getJdbcProperties() {
+        Properties jdbc = new Properties();
+        jdbc.setProperty("useLocalSessionState", "true");
+        jdbc.setProperty("useServerPrepStmts", "true");
+        jdbc.setProperty("rewriteBatchedStatements", "true");
+        // LocalDateTime <-> DATETIME is never shifted; see DateUtils for the time-zone policy
+        jdbc.setProperty("connectionTimeZone", "LOCAL");
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(JDBC_PROPERTY_PREFIX)) {
+                jdbc.setProperty(key.substring(JDBC_PROPERTY_PREFIX.length()), properties.getProperty(key).trim());
+            }
+        }
+        jdbc.setProperty("user", getUsername());
+        jdbc.setProperty("password", getPassword());
+        return jdbc;
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return (int) getLong(key, defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("DatabaseConfig: Invalid number for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
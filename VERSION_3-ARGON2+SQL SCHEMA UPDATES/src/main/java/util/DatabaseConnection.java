@@ -1,62 +1,157 @@
 package util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
  * DatabaseConnection utility class for managing MySQL connections.
- * Implements singleton pattern for connection management.
+ * Hands out connections from a shared {@link ConnectionPool}; closing a
+ * connection returns it to the pool, so DAOs keep using try-with-resources.
+ * Settings come from application.properties (see application.properties.template).
+ *
+ * Each call to getConnection() is a separate lease owned by the calling
+ * thread, so background tasks can query concurrently with the JavaFX thread
+ * as long as every thread borrows its own connection.
+ *
+ * getReadConnection() is for read-only queries that can tolerate slightly
+ * stale data (the report screens). It uses the read replica configured with
+ * db.replica.* and falls back to the primary when the replica is missing,
+ * down or lagging. Anything that writes, or reads back what it just wrote,
+ * must use getConnection().
+ *
+ * Inside {@link UnitOfWork#run} both methods return the unit's connection,
+ * so DAO calls made by the unit share its transaction.
  */
 public class DatabaseConnection {
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/CybersecurityDB";
-    private static final String DB_USER = "root";
-    private static final String DB_PASSWORD = "";
-    
-    private static Connection connection = null;
-    
+    private static final Object LOCK = new Object();
+    private static volatile ConnectionPool pool;
+    private static volatile ReplicaRouter router;
+
     /**
      * Get a database connection
-     * @return Connection object
+     * @return Connection object; close it to return it to the pool
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            try {
-                Class.forName("com.mysql.cj.jdbc.Driver");
-                connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("MySQL JDBC Driver not found", e);
-            }
+        Connection unit = UnitOfWork.currentConnection();
+        return unit != null ? unit : getPool().borrow();
+    }
+
+    /**
+     * Get a connection for a read-only query; may be served by the read replica
+     * @return Connection object; close it to return it to its pool
+     * @throws SQLException if neither replica nor primary can provide a connection
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection unit = UnitOfWork.currentConnection();
+        return unit != null ? unit : getRouter().borrowRead();
+    }
+
+    /**
+     * Run one unit of work on its own leased connection and return the connection afterwards.
+     * Safe to call from any thread; the connection must not be handed to another thread.
+     * @param work callback that receives the leased connection
+     * @return the callback's result
+     * @throws SQLException if borrowing the connection or the callback fails
+     */
+    public static <T> T withConnection(ConnectionCallback<T> work) throws SQLException {
+        try (Connection conn = getConnection()) {
+            return work.doInConnection(conn);
         }
-        return connection;
     }
-    
+
     /**
-     * Close the database connection
+     * Close the database connection pool
      */
     public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+        DbExecutor.shutdown();
+        synchronized (LOCK) {
+            if (router != null) {
+                router.shutdown();
+                router = null;
             }
-        } catch (SQLException e) {
-            System.err.println("Error closing connection: " + e.getMessage());
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+            SlowQueryLog.shutdownInstance();
         }
     }
-    
+
     /**
      * Test database connection
      * @return true if connection is successful
      */
     public static boolean testConnection() {
-        try {
-            Connection conn = getConnection();
-            return conn != null && !conn.isClosed();
+        try (Connection conn = getConnection()) {
+            return conn != null && conn.isValid(5);
         } catch (SQLException e) {
             System.err.println("Connection test failed: " + e.getMessage());
             return false;
         }
     }
-}
 
+    /**
+     * Verify connectivity and open minIdle connections ahead of the first query.
+     * Meant to run on a background thread during startup.
+     * @return true if the database is reachable
+     */
+    public static boolean warmUp() {
+        if (!testConnection()) {
+            return false;
+        }
+        getPool().fillToMinIdle();
+        return true;
+    }
+
+    /**
+     * Current pool statistics (active/idle connections, wait times, leaks)
+     */
+    public static ConnectionPool.Stats getPoolStats() {
+        return getPool().getStats();
+    }
+
+    /**
+     * Where read-only queries are currently routed, and why
+     */
+    public static String getReadRoutingStatus() {
+        return getRouter().describe();
+    }
+
+    private static ReplicaRouter getRouter() {
+        ReplicaRouter current = router;
+        if (current == null) {
+            ConnectionPool primary = getPool();
+            synchronized (LOCK) {
+                current = router;
+                if (current == null) {
+                    DatabaseConfig config = DatabaseConfig.load();
+                    DatabaseConfig replicaConfig = config.getReplicaConfig();
+                    ConnectionPool replica = replicaConfig != null ? new ConnectionPool(replicaConfig) : null;
+                    current = new ReplicaRouter(primary, replica,
+                            config.getReplicaMaxLagSeconds(), config.getReplicaLagCheckInterval());
+                    router = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = pool;
+                if (current == null) {
+                    DatabaseConfig config = DatabaseConfig.load();
+                    current = new ConnectionPool(config);
+                    pool = current;
+                    if (config.isQueryMetricsEnabled()) {
+                        QueryMetrics.registerMBean();
+                    }
+                }
+            }
+        }
+        return current;
+    }
+}
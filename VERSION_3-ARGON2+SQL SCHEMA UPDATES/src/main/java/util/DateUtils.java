@@ -1,31 +1,21 @@
 package util;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Utility class for date and time operations
+ *
+ * Time-zone policy: every DATETIME column holds the application's local
+ * wall-clock time. DAOs bind and read java.time.LocalDateTime directly
+ * (setObject / getObject(i, LocalDateTime.class)), which Connector/J passes
+ * through unchanged, so no value is formatted, parsed or shifted between
+ * zones. java.sql.Timestamp is not used: it converts through the JVM zone.
  */
 public class DateUtils {
-    private static final DateTimeFormatter DB_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
-    /**
-     * Convert LocalDateTime to MySQL DATETIME string format
-     */
-    public static String toDatabaseFormat(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        return dateTime.format(DB_FORMATTER);
-    }
-    
-    /**
-     * Convert MySQL DATETIME string to LocalDateTime
-     */
-    public static LocalDateTime fromDatabaseFormat(String dateTimeStr) {
-        if (dateTimeStr == null || dateTimeStr.isEmpty()) return null;
-        return LocalDateTime.parse(dateTimeStr, DB_FORMATTER);
-    }
-    
     /**
      * Format LocalDateTime for display
      */
@@ -40,5 +30,18 @@ public class DateUtils {
     public static LocalDateTime now() {
         return LocalDateTime.now();
     }
-}
 
+    /**
+     * Midnight on the first day of the month; lower bound (inclusive) of a month range
+     */
+    public static LocalDateTime monthStart(int year, int month) {
+        return YearMonth.of(year, month).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Midnight on the first day of the following month; upper bound (exclusive) of a month range
+     */
+    public static LocalDateTime nextMonthStart(int year, int month) {
+        return monthStart(year, month).plusMonths(1);
+    }
+}
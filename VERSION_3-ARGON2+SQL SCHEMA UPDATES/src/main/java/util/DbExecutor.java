@@ -0,0 +1,85 @@
+package util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor for blocking DAO calls made off the JavaFX thread.
+ *
+ * At most db.async.threads calls (default: db.maxPoolSize) run at once, so
+ * async work never queues on the connection pool itself, and at most
+ * db.async.queueSize more wait. Beyond that the returned future fails with
+ * RejectedExecutionException instead of piling up work.
+ *
+ * A future cancelled before its task starts skips the database call. A call
+ * already running finishes on its connection; only its result is dropped.
+ */
+public final class DbExecutor {
+    private static final Object LOCK = new Object();
+    private static volatile ThreadPoolExecutor executor;
+
+    private DbExecutor() {
+    }
+
+    /**
+     * Run a blocking database call on the executor
+     * @return future completed with the call's result, or exceptionally with its SQLException
+     */
+    public static <T> CompletableFuture<T> supply(SqlSupplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            getExecutor().execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(work.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Stop accepting work; queued calls are dropped, running calls finish
+     */
+    public static void shutdown() {
+        synchronized (LOCK) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = executor;
+                if (current == null) {
+                    DatabaseConfig config = DatabaseConfig.load();
+                    int threads = Math.max(1, config.getAsyncThreads());
+                    AtomicInteger count = new AtomicInteger();
+                    current = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(Math.max(1, config.getAsyncQueueSize())), r -> {
+                                Thread t = new Thread(r, "db-async-" + count.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            });
+                    current.allowCoreThreadTimeOut(true);
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,155 @@
+package util;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Delivers async DAO results to a JavaFX controller.
+ *
+ * Each controller creates one scope bound to a node of its view:
+ *
+ *   private FxAsync.Scope async;
+ *   async = FxAsync.bindTo(table);
+ *   async.run("pending", incidentDAO.findPendingAsync(), this::showPending, this::showLoadError);
+ *
+ * Callbacks always run on the FX thread. When the view leaves its window
+ * (the user navigates to another scene or the window closes) every pending
+ * call is cancelled and its callbacks are never run. Starting a call with the
+ * same key as a pending one cancels the older one, so repeated refreshes
+ * cannot deliver out of order. A scope listens to one scene and one window
+ * at a time and drops its listeners when the node moves, so neither keeps
+ * old scopes reachable.
+ */
+public final class FxAsync {
+
+    private FxAsync() {
+    }
+
+    /**
+     * Create a scope whose calls are cancelled when the node is no longer shown
+     */
+    public static Scope bindTo(Node node) {
+        Scope scope = new Scope();
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> scope.watch(newScene));
+        scope.watch(node.getScene());
+        return scope;
+    }
+
+    /**
+     * Unwrap CompletionException so error handlers see the SQLException
+     */
+    public static Throwable cause(Throwable t) {
+        while (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /**
+     * Pending calls of one controller
+     */
+    public static final class Scope {
+        private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+        private final Map<String, CompletableFuture<?>> latest = new ConcurrentHashMap<>();
+        private final ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> watch(newWindow);
+        private final ChangeListener<Boolean> showingListener = (obs, wasShowing, showing) -> {
+            if (!showing) {
+                detached();
+            }
+        };
+        private Scene watchedScene;
+        private Window watchedWindow;
+        private boolean attached;
+
+        private Scope() {
+        }
+
+        /**
+         * Deliver the result of an async call on the FX thread
+         */
+        public <T> CompletableFuture<T> run(CompletableFuture<T> future, Consumer<? super T> onSuccess,
+                                            Consumer<Throwable> onError) {
+            pending.add(future);
+            future.whenComplete((result, error) -> Platform.runLater(() -> {
+                pending.remove(future);
+                if (future.isCancelled() || error instanceof CancellationException) {
+                    return;
+                }
+                if (error == null) {
+                    onSuccess.accept(result);
+                } else {
+                    onError.accept(cause(error));
+                }
+            }));
+            return future;
+        }
+
+        /**
+         * Like run(), but first cancels a still-pending call started with the same key
+         */
+        public <T> CompletableFuture<T> run(String key, CompletableFuture<T> future, Consumer<? super T> onSuccess,
+                                            Consumer<Throwable> onError) {
+            CompletableFuture<?> previous = latest.put(key, future);
+            if (previous != null && previous != future) {
+                previous.cancel(false);
+            }
+            future.whenComplete((r, e) -> latest.remove(key, future));
+            return run(future, onSuccess, onError);
+        }
+
+        /**
+         * Cancel every pending call; their callbacks will not run
+         */
+        public void cancelAll() {
+            for (CompletableFuture<?> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+            latest.clear();
+        }
+
+        private void watch(Scene scene) {
+            if (watchedScene != null) {
+                watchedScene.windowProperty().removeListener(windowListener);
+            }
+            watchedScene = scene;
+            if (scene == null) {
+                watch((Window) null);
+                return;
+            }
+            scene.windowProperty().addListener(windowListener);
+            watch(scene.getWindow());
+        }
+
+        private void watch(Window window) {
+            if (watchedWindow != null) {
+                watchedWindow.showingProperty().removeListener(showingListener);
+            }
+            watchedWindow = window;
+            if (window == null) {
+                detached();
+                return;
+            }
+            attached = true;
+            window.showingProperty().addListener(showingListener);
+        }
+
+        private void detached() {
+            // Controllers start loading in initialize(), before the view is attached
+            if (attached) {
+                cancelAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package util;
+
+import dao.Page;
+import javafx.collections.FXCollections;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Fills a TableView from a keyset-paginated DAO method one page at a time.
+ *
+ *   pager = FxPager.attach(reportsTable, async, "pendingReports", incidentDAO::findPendingPageAsync)
+ *           .onLoaded(this::showPending)
+ *           .onError(this::showLoadError);
+ *   pager.reload();
+ *
+ * reload() replaces the table contents with the first page; the next page
+ * is fetched when the user scrolls near the bottom of the table and is
+ * appended. Only the rows the user has scrolled past are ever loaded.
+ * Fetches go through the controller's {@link FxAsync.Scope} under one key,
+ * so a reload cancels a page still in flight.
+ */
+public final class FxPager<T> {
+    public static final int DEFAULT_PAGE_SIZE = 200;
+
+    // Fraction of the scroll range at which the next page is requested
+    private static final double PREFETCH_AT = 0.9;
+
+    /**
+     * An async find...Page method
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        CompletableFuture<Page<T>> fetch(String cursor, int limit);
+    }
+
+    private final TableView<T> table;
+    private final FxAsync.Scope scope;
+    private final String key;
+    private final PageSource<T> source;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private Consumer<List<T>> onLoaded = items -> { };
+    private Consumer<Throwable> onError = error -> { };
+    private String nextCursor;
+    private boolean loading;
+
+    private FxPager(TableView<T> table, FxAsync.Scope scope, String key, PageSource<T> source) {
+        this.table = table;
+        this.scope = scope;
+        this.key = key;
+        this.source = source;
+    }
+
+    public static <T> FxPager<T> attach(TableView<T> table, FxAsync.Scope scope, String key, PageSource<T> source) {
+        FxPager<T> pager = new FxPager<>(table, scope, key, source);
+        table.skinProperty().addListener((obs, oldSkin, newSkin) -> pager.watchScrollBar());
+        pager.watchScrollBar();
+        return pager;
+    }
+
+    public FxPager<T> pageSize(int rows) {
+        this.pageSize = rows;
+        return this;
+    }
+
+    /**
+     * Called on the FX thread with all rows loaded so far, after every page
+     */
+    public FxPager<T> onLoaded(Consumer<List<T>> callback) {
+        this.onLoaded = callback;
+        return this;
+    }
+
+    public FxPager<T> onError(Consumer<Throwable> callback) {
+        this.onError = callback;
+        return this;
+    }
+
+    /**
+     * Start over from the first page
+     */
+    public void reload() {
+        nextCursor = null;
+        loading = true;
+        scope.run(key, source.fetch(null, pageSize), page -> {
+            table.setItems(FXCollections.observableArrayList(page.getItems()));
+            pageLoaded(page);
+        }, this::failed);
+    }
+
+    /**
+     * Append the next page, unless one is already loading or this was the last
+     */
+    public void loadMore() {
+        if (loading || nextCursor == null) {
+            return;
+        }
+        loading = true;
+        scope.run(key, source.fetch(nextCursor, pageSize), page -> {
+            table.getItems().addAll(page.getItems());
+            pageLoaded(page);
+        }, this::failed);
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    private void pageLoaded(Page<T> page) {
+        nextCursor = page.getNextCursor();
+        loading = false;
+        onLoaded.accept(table.getItems());
+    }
+
+    private void failed(Throwable error) {
+        loading = false;
+        onError.accept(error);
+    }
+
+    /**
+     * The vertical scroll bar only exists once the table has a skin
+     */
+    private void watchScrollBar() {
+        for (Node node : table.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar && ((ScrollBar) node).getOrientation() == Orientation.VERTICAL) {
+                ScrollBar bar = (ScrollBar) node;
+                bar.valueProperty().addListener((obs, oldValue, value) -> {
+                    if (value.doubleValue() >= bar.getMin() + (bar.getMax() - bar.getMin()) * PREFETCH_AT) {
+                        loadMore();
+                    }
+                });
+            }
+        }
+    }
+}
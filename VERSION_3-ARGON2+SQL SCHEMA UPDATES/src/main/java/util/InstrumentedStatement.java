@@ -0,0 +1,204 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Statement wrapper that feeds {@link QueryMetrics}.
+ *
+ * Every execute* call is timed and counted against its SQL. Rows are
+ * counted as the caller walks the ResultSet and added when the ResultSet
+ * (or its statement) is closed; for updates the update count is used.
+ * Fetch time after executeQuery returns is not included in the latency.
+ *
+ * When the slow query log is on, bound parameters are remembered so a slow
+ * execution can be logged (redacted) and EXPLAINed with them.
+ */
+class InstrumentedStatement implements InvocationHandler {
+    private final Statement target;
+    private final QueryMetrics metrics;
+    private final SlowQueryLog slowLog;
+    private final String preparedSql;
+    private Object[] params;
+    private QueryMetrics.StatementMetrics lastMetrics;
+    private RowCounter openResult;
+
+    private InstrumentedStatement(Statement target, QueryMetrics metrics, SlowQueryLog slowLog, String preparedSql) {
+        this.target = target;
+        this.metrics = metrics;
+        this.slowLog = slowLog;
+        this.preparedSql = preparedSql;
+    }
+
+    /**
+     * Wrap a statement returned by one of the Connection factory methods
+     * @param type the interface the factory method declared (Statement, PreparedStatement, CallableStatement)
+     * @param slowLog slow query log, or null when disabled
+     * @param sql the SQL it was prepared with, or null for a plain Statement
+     */
+    static Statement wrap(Statement target, Class<?> type, QueryMetrics metrics, SlowQueryLog slowLog, String sql) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(), new Class<?>[]{type},
+                new InstrumentedStatement(target, metrics, slowLog, sql));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.startsWith("execute")) {
+            return execute(proxy, method, args);
+        }
+        if ("close".equals(name)) {
+            flushRows();
+        } else if (slowLog != null && preparedSql != null) {
+            captureParameter(name, args);
+        }
+        Object result = invokeTarget(method, args);
+        if ("getResultSet".equals(name) && result instanceof ResultSet && lastMetrics != null) {
+            return track(proxy, (ResultSet) result, lastMetrics);
+        }
+        return result;
+    }
+
+    private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+        QueryMetrics.StatementMetrics stats = metrics.forSql(sql);
+        lastMetrics = stats;
+        flushRows();
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invokeTarget(method, args);
+        } catch (Throwable t) {
+            long elapsed = System.nanoTime() - start;
+            stats.recordExecution(elapsed, true);
+            logIfSlow(stats, sql, elapsed, true);
+            throw t;
+        }
+        long elapsed = System.nanoTime() - start;
+        stats.recordExecution(elapsed, false);
+        logIfSlow(stats, sql, elapsed, false);
+
+        if (result instanceof ResultSet) {
+            return track(proxy, (ResultSet) result, stats);
+        }
+        if (result instanceof Integer) {
+            stats.addRows((Integer) result);
+        } else if (result instanceof Long) {
+            stats.addRows((Long) result);
+        } else if (result instanceof int[]) {
+            for (int n : (int[]) result) {
+                stats.addRows(n);
+            }
+        } else if (result instanceof long[]) {
+            for (long n : (long[]) result) {
+                stats.addRows(n);
+            }
+        }
+        return result;
+    }
+
+    private void logIfSlow(QueryMetrics.StatementMetrics stats, String sql, long nanos, boolean failed) {
+        if (slowLog != null && slowLog.isSlow(nanos)) {
+            // Captured parameters only belong to the prepared SQL, not to execute(String) calls
+            slowLog.record(stats.getSql(), sql, nanos, sql == preparedSql ? params : null, failed);
+        }
+    }
+
+    /**
+     * Remember setXxx(index, value, ...) calls; clearParameters forgets them
+     */
+    private void captureParameter(String name, Object[] args) {
+        if ("clearParameters".equals(name)) {
+            params = null;
+            return;
+        }
+        if (!name.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer)) {
+            return;
+        }
+        int index = (Integer) args[0];
+        if (index < 1 || index > 1000) {
+            return;
+        }
+        if (params == null || params.length <= index) {
+            params = params == null ? new Object[index + 1] : Arrays.copyOf(params, index + 1);
+        }
+        params[index] = "setNull".equals(name) ? null : args[1];
+    }
+
+    private ResultSet track(Object statementProxy, ResultSet rs, QueryMetrics.StatementMetrics stats) {
+        RowCounter counter = new RowCounter(rs, stats, statementProxy);
+        openResult = counter;
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, counter);
+    }
+
+    private void flushRows() {
+        if (openResult != null) {
+            openResult.flush();
+            openResult = null;
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Counts rows as next() advances; reports the total once
+     */
+    private static final class RowCounter implements InvocationHandler {
+        private final ResultSet target;
+        private final QueryMetrics.StatementMetrics stats;
+        private final Object statementProxy;
+        private long rows;
+        private boolean flushed;
+
+        RowCounter(ResultSet target, QueryMetrics.StatementMetrics stats, Object statementProxy) {
+            this.target = target;
+            this.stats = stats;
+            this.statementProxy = statementProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    boolean hasRow = target.next();
+                    if (hasRow) {
+                        rows++;
+                    }
+                    return hasRow;
+                case "close":
+                    flush();
+                    break;
+                case "getStatement":
+                    return statementProxy;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        void flush() {
+            if (!flushed) {
+                flushed = true;
+                stats.addRows(rows);
+            }
+        }
+    }
+}
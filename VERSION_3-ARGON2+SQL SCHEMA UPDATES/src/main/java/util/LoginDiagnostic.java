@@ -23,7 +23,7 @@ public class LoginDiagnostic {
             System.out.println("   ✓ Database connection successful\n");
         } else {
             System.out.println("   ✗ Database connection FAILED\n");
-            System.out.println("   Fix: Check DatabaseConnection.java settings");
+            System.out.println("   Fix: Check db.url / db.username / db.password in application.properties");
             return;
         }
         
@@ -0,0 +1,271 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A physical connection owned by {@link ConnectionPool}.
+ *
+ * Callers never see this object directly: each borrow hands out a fresh
+ * {@link Connection} proxy (a "lease") whose close() returns the physical
+ * connection to the pool instead of closing the socket. Statements opened
+ * through a lease are closed when the lease ends so a forgotten ResultSet
+ * cannot outlive its borrower. abort() ends the lease by closing the
+ * physical connection instead, for a caller that cannot leave it clean.
+ * Prepared statements come from the
+ * connection's {@link StatementCache}, so closing them only hands them back.
+ * When query metrics are on, every statement is wrapped by
+ * {@link InstrumentedStatement}.
+ *
+ * A lease belongs to the thread that borrowed it. JDBC connections are not
+ * safe for concurrent use, so calls from any other thread are reported (or
+ * rejected, depending on the configured {@link ThreadCheck}). close() is only
+ * ever reported: it always returns the connection to the pool.
+ */
+class PooledConnection {
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+    private volatile long leasedAt;
+    private volatile Throwable leaseOrigin;
+    private volatile boolean leakReported;
+    private volatile Lease currentLease;
+
+    /**
+     * What to do when a lease is used from a thread other than its owner
+     */
+    enum ThreadCheck {
+        OFF, WARN, STRICT;
+
+        static ThreadCheck parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return STRICT;
+            }
+        }
+    }
+
+    PooledConnection(ConnectionPool pool, Connection physical, StatementCache statementCache) {
+        this.pool = pool;
+        this.physical = physical;
+        this.statementCache = statementCache;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+    }
+
+    /**
+     * Start a new lease and return the proxy handed to the caller
+     */
+    Connection lease(boolean captureOrigin, ThreadCheck threadCheck) {
+        Thread owner = Thread.currentThread();
+        leasedAt = System.currentTimeMillis();
+        leaseOrigin = captureOrigin ? new Throwable("Connection borrowed here by " + owner.getName()) : null;
+        leakReported = false;
+        Lease lease = new Lease(owner, threadCheck);
+        currentLease = lease;
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, lease);
+    }
+
+    /**
+     * Restore session defaults so the next borrower starts from a clean state
+     */
+    void reset() throws SQLException {
+        if (!physical.getAutoCommit()) {
+            physical.rollback();
+            physical.setAutoCommit(true);
+        }
+        physical.clearWarnings();
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    boolean isValid(long validationTimeoutMs, long validationIntervalMs) {
+        if (System.currentTimeMillis() - lastUsedAt < validationIntervalMs) {
+            return true;
+        }
+        try {
+            int seconds = (int) Math.max(1, validationTimeoutMs / 1000);
+            return physical.isValid(seconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    boolean isExpired(long maxLifetimeMs) {
+        return maxLifetimeMs > 0 && System.currentTimeMillis() - createdAt >= maxLifetimeMs;
+    }
+
+    boolean isIdleLongerThan(long idleTimeoutMs) {
+        return idleTimeoutMs > 0 && System.currentTimeMillis() - lastUsedAt >= idleTimeoutMs;
+    }
+
+    /**
+     * Report this connection once if it has been held longer than the threshold
+     */
+    boolean checkLeak(long thresholdMs) {
+        if (thresholdMs <= 0 || leakReported || currentLease == null) {
+            return false;
+        }
+        long heldFor = System.currentTimeMillis() - leasedAt;
+        if (heldFor < thresholdMs) {
+            return false;
+        }
+        leakReported = true;
+        Lease lease = currentLease;
+        String ownerName = lease != null ? lease.owner.getName() : "?";
+        System.err.println("ConnectionPool: Possible connection leak, held by " + ownerName + " for " + heldFor + " ms");
+        if (leaseOrigin != null) {
+            leaseOrigin.printStackTrace();
+        }
+        return true;
+    }
+
+    void closePhysical() {
+        statementCache.closeAll();
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            System.err.println("ConnectionPool: Error closing connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the socket without the clean shutdown close() does, which would
+     * first read any unread streaming result
+     */
+    void abortPhysical() {
+        try {
+            physical.abort(Runnable::run);
+        } catch (SQLException | SecurityException e) {
+            System.err.println("ConnectionPool: Could not abort connection, closing it: " + e.getMessage());
+            closePhysical();
+        }
+    }
+
+    Connection getPhysical() {
+        return physical;
+    }
+
+    /**
+     * Invocation handler backing one borrow of the physical connection
+     */
+    private class Lease implements InvocationHandler {
+        private final Thread owner;
+        private final ThreadCheck threadCheck;
+        private final List<Statement> openStatements = new ArrayList<>();
+        private volatile boolean closed;
+        private boolean misuseReported;
+
+        Lease(Thread owner, ThreadCheck threadCheck) {
+            this.owner = owner;
+            this.threadCheck = threadCheck;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    try {
+                        if (!closed) {
+                            checkOwner(method);
+                        }
+                    } catch (SQLException e) {
+                        // Reported, not thrown: a close that fails would keep the connection and its pool slot
+                        System.err.println("ConnectionPool: " + e.getMessage());
+                    } finally {
+                        end(false);
+                    }
+                    return null;
+                case "abort":
+                    end(true);
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + (closed ? ", returned]" : "]");
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            checkOwner(method);
+
+            Object result = statementCache.prepare(method, args);
+            if (result == null) {
+                try {
+                    result = method.invoke(physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            if (result instanceof Statement) {
+                Statement stmt = (Statement) result;
+                QueryMetrics metrics = pool.getQueryMetrics();
+                if (metrics != null) {
+                    String sql = args != null && args[0] instanceof String ? (String) args[0] : null;
+                    stmt = InstrumentedStatement.wrap(stmt, method.getReturnType(), metrics, pool.getSlowQueryLog(), sql);
+                }
+                openStatements.add(stmt);
+                return stmt;
+            }
+            return result;
+        }
+
+        private void checkOwner(Method method) throws SQLException {
+            Thread current = Thread.currentThread();
+            if (threadCheck == ThreadCheck.OFF || current == owner) {
+                return;
+            }
+            pool.recordCrossThreadUse();
+            String message = "Connection leased by thread '" + owner.getName() + "' used from thread '"
+                    + current.getName() + "' (" + method.getName() + ")";
+            if (threadCheck == ThreadCheck.STRICT) {
+                throw new SQLException(message + ". Borrow a separate connection for each thread.");
+            }
+            if (!misuseReported) {
+                misuseReported = true;
+                System.err.println("ConnectionPool: " + message);
+            }
+        }
+
+        /**
+         * @param abort discard the physical connection instead of returning it
+         */
+        private void end(boolean abort) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            currentLease = null;
+            if (abort) {
+                openStatements.clear();
+                pool.discard(PooledConnection.this);
+                return;
+            }
+            for (Statement stmt : openStatements) {
+                try {
+                    stmt.close();
+                } catch (SQLException ignored) {
+                    // Statement is discarded either way
+                }
+            }
+            openStatements.clear();
+            pool.release(PooledConnection.this);
+        }
+    }
+}
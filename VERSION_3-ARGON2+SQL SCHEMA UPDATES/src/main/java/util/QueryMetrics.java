@@ -0,0 +1,392 @@
+package util;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement execution metrics for every query run through the pool.
+ *
+ * Statements are grouped by normalized SQL (literals replaced with ?,
+ * whitespace collapsed), so all executions of one DAO query share a row.
+ * For each statement we keep the execution count, errors, rows returned or
+ * updated, and a latency histogram from which p50/p95/p99 are read.
+ *
+ * Batched DAO operations (bulk validate, verify, reject) are also counted
+ * as a whole via {@link #recordBatch}, so their throughput in items per
+ * second can be compared with the per-statement numbers.
+ *
+ * Recording only touches LongAdders and an AtomicLongArray; nothing is
+ * logged. Read the numbers through {@link #snapshot()}, the Diagnostics tab,
+ * or JMX (phishnet:type=QueryMetrics).
+ */
+public class QueryMetrics implements QueryMetricsMXBean {
+    public static final String MBEAN_NAME = "phishnet:type=QueryMetrics";
+
+    private static final QueryMetrics INSTANCE = new QueryMetrics();
+
+    // Distinct statements tracked before new ones are lumped together
+    private static final int MAX_STATEMENTS = 500;
+    private static final int MAX_NORMALIZED_CACHE = 2048;
+    private static final String OTHER = "<other statements>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final Map<String, BatchMetrics> batches = new ConcurrentHashMap<>();
+
+    private QueryMetrics() {
+    }
+
+    public static QueryMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the JMX MBean once; later calls are ignored
+     */
+    public static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(INSTANCE, new ObjectName(MBEAN_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            System.err.println("QueryMetrics: Could not register MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Metrics bucket for a SQL string; cheap after the first call for the same string
+     */
+    StatementMetrics forSql(String sql) {
+        String key = normalized.get(sql);
+        if (key == null) {
+            key = normalize(sql);
+            if (normalized.size() < MAX_NORMALIZED_CACHE) {
+                normalized.put(sql, key);
+            }
+        }
+        StatementMetrics metrics = statements.get(key);
+        if (metrics == null) {
+            if (statements.size() >= MAX_STATEMENTS) {
+                key = OTHER;
+            }
+            metrics = statements.computeIfAbsent(key, StatementMetrics::new);
+        }
+        return metrics;
+    }
+
+    /**
+     * Replace literals with ?, collapse IN lists and whitespace
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "<null>";
+        }
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("IN (...)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    /**
+     * Current numbers for every statement, slowest total time first
+     */
+    public List<QueryStats> snapshot() {
+        List<QueryStats> list = new ArrayList<>();
+        for (StatementMetrics m : statements.values()) {
+            list.add(m.snapshot());
+        }
+        list.sort(Comparator.comparingLong(QueryStats::getTotalMicros).reversed());
+        return list;
+    }
+
+    /**
+     * Record one run of a batched DAO operation
+     * @param operation short name shown in diagnostics, e.g. "evidence.verify"
+     * @param items number of rows the run was asked to process
+     * @param nanos wall time of the whole run, including commit or rollback
+     */
+    public void recordBatch(String operation, int items, long nanos, boolean failed) {
+        batches.computeIfAbsent(operation, BatchMetrics::new).record(items, nanos, failed);
+    }
+
+    /**
+     * Current numbers for every batched operation, by name
+     */
+    public List<BatchStats> batchSnapshot() {
+        List<BatchStats> list = new ArrayList<>();
+        for (BatchMetrics m : batches.values()) {
+            list.add(m.snapshot());
+        }
+        list.sort(Comparator.comparing(BatchStats::getOperation));
+        return list;
+    }
+
+    @Override
+    public List<QueryStats> getStatements() {
+        return snapshot();
+    }
+
+    @Override
+    public List<BatchStats> getBatches() {
+        return batchSnapshot();
+    }
+
+    @Override
+    public long getTotalExecutions() {
+        long total = 0;
+        for (StatementMetrics m : statements.values()) {
+            total += m.count.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getTotalErrors() {
+        long total = 0;
+        for (StatementMetrics m : statements.values()) {
+            total += m.errors.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public String getPoolStats() {
+        return DatabaseConnection.getPoolStats().toString();
+    }
+
+    @Override
+    public void reset() {
+        statements.clear();
+        batches.clear();
+    }
+
+    /**
+     * Live counters for one normalized statement
+     */
+    static final class StatementMetrics {
+        private final String sql;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        StatementMetrics(String sql) {
+            this.sql = sql;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        void recordExecution(long nanos, boolean failed) {
+            long micros = nanos / 1_000;
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulateAndGet(micros, Math::max);
+            histogram.record(micros);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        void addRows(long n) {
+            if (n > 0) {
+                rows.add(n);
+            }
+        }
+
+        QueryStats snapshot() {
+            long[] counts = histogram.counts();
+            return new QueryStats(sql, count.sum(), errors.sum(), rows.sum(), totalMicros.sum(),
+                    LatencyHistogram.percentile(counts, 0.50),
+                    LatencyHistogram.percentile(counts, 0.95),
+                    LatencyHistogram.percentile(counts, 0.99),
+                    maxMicros.get());
+        }
+    }
+
+    /**
+     * Live counters for one batched operation
+     */
+    static final class BatchMetrics {
+        private final String operation;
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+
+        BatchMetrics(String operation) {
+            this.operation = operation;
+        }
+
+        void record(int n, long nanos, boolean failed) {
+            long micros = nanos / 1_000;
+            runs.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulateAndGet(micros, Math::max);
+            if (failed) {
+                errors.increment();
+            } else {
+                items.add(n);
+            }
+        }
+
+        BatchStats snapshot() {
+            return new BatchStats(operation, runs.sum(), errors.sum(), items.sum(), totalMicros.sum(), maxMicros.get());
+        }
+    }
+
+    /**
+     * Log-linear histogram of microsecond latencies: each power of two is
+     * split into four buckets, so a reported percentile is at most 25% above
+     * the true value. Covers 0 us to about three days; longer is clamped.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKETS = 4;
+        private static final int MAX_EXPONENT = 38;
+        private static final int BUCKETS = MAX_EXPONENT * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long micros) {
+            buckets.incrementAndGet(indexOf(micros));
+        }
+
+        long[] counts() {
+            long[] copy = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                copy[i] = buckets.get(i);
+            }
+            return copy;
+        }
+
+        static int indexOf(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) Math.max(0, micros);
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int sub = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return Math.min(BUCKETS - 1, exponent * SUB_BUCKETS - SUB_BUCKETS + sub);
+        }
+
+        /** Largest value that falls into the given bucket */
+        static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = (index + SUB_BUCKETS) / SUB_BUCKETS;
+            int sub = (index + SUB_BUCKETS) % SUB_BUCKETS;
+            long lower = (long) (SUB_BUCKETS + sub) << (exponent - 2);
+            return lower + (1L << (exponent - 2)) - 1;
+        }
+
+        static long percentile(long[] counts, double p) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(p * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+    }
+
+    /**
+     * Immutable view of one statement's metrics. Times are in microseconds.
+     */
+    public static final class QueryStats {
+        private final String sql;
+        private final long count;
+        private final long errors;
+        private final long rows;
+        private final long totalMicros;
+        private final long p50Micros;
+        private final long p95Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+
+        QueryStats(String sql, long count, long errors, long rows, long totalMicros,
+                   long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+            this.sql = sql;
+            this.count = count;
+            this.errors = errors;
+            this.rows = rows;
+            this.totalMicros = totalMicros;
+            this.p50Micros = p50Micros;
+            this.p95Micros = p95Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        public String getSql() { return sql; }
+        public long getCount() { return count; }
+        public long getErrors() { return errors; }
+        public long getRows() { return rows; }
+        public long getTotalMicros() { return totalMicros; }
+        public long getMeanMicros() { return count == 0 ? 0 : totalMicros / count; }
+        public long getP50Micros() { return p50Micros; }
+        public long getP95Micros() { return p95Micros; }
+        public long getP99Micros() { return p99Micros; }
+        public long getMaxMicros() { return maxMicros; }
+    }
+
+    /**
+     * Immutable view of one batched operation. Items count only committed runs.
+     */
+    public static final class BatchStats {
+        private final String operation;
+        private final long runs;
+        private final long errors;
+        private final long items;
+        private final long totalMicros;
+        private final long maxMicros;
+
+        BatchStats(String operation, long runs, long errors, long items, long totalMicros, long maxMicros) {
+            this.operation = operation;
+            this.runs = runs;
+            this.errors = errors;
+            this.items = items;
+            this.totalMicros = totalMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public String getOperation() { return operation; }
+        public long getRuns() { return runs; }
+        public long getErrors() { return errors; }
+        public long getItems() { return items; }
+        public long getTotalMicros() { return totalMicros; }
+        public long getMeanMicros() { return runs == 0 ? 0 : totalMicros / runs; }
+        public long getMaxMicros() { return maxMicros; }
+        public double getItemsPerSecond() { return totalMicros == 0 ? 0 : items * 1_000_000.0 / totalMicros; }
+    }
+}
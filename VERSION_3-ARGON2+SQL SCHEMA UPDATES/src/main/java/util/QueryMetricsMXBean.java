@@ -0,0 +1,25 @@
+package util;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link QueryMetrics}, registered as phishnet:type=QueryMetrics
+ */
+public interface QueryMetricsMXBean {
+
+    /** Per-statement count, errors, rows and latency percentiles (microseconds) */
+    List<QueryMetrics.QueryStats> getStatements();
+
+    /** Runs, items and throughput of batched DAO operations */
+    List<QueryMetrics.BatchStats> getBatches();
+
+    long getTotalExecutions();
+
+    long getTotalErrors();
+
+    /** Connection pool summary line */
+    String getPoolStats();
+
+    /** Forget all recorded statements and batches */
+    void reset();
+}
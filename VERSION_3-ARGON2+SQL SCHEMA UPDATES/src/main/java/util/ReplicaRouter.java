@@ -0,0 +1,166 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses where read-only queries run.
+ *
+ * Writes and anything that must see its own writes keep using the primary
+ * pool (DatabaseConnection.getConnection()). Reads that tolerate a few
+ * seconds of staleness (reports) ask for a read connection, which comes from
+ * the replica pool while the replica is reachable and no more than
+ * maxLagSeconds behind. Otherwise the read silently falls back to the primary.
+ *
+ * Lag is measured with SHOW REPLICA STATUS at most once per check interval,
+ * on whichever thread asks first, so normal reads never pay for the check.
+ * A replica that cannot be connected to is bypassed until the next check; a
+ * busy replica pool only sends that one read to the primary.
+ */
+class ReplicaRouter {
+    private final ConnectionPool primary;
+    private final ConnectionPool replica;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+
+    private volatile long nextCheckAt;
+    private volatile boolean replicaUsable = true;
+    private volatile long lastLagSeconds = -1;
+    private volatile String lastProblem;
+    private boolean notReplicaReported;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    ReplicaRouter(ConnectionPool primary, ConnectionPool replica, long maxLagSeconds, long checkIntervalMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = Math.max(500, checkIntervalMs);
+    }
+
+    /**
+     * Borrow a connection for a read-only query
+     */
+    Connection borrowRead() throws SQLException {
+        if (replica != null && isReplicaUsable()) {
+            try {
+                Connection conn = replica.borrow();
+                replicaReads.increment();
+                return conn;
+            } catch (SQLTransientConnectionException e) {
+                // Pool exhausted: the replica itself is fine, so only this read moves
+            } catch (SQLException e) {
+                markDown("borrow failed: " + e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.borrow();
+    }
+
+    void shutdown() {
+        if (replica != null) {
+            replica.shutdown();
+        }
+    }
+
+    ConnectionPool getReplicaPool() {
+        return replica;
+    }
+
+    /**
+     * One-line routing summary for logs and diagnostics
+     */
+    String describe() {
+        if (replica == null) {
+            return "Read replica not configured; all reads use the primary";
+        }
+        return "Read replica " + (replicaUsable ? "in use" : "bypassed")
+                + ", lag=" + (lastLagSeconds < 0 ? "unknown" : lastLagSeconds + "s")
+                + " (max " + maxLagSeconds + "s), replicaReads=" + replicaReads.sum()
+                + ", primaryReads=" + primaryReads.sum()
+                + (replicaUsable || lastProblem == null ? "" : ", reason: " + lastProblem);
+    }
+
+    private boolean isReplicaUsable() {
+        if (System.currentTimeMillis() >= nextCheckAt) {
+            synchronized (this) {
+                if (System.currentTimeMillis() >= nextCheckAt) {
+                    checkReplica();
+                    nextCheckAt = System.currentTimeMillis() + checkIntervalMs;
+                }
+            }
+        }
+        return replicaUsable;
+    }
+
+    private void checkReplica() {
+        try (Connection conn = replica.borrow()) {
+            long lag = readLagSeconds(conn);
+            lastLagSeconds = lag;
+            if (lag < 0) {
+                markDown("replication is not running");
+            } else if (lag > maxLagSeconds) {
+                markDown("replica is " + lag + "s behind");
+            } else {
+                markUp();
+            }
+        } catch (SQLTransientConnectionException e) {
+            // Every replica connection is busy; keep the last verdict until the next check
+        } catch (SQLException e) {
+            lastLagSeconds = -1;
+            markDown("lag check failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return seconds behind the source, or -1 if replication is stopped
+     */
+    private long readLagSeconds(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            try {
+                return readLagSeconds(stmt, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                // MySQL before 8.0.22 only knows the old syntax
+                return readLagSeconds(stmt, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+            }
+        }
+    }
+
+    private long readLagSeconds(Statement stmt, String sql, String lagColumn) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                if (!notReplicaReported) {
+                    notReplicaReported = true;
+                    System.out.println("ReplicaRouter: Replica server reports no replication channel; "
+                            + "treating it as up to date");
+                }
+                return 0;
+            }
+            long lag = rs.getLong(lagColumn);
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    private void markDown(String reason) {
+        lastProblem = reason;
+        if (replicaUsable) {
+            replicaUsable = false;
+            System.err.println("ReplicaRouter: Sending reads to primary, " + reason);
+        }
+        // A failed borrow outside the periodic check also waits a full interval before retrying
+        nextCheckAt = Math.max(nextCheckAt, System.currentTimeMillis() + checkIntervalMs);
+    }
+
+    private void markUp() {
+        if (!replicaUsable) {
+            replicaUsable = true;
+            System.out.println("ReplicaRouter: Replica caught up, reads use the replica again");
+        }
+        lastProblem = null;
+    }
+}
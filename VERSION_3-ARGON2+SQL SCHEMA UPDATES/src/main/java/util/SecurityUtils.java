@@ -36,6 +36,16 @@ public class SecurityUtils {
         );
     }
     
+    /**
+     * Force the Argon2 function to be built ahead of the first login.
+     * Called from a background thread during startup; safe to call more than once.
+     */
+    public static void warmUp() {
+        if (ARGON2_FUNCTION == null) {
+            throw new IllegalStateException("Argon2 function failed to initialize");
+        }
+    }
+
     /**
      * Hash password using Argon2id
      * 
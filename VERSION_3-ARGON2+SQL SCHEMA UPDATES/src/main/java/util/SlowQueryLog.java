@@ -0,0 +1,241 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Writes statements slower than db.slowQuery.thresholdMs to a rotating log
+ * file (logs/slow-queries.N.log by default).
+ *
+ * Each entry has the normalized SQL, elapsed time and the bound parameters.
+ * Parameters are redacted: emails become &lt;email&gt;, and any other string
+ * that is not a known ENUM value from the schema becomes &lt;text:N chars&gt;,
+ * so names and descriptions never reach the file. Numbers and dates are kept
+ * because they are what makes a plan choice reproducible.
+ *
+ * The first time a statement shape is slow, EXPLAIN is run for it on a
+ * background thread with the real parameters and the plan is appended to the
+ * log. Nothing here runs on the query thread except a threshold comparison
+ * and handing the entry to that thread.
+ */
+public class SlowQueryLog {
+    private static final Logger LOG = Logger.getLogger("phishnet.slowquery");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final Pattern EXPLAINABLE = Pattern.compile("(?is)^\\s*(SELECT|INSERT|UPDATE|DELETE|REPLACE)\\b.*");
+
+    // ENUM values from PhishNet-structure.sql; safe to log as-is
+    private static final Set<String> KNOWN_VALUES = Set.of(
+            "Active", "Flagged", "Suspended",
+            "Phone Number", "Email Address", "Social Media Account", "Website URL", "IP Address",
+            "UnderReview", "Suspected", "Malicious", "Cleared",
+            "Low", "Medium", "High",
+            "System Admin", "Cybersecurity Staff",
+            "Pending", "Validated", "Verified", "Rejected",
+            "Screenshot", "Email", "File", "Chat Log");
+
+    // Bounded so a burst of slow queries cannot pile up work or memory
+    private static final int MAX_PENDING = 100;
+
+    private static SlowQueryLog instance;
+    private static boolean initialized;
+
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final Set<String> explainedShapes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writer;
+
+    private SlowQueryLog(DatabaseConfig config) throws IOException {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowQueryThreshold());
+        this.explain = config.isSlowQueryExplainEnabled();
+
+        File logFile = new File(config.getSlowQueryLogFile());
+        File dir = logFile.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory " + dir);
+        }
+        String pattern = logFile.getPath().replaceFirst("(\\.log)?$", ".%g.log");
+        FileHandler handler = new FileHandler(pattern, config.getSlowQueryLogMaxBytes(),
+                config.getSlowQueryLogFileCount(), true);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        LOG.setUseParentHandlers(false);
+        LOG.addHandler(handler);
+        LOG.setLevel(Level.INFO);
+
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_PENDING), r -> {
+                    Thread t = new Thread(r, "slow-query-log");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * The process-wide log, created from the first pool's configuration.
+     * Shared by the primary and replica pools so they write to one file.
+     * @return the log, or null when disabled or the file cannot be opened
+     */
+    static synchronized SlowQueryLog getInstance(DatabaseConfig config) {
+        if (!initialized) {
+            initialized = true;
+            instance = create(config);
+        }
+        return instance;
+    }
+
+    /**
+     * Flush pending entries; called when the connection pool shuts down
+     */
+    static synchronized void shutdownInstance() {
+        if (instance != null) {
+            instance.writer.shutdown();
+            try {
+                instance.writer.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static SlowQueryLog create(DatabaseConfig config) {
+        if (config.getSlowQueryThreshold() <= 0) {
+            return null;
+        }
+        try {
+            return new SlowQueryLog(config);
+        } catch (IOException | SecurityException e) {
+            System.err.println("SlowQueryLog: Could not open log file, slow queries will not be logged: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    /**
+     * Queue one slow execution for logging
+     * @param shape normalized SQL used to decide whether EXPLAIN already ran
+     * @param sql the SQL as prepared, used for EXPLAIN
+     * @param params bound parameters by index (1-based, slot 0 unused), or null
+     */
+    void record(String shape, String sql, long nanos, Object[] params, boolean failed) {
+        String thread = Thread.currentThread().getName();
+        Object[] copy = params != null ? Arrays.copyOf(params, params.length) : null;
+        try {
+            writer.execute(() -> write(shape, sql, nanos, copy, failed, thread));
+        } catch (RejectedExecutionException ignored) {
+            // Writer is shut down
+        }
+    }
+
+    private void write(String shape, String sql, long nanos, Object[] params, boolean failed, String thread) {
+        StringBuilder entry = new StringBuilder();
+        entry.append("# ").append(LocalDateTime.now().format(TIMESTAMP))
+                .append(" [").append(thread).append("] ")
+                .append(nanos / 1_000_000).append(" ms").append(failed ? " (failed)" : "")
+                .append(System.lineSeparator())
+                .append(shape).append(System.lineSeparator())
+                .append("  params: ").append(redact(params));
+        LOG.info(entry.toString());
+
+        if (explain && !failed && explainedShapes.add(shape) && EXPLAINABLE.matcher(sql).matches()) {
+            LOG.info(explain(sql, params));
+        }
+    }
+
+    /**
+     * Run EXPLAIN with the real parameters on a connection of our own
+     */
+    private String explain(String sql, Object[] params) {
+        StringBuilder plan = new StringBuilder("  EXPLAIN:");
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            if (params != null) {
+                for (int i = 1; i < params.length; i++) {
+                    stmt.setObject(i, params[i]);
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    plan.append(System.lineSeparator()).append("   ");
+                    for (int c = 1; c <= meta.getColumnCount(); c++) {
+                        String value = rs.getString(c);
+                        if (value != null) {
+                            plan.append(' ').append(meta.getColumnLabel(c)).append('=').append(value);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plan.append(" failed: ").append(e.getMessage());
+        }
+        return plan.toString();
+    }
+
+    static String redact(Object[] params) {
+        if (params == null || params.length <= 1) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 1; i < params.length; i++) {
+            if (i > 1) {
+                sb.append(", ");
+            }
+            sb.append(i).append('=').append(redactValue(params[i]));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String redactValue(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof java.util.Date
+                || value instanceof java.time.temporal.Temporal) {
+            return value.toString();
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            if (KNOWN_VALUES.contains(s)) {
+                return "'" + s + "'";
+            }
+            if (EMAIL.matcher(s).matches()) {
+                return "<email>";
+            }
+            return "<text:" + s.length() + " chars>";
+        }
+        if (value instanceof byte[]) {
+            return "<bytes:" + ((byte[]) value).length + ">";
+        }
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+}
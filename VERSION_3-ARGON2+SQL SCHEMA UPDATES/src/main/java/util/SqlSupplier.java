@@ -0,0 +1,11 @@
+package util;
+
+import java.sql.SQLException;
+
+/**
+ * A blocking database call, run asynchronously by {@link DbExecutor}
+ */
+@FunctionalInterface
+public interface SqlSupplier<T> {
+    T get() throws SQLException;
+}
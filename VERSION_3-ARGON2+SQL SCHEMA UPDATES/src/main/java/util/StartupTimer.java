@@ -0,0 +1,71 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Records how long each startup phase takes so time-to-first-frame can be
+ * compared between releases. Phases may run on different threads.
+ *
+ * Output is one line per phase plus a summary, all prefixed with "Startup:",
+ * e.g. "Startup: loginFxml 182 ms [startup-2] (+410 ms)". The "+" value is
+ * the phase's end time measured from JVM start.
+ */
+public class StartupTimer {
+    private final long jvmStartMillis;
+    private final long createdAt;
+    private final List<String> phases = new ArrayList<>();
+
+    public StartupTimer() {
+        this.jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Run one phase and log its duration
+     */
+    public <T> T time(String phase, Callable<T> work) throws Exception {
+        long start = System.currentTimeMillis();
+        try {
+            return work.call();
+        } finally {
+            record(phase, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Log a point in time (e.g. first frame) relative to JVM start
+     */
+    public void mark(String event) {
+        long now = System.currentTimeMillis();
+        String line = "Startup: " + event + " at +" + (now - jvmStartMillis) + " ms ("
+                + (now - createdAt) + " ms after Application.start)";
+        synchronized (phases) {
+            phases.add(line);
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Print every phase again as one block, e.g. once the login screen is up
+     */
+    public void logSummary() {
+        synchronized (phases) {
+            System.out.println("Startup: ---- summary (" + phases.size() + " entries) ----");
+            for (String line : phases) {
+                System.out.println(line);
+            }
+        }
+    }
+
+    private void record(String phase, long elapsed) {
+        String line = "Startup: " + phase + " " + elapsed + " ms [" + Thread.currentThread().getName()
+                + "] (+" + (System.currentTimeMillis() - jvmStartMillis) + " ms)";
+        synchronized (phases) {
+            phases.add(line);
+        }
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,215 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of prepared statements for one physical connection.
+ *
+ * prepareStatement(sql) and prepareStatement(sql, autoGeneratedKeys) are
+ * served from the cache. The caller gets a proxy whose close() clears the
+ * parameters and any queued batch, restores the fetch size, max rows and
+ * query timeout if the caller changed them, and keeps the statement open for
+ * the next borrower of the same connection, so with useServerPrepStmts the
+ * server-side statement (and its parse/plan) is reused. A statement that
+ * cannot be reset is evicted. A statement that is already checked out is not
+ * shared: a second prepare of the same SQL gets a plain, uncached statement.
+ *
+ * Only the thread holding the connection lease touches the cache.
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int maxSize;
+    private final Counters counters;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Hit/miss counters shared by all caches of one pool
+     */
+    static final class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+    }
+
+    StatementCache(Connection physical, int maxSize, Counters counters) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.counters = counters;
+    }
+
+    /**
+     * @return a cached statement proxy, or null if this call shape is not cacheable
+     */
+    PreparedStatement prepare(Method method, Object[] args) throws SQLException {
+        if (maxSize <= 0 || !isCacheable(method, args)) {
+            return null;
+        }
+        String sql = (String) args[0];
+        int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : java.sql.Statement.NO_GENERATED_KEYS;
+        String key = autoGeneratedKeys + ":" + sql;
+
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.inUse) {
+            counters.hits.increment();
+        } else if (entry != null) {
+            counters.misses.increment();
+            return null;
+        } else {
+            counters.misses.increment();
+            PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+            try {
+                entry = new Entry(key, statement);
+            } catch (SQLException e) {
+                statement.close();
+                throw e;
+            }
+            entries.put(key, entry);
+            evictIfNeeded();
+        }
+        entry.inUse = true;
+        return entry.checkout();
+    }
+
+    void closeAll() {
+        for (Entry entry : entries.values()) {
+            entry.closePhysical();
+        }
+        entries.clear();
+    }
+
+    private static boolean isCacheable(Method method, Object[] args) {
+        if (!"prepareStatement".equals(method.getName()) || args == null || !(args[0] instanceof String)) {
+            return false;
+        }
+        return args.length == 1 || (args.length == 2 && args[1] instanceof Integer);
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            counters.evictions.increment();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                eldest.closePhysical();
+            }
+        }
+    }
+
+    private final class Entry {
+        final String key;
+        final PreparedStatement statement;
+        // Driver defaults, restored on check-in when a caller changed them
+        final int fetchSize;
+        final long maxRows;
+        final int queryTimeout;
+        boolean inUse;
+        boolean evicted;
+
+        Entry(String key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getLargeMaxRows();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        PreparedStatement checkout() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new Checkout(this));
+        }
+
+        void checkin(boolean settingsChanged) {
+            inUse = false;
+            if (evicted) {
+                closePhysical();
+                return;
+            }
+            try {
+                // A batch left by a failed executeBatch() would otherwise run on the next checkout
+                statement.clearBatch();
+                statement.clearParameters();
+                statement.clearWarnings();
+                if (settingsChanged) {
+                    statement.setFetchSize(fetchSize);
+                    statement.setLargeMaxRows(maxRows);
+                    statement.setQueryTimeout(queryTimeout);
+                }
+            } catch (SQLException e) {
+                evicted = true;
+                entries.remove(key, this);
+                counters.evictions.increment();
+                closePhysical();
+            }
+        }
+
+        void closePhysical() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // Statement is being discarded
+            }
+        }
+    }
+
+    /**
+     * Handle given to one caller; close() hands the statement back to the cache
+     */
+    private static final class Checkout implements InvocationHandler {
+        private final Entry entry;
+        private boolean closed;
+        private boolean settingsChanged;
+
+        Checkout(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        entry.checkin(settingsChanged);
+                    }
+                    return null;
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setQueryTimeout":
+                    settingsChanged = true;
+                    break;
+                case "isClosed":
+                    return closed || entry.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            try {
+                return method.invoke(entry.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Time the DATETIME string round trip the DAOs used to make on every value
+ *
+ * Before the DAOs bound LocalDateTime directly, each parameter was formatted
+ * with DateUtils.toDatabaseFormat and each column read back through
+ * DateUtils.fromDatabaseFormat, both on a "yyyy-MM-dd HH:mm:ss" formatter.
+ * This formats and parses a million values that way and compares them with
+ * handing the same LocalDateTime through unchanged, which is what
+ * setObject / getObject(i, LocalDateTime.class) leave to the driver.
+ *
+ *   java -cp target/classes util.TestDateBinding [values]
+ */
+public class TestDateBinding {
+    private static final DateTimeFormatter DB_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+
+    private static final Object[] SINK = new Object[1024];
+    private static long checksum;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        LocalDateTime[] values = new LocalDateTime[count];
+        String[] stored = new String[count];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < count; i++) {
+            values[i] = start.plusSeconds(i * 37L);
+            stored[i] = values[i].format(DB_FORMATTER);
+        }
+
+        System.out.println("=== DATETIME binding, " + count + " values x " + ROUNDS + " rounds ===\n");
+        report("pass-through", count, () -> {
+            for (int i = 0; i < count; i++) {
+                SINK[i & 1023] = values[i];
+            }
+        });
+        report("format", count, () -> {
+            for (int i = 0; i < count; i++) {
+                SINK[i & 1023] = values[i].format(DB_FORMATTER);
+            }
+        });
+        report("parse", count, () -> {
+            for (int i = 0; i < count; i++) {
+                SINK[i & 1023] = LocalDateTime.parse(stored[i], DB_FORMATTER);
+            }
+        });
+        System.out.println("\n(checksum " + checksum + ")");
+    }
+
+    private static void report(String name, int count, Runnable pass) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            pass.run();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            pass.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        checksum += SINK[0].hashCode();
+
+        double total = (double) count * ROUNDS;
+        System.out.println(String.format("%-13s %8.1f ns/value %8.1f bytes/value",
+                name, nanos / total, bytes / total));
+    }
+}
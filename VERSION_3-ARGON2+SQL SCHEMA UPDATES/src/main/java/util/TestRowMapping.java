@@ -0,0 +1,245 @@
+package util;
+
+import dao.BeanRowMapper;
+import dao.RowMapper;
+import dao.SqlCatalog;
+import model.IncidentReport;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Time the generated incident row mapper against the hand-written ones it replaced
+ *
+ * "by name" is the original mapResultSetToIncidentReport, reading each
+ * column of a SELECT * by label; the date is read with getObject as today
+ * (TestDateBinding times the old string round trip). "hand-written" is the
+ * positional mapper bound to SqlCatalog.INCIDENT_ROW indices that
+ * BeanRowMapper replaced. Label lookups go through the same two maps
+ * Connector/J's findColumn uses: an exact-name cache in front of a
+ * case-insensitive TreeMap.
+ *
+ * Rows come from an in-memory ResultSet proxy over pre-built values, so no
+ * database is needed. The proxy itself costs time and allocates (one
+ * argument array per call); the "columns only" run makes the same calls
+ * without building a report, and the mapper lines also show their cost
+ * minus that run. Results are kept in a ring buffer so the JIT cannot
+ * scalar-replace the report.
+ *
+ * All mappers share the proxy's handler code, so whichever runs later sees
+ * a JIT profile polluted by the others. Naming one mapper runs only the
+ * baseline and that mapper; compare separate runs for steadier numbers.
+ *
+ *   java -cp target/classes util.TestRowMapping [rows] [byName|handWritten|bean]
+ */
+public class TestRowMapping {
+    private static final int DISTINCT_ROWS = 1024;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private static final Object[] SINK = new Object[DISTINCT_ROWS];
+    private static long checksum;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String only = args.length > 1 ? args[1] : null;
+        ResultSet rs = incidentRows();
+
+        RowMapper<IncidentReport> generated = BeanRowMapper.of(IncidentReport.class, SqlCatalog.INCIDENT_ROW);
+        RowMapper<IncidentReport> byName = byNameMapper();
+        RowMapper<IncidentReport> handWritten = handWrittenMapper();
+        RowMapper<Object> columnsOnly = columnsOnly();
+
+        System.out.println("=== Incident row mapping, " + rows + " rows x " + ROUNDS + " rounds ===\n");
+        Result baseline = measure("columns only", columnsOnly, rs, rows);
+        List<Result> results = new ArrayList<>();
+        if (only == null || only.equals("byName")) {
+            results.add(measure("by name", byName, rs, rows));
+        }
+        if (only == null || only.equals("handWritten")) {
+            results.add(measure("hand-written", handWritten, rs, rows));
+        }
+        if (only == null || only.equals("bean")) {
+            results.add(measure("BeanRowMapper", generated, rs, rows));
+        }
+
+        System.out.println();
+        baseline.print(null);
+        for (Result result : results) {
+            result.print(baseline);
+        }
+        System.out.println("\n(checksum " + checksum + ")");
+    }
+
+    /**
+     * The original mapResultSetToIncidentReport, for SELECT * rows
+     */
+    private static RowMapper<IncidentReport> byNameMapper() {
+        return rs -> {
+            IncidentReport ir = new IncidentReport();
+            ir.setIncidentID(rs.getInt("IncidentID"));
+            ir.setVictimID(rs.getInt("VictimID"));
+            ir.setPerpetratorID(rs.getInt("PerpetratorID"));
+            ir.setAttackTypeID(rs.getInt("AttackTypeID"));
+            int admin = rs.getInt("AdminID");
+            ir.setAdminID(rs.wasNull() ? null : admin);
+            ir.setDateReported(rs.getObject("DateReported", LocalDateTime.class));
+            ir.setDescription(rs.getString("Description"));
+            ir.setStatus(rs.getString("Status"));
+            return ir;
+        };
+    }
+
+    /**
+     * The positional mapper IncidentReportDAOImpl had before BeanRowMapper
+     */
+    private static RowMapper<IncidentReport> handWrittenMapper() {
+        int incidentID = SqlCatalog.INCIDENT_ROW.index("IncidentID");
+        int victimID = SqlCatalog.INCIDENT_ROW.index("VictimID");
+        int perpetratorID = SqlCatalog.INCIDENT_ROW.index("PerpetratorID");
+        int attackTypeID = SqlCatalog.INCIDENT_ROW.index("AttackTypeID");
+        int adminID = SqlCatalog.INCIDENT_ROW.index("AdminID");
+        int dateReported = SqlCatalog.INCIDENT_ROW.index("DateReported");
+        int description = SqlCatalog.INCIDENT_ROW.index("Description");
+        int status = SqlCatalog.INCIDENT_ROW.index("Status");
+        return rs -> {
+            IncidentReport ir = new IncidentReport();
+            ir.setIncidentID(rs.getInt(incidentID));
+            ir.setVictimID(rs.getInt(victimID));
+            ir.setPerpetratorID(rs.getInt(perpetratorID));
+            ir.setAttackTypeID(rs.getInt(attackTypeID));
+            int admin = rs.getInt(adminID);
+            ir.setAdminID(rs.wasNull() ? null : admin);
+            ir.setDateReported(rs.getObject(dateReported, LocalDateTime.class));
+            ir.setDescription(rs.getString(description));
+            ir.setStatus(rs.getString(status));
+            return ir;
+        };
+    }
+
+    /**
+     * The same ResultSet calls as the mappers, building nothing
+     */
+    private static RowMapper<Object> columnsOnly() {
+        return rs -> {
+            long sum = rs.getInt(1) + rs.getInt(2) + rs.getInt(3) + rs.getInt(4) + rs.getInt(5);
+            sum += rs.wasNull() ? 1 : 0;
+            sum += rs.getObject(6, LocalDateTime.class).getNano();
+            sum += rs.getString(7).length() + rs.getString(8).length();
+            checksum += sum;
+            return null;
+        };
+    }
+
+    private static Result measure(String name, RowMapper<?> mapper, ResultSet rs, int rows) throws SQLException {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            run(mapper, rs, rows);
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            run(mapper, rs, rows);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        double total = (double) rows * ROUNDS;
+        System.out.println("   done: " + name);
+        return new Result(name, nanos / total, bytes / total);
+    }
+
+    private static void run(RowMapper<?> mapper, ResultSet rs, int rows) throws SQLException {
+        for (int i = 0; i < rows; i++) {
+            rs.next();
+            SINK[i & (DISTINCT_ROWS - 1)] = mapper.map(rs);
+        }
+        checksum += SINK[0] != null ? SINK[0].hashCode() & 1 : 0;
+    }
+
+    /**
+     * An endless result of INCIDENT_ROW columns cycling through DISTINCT_ROWS pre-built rows,
+     * readable by index or label; every fourth row has a NULL AdminID
+     */
+    private static ResultSet incidentRows() {
+        Object[][] values = new Object[DISTINCT_ROWS][];
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 8, 30);
+        for (int i = 0; i < DISTINCT_ROWS; i++) {
+            values[i] = new Object[]{
+                    1000 + i, 200 + i % 50, 300 + i % 70, 1 + i % 5,
+                    i % 4 == 0 ? null : 1 + i % 3, date.plusMinutes(i),
+                    "Reported phishing message number " + i, i % 3 == 0 ? "Pending" : "Validated"};
+        }
+        // The IncidentReports table has exactly the INCIDENT_ROW columns, so SELECT * returns the same set
+        List<String> labels = SqlCatalog.INCIDENT_ROW.columnNames();
+        Map<String, Integer> byLabel = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < labels.size(); i++) {
+            byLabel.put(labels.get(i), i + 1);
+        }
+        Map<String, Integer> labelCache = new HashMap<>();
+        int[] row = {-1};
+        boolean[] wasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Integer column = null;
+                    if (args != null && args[0] instanceof String) {
+                        column = labelCache.get(args[0]);
+                        if (column == null) {
+                            column = byLabel.get(args[0]);
+                            labelCache.put((String) args[0], column);
+                        }
+                    } else if (args != null) {
+                        column = (Integer) args[0];
+                    }
+                    switch (method.getName()) {
+                        case "next":
+                            row[0] = (row[0] + 1) & (DISTINCT_ROWS - 1);
+                            return true;
+                        case "wasNull":
+                            return wasNull[0];
+                        case "getInt": {
+                            Object value = values[row[0]][column - 1];
+                            wasNull[0] = value == null;
+                            return value == null ? 0 : value;
+                        }
+                        case "getString":
+                        case "getObject": {
+                            Object value = values[row[0]][column - 1];
+                            wasNull[0] = value == null;
+                            return value;
+                        }
+                        default:
+                            throw new SQLException("Not supported by the test result set: " + method.getName());
+                    }
+                });
+    }
+
+    private static final class Result {
+        final String name;
+        final double nanosPerRow;
+        final double bytesPerRow;
+
+        Result(String name, double nanosPerRow, double bytesPerRow) {
+            this.name = name;
+            this.nanosPerRow = nanosPerRow;
+            this.bytesPerRow = bytesPerRow;
+        }
+
+        void print(Result baseline) {
+            String line = String.format("%-14s %8.1f ns/row %8.1f bytes/row", name, nanosPerRow, bytesPerRow);
+            if (baseline != null) {
+                line += String.format("   (mapping alone: %6.1f ns/row %6.1f bytes/row)",
+                        nanosPerRow - baseline.nanosPerRow, bytesPerRow - baseline.bytesPerRow);
+            }
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Runs several DAO calls as one transaction on one connection.
+ *
+ *   Submission s = UnitOfWork.run("incident.submit", conn -> {
+ *       Perpetrator p = perpDAO.recordIncident(...);
+ *       incidentDAO.create(report);
+ *       ...
+ *   });
+ *
+ * While the callback runs, DatabaseConnection.getConnection() and
+ * getReadConnection() on the calling thread return the unit's connection, so
+ * existing DAO methods take part unchanged: they still open and close "their"
+ * connection in try-with-resources, but close() is a no-op and every
+ * statement runs in the same session and transaction. The unit commits once
+ * when the callback returns and rolls back when it throws, so a failure
+ * halfway leaves no partial rows behind.
+ *
+ * DAO methods that manage their own transaction are folded into the unit:
+ * their setAutoCommit() and commit() calls are ignored, and their rollback()
+ * marks the unit rollback-only so it cannot commit afterwards. abort() is
+ * treated the same way, and the unit's connection is then discarded instead
+ * of returned to the pool once the unit has ended. Session setters
+ * (setReadOnly, setTransactionIsolation, setCatalog, setSchema,
+ * setHoldability) are rejected: they would change the session for every
+ * other call in the unit. A unit started inside another one joins it.
+ *
+ * The connection is bound to the calling thread; the callback must not hand
+ * database work to other threads. Each run is recorded in QueryMetrics as a
+ * batched operation under its name, counting the statements it prepared.
+ */
+public final class UnitOfWork {
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Connection conn;
+    private final Connection participant;
+    private boolean rollbackOnly;
+    private boolean aborted;
+    private int statements;
+
+    private UnitOfWork(Connection conn) {
+        this.conn = conn;
+        this.participant = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new Participant());
+    }
+
+    /**
+     * Run the callback in a transaction, or inside the current one if the thread already has a unit
+     * @param name operation name for diagnostics, e.g. "incident.submit"
+     * @param work callback; DAO calls it makes on this thread join the transaction
+     * @return the callback's result, after commit
+     * @throws SQLException if the callback or the commit fails; the transaction is rolled back
+     */
+    public static <T> T run(String name, ConnectionCallback<T> work) throws SQLException {
+        UnitOfWork outer = CURRENT.get();
+        if (outer != null) {
+            return work.doInConnection(outer.participant);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        UnitOfWork unit = null;
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            unit = new UnitOfWork(conn);
+            conn.setAutoCommit(false);
+            CURRENT.set(unit);
+            try {
+                T result = work.doInConnection(unit.participant);
+                if (unit.rollbackOnly) {
+                    throw new SQLException("Unit of work " + name + " was rolled back by one of its statements");
+                }
+                conn.commit();
+                failed = false;
+                return result;
+            } catch (SQLException | RuntimeException | Error e) {
+                if (unit.aborted) {
+                    abortQuietly(conn, e);
+                } else {
+                    rollbackQuietly(conn, e);
+                }
+                throw e;
+            } finally {
+                CURRENT.remove();
+            }
+        } finally {
+            int statements = unit != null ? unit.statements : 0;
+            QueryMetrics.getInstance().recordBatch(name, statements, System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Whether the calling thread is inside a unit of work
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * The current unit's connection for a DAO call on this thread, or null outside a unit
+     */
+    static Connection currentConnection() {
+        UnitOfWork unit = CURRENT.get();
+        return unit != null ? unit.participant : null;
+    }
+
+    /**
+     * Drop the connection without rolling back; the server discards the open transaction
+     */
+    private static void abortQuietly(Connection conn, Throwable cause) {
+        try {
+            conn.abort(Runnable::run);
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, Throwable cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Connection view handed to DAO calls inside the unit; the unit owns the transaction
+     */
+    private class Participant implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "setAutoCommit":
+                case "commit":
+                    return null;
+                case "rollback":
+                    if (args == null) {
+                        rollbackOnly = true;
+                        return null;
+                    }
+                    break; // rollback to a savepoint stays inside the transaction
+                case "abort":
+                    // The caller cannot leave the connection clean; it is dropped when the unit ends
+                    rollbackOnly = true;
+                    aborted = true;
+                    return null;
+                case "setReadOnly":
+                case "setTransactionIsolation":
+                case "setCatalog":
+                case "setSchema":
+                case "setHoldability":
+                    throw new SQLException(method.getName() + " is not allowed inside a unit of work");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWork[" + conn + "]";
+                case "prepareStatement":
+                case "prepareCall":
+                case "createStatement":
+                    statements++;
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(conn, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}